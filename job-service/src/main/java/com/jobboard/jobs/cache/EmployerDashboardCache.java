@@ -0,0 +1,233 @@
+package com.jobboard.jobs.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jobboard.jobs.dto.EmployerDashboardDelta;
+import com.jobboard.jobs.dto.JobCacheInvalidationEvent;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobStatusCount;
+import com.jobboard.jobs.service.MessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Per-employer application counts by job and status, behind the employer
+ * dashboard. An entry is loaded with one grouped query and then kept
+ * current in place: applying, withdrawing and status changes add their
+ * delta once they commit, and send it to every other replica over the cache
+ * fanout exchange. A replica adds a received delta only to an entry it loaded
+ * well before the change began committing and drops any later one, which may
+ * already count it. New, edited or deactivated jobs evict the employer, since
+ * they change the job list itself.
+ */
+@Component
+@Slf4j
+public class EmployerDashboardCache {
+
+    private static final int STATUS_COUNT = ApplicationStatus.values().length;
+
+    private final Cache<Long, Dashboard> cache;
+    private final MessagePublisher messagePublisher;
+    private final JobCache jobCache;
+    private final long maxClockSkewMillis;
+    private final Clock clock = Clock.systemUTC();
+
+    // One job of the dashboard; counts are indexed by ApplicationStatus ordinal and never modified
+    public record JobCounts(Long jobId, String title, boolean active, LocalDateTime createdAt,
+                            LocalDateTime applicationDeadline, long[] counts) {
+    }
+
+    // Jobs are replaced one at a time under the cache entry's lock; loadedAt is System.nanoTime()
+    // once the query returned, loadedAtMillis the wall clock then
+    public record Dashboard(Map<Long, JobCounts> jobs, long loadedAt, long loadedAtMillis) {
+    }
+
+    public EmployerDashboardCache(MessagePublisher messagePublisher,
+                                  JobCache jobCache,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jobs.cache.employer-dashboard.maximum-size:10000}") long maximumSize,
+                                  @Value("${jobs.cache.employer-dashboard.expire-after-load-seconds:600}") long expireAfterLoadSeconds,
+                                  @Value("${jobs.cache.employer-dashboard.max-clock-skew-ms:1000}") long maxClockSkewMillis) {
+        this.messagePublisher = messagePublisher;
+        this.jobCache = jobCache;
+        this.maxClockSkewMillis = maxClockSkewMillis;
+        long ttl = Duration.ofSeconds(expireAfterLoadSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // Counted from the load: in-place updates must not keep an entry alive forever
+                .expireAfter(new Expiry<Long, Dashboard>() {
+                    @Override
+                    public long expireAfterCreate(Long employerId, Dashboard dashboard, long currentTime) {
+                        return ttl;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long employerId, Dashboard dashboard, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long employerId, Dashboard dashboard, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobs.employer-dashboard");
+    }
+
+    public Dashboard get(Long employerId, Function<Long, List<JobStatusCount>> loader) {
+        return cache.get(employerId, id -> toDashboard(loader.apply(id)));
+    }
+
+    public void evictLocal(Collection<Long> employerIds) {
+        cache.invalidateAll(employerIds);
+    }
+
+    // A change committed on another replica. Its clock may be off by up to the configured skew,
+    // so only an entry loaded more than that before the commit began is known to lack it
+    public void applyRemote(EmployerDashboardDelta delta) {
+        long[] counts = new long[STATUS_COUNT];
+        delta.getCounts().forEach((status, count) -> counts[status.ordinal()] += count);
+        apply(delta.getEmployerId(), delta.getJobId(), counts,
+                dashboard -> dashboard.loadedAtMillis() + maxClockSkewMillis < delta.getCommittingAt());
+    }
+
+    // An application of the employer's job moved from one status to another in the current
+    // transaction; from is null for a new application
+    public void recordChange(Long employerId, Long jobId, ApplicationStatus from, ApplicationStatus to) {
+        long[] delta = new long[STATUS_COUNT];
+        if (from != null) {
+            delta[from.ordinal()]--;
+        }
+        delta[to.ordinal()]++;
+        record(employerId, jobId, delta);
+    }
+
+    // Several applications of the job moved to the same status
+    public void recordChanges(Long employerId, Long jobId, Collection<ApplicationStatus> from, ApplicationStatus to) {
+        long[] delta = new long[STATUS_COUNT];
+        for (ApplicationStatus status : from) {
+            delta[status.ordinal()]--;
+        }
+        delta[to.ordinal()] += from.size();
+        record(employerId, jobId, delta);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evictLocal(List.of(event.getJob().getPostedByUserId()));
+    }
+
+    // Replicated batches evict too, which covers jobs written on other replicas
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        evictLocal(event.getJobs().stream().map(Job::getPostedByUserId).collect(Collectors.toSet()));
+    }
+
+    private void record(Long employerId, Long jobId, long[] delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private long committing;
+                private long committingAt;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    committing = System.nanoTime();
+                    committingAt = clock.millis();
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(employerId, jobId, delta, dashboard -> dashboard.loadedAt() - committing < 0);
+                    publishDelta(employerId, jobId, delta, committingAt);
+                }
+            });
+        } else {
+            // Committed at some unknown point, so no entry can be trusted to lack the change
+            evictLocal(List.of(employerId));
+            publishEviction(employerId);
+        }
+    }
+
+    // Only an entry loaded before the commit began is known not to contain the change yet;
+    // one loaded while it committed may or may not, so it's dropped
+    private void apply(Long employerId, Long jobId, long[] delta, Predicate<Dashboard> loadedBeforeCommit) {
+        cache.asMap().computeIfPresent(employerId, (id, dashboard) -> {
+            JobCounts job = dashboard.jobs().get(jobId);
+            if (job == null || !loadedBeforeCommit.test(dashboard)) {
+                return null;
+            }
+
+            long[] counts = job.counts().clone();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += delta[i];
+            }
+            dashboard.jobs().put(jobId, new JobCounts(job.jobId(), job.title(), job.active(), job.createdAt(),
+                    job.applicationDeadline(), counts));
+            return dashboard;
+        });
+    }
+
+    private void publishDelta(Long employerId, Long jobId, long[] delta, long committingAt) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            if (delta[status.ordinal()] != 0) {
+                counts.put(status, delta[status.ordinal()]);
+            }
+        }
+        messagePublisher.publishJobCacheInvalidationEvent(JobCacheInvalidationEvent.builder()
+                .jobIds(List.of())
+                .dashboardDeltas(List.of(EmployerDashboardDelta.builder()
+                        .employerId(employerId)
+                        .jobId(jobId)
+                        .counts(counts)
+                        .committingAt(committingAt)
+                        .build()))
+                .origin(jobCache.getInstanceId())
+                .build());
+    }
+
+    private void publishEviction(Long employerId) {
+        messagePublisher.publishJobCacheInvalidationEvent(JobCacheInvalidationEvent.builder()
+                .jobIds(List.of())
+                .employerIds(List.of(employerId))
+                .origin(jobCache.getInstanceId())
+                .build());
+    }
+
+    private Dashboard toDashboard(List<JobStatusCount> rows) {
+        Map<Long, JobCounts> jobs = new ConcurrentHashMap<>();
+        for (JobStatusCount row : rows) {
+            JobCounts job = jobs.computeIfAbsent(row.getJobId(), jobId -> new JobCounts(jobId, row.getTitle(),
+                    row.isActive(), row.getCreatedAt(), row.getApplicationDeadline(), new long[STATUS_COUNT]));
+            if (row.getStatus() != null) {
+                job.counts()[row.getStatus().ordinal()] = row.getCount();
+            }
+        }
+        return new Dashboard(jobs, System.nanoTime(), clock.millis());
+    }
+}
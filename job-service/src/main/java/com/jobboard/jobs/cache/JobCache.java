@@ -0,0 +1,98 @@
+package com.jobboard.jobs.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobboard.jobs.dto.JobCacheInvalidationEvent;
+import com.jobboard.jobs.dto.JobResponse;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.service.MessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of job detail responses. Local writes evict the entry and
+ * broadcast an invalidation on the cache fanout exchange so every other
+ * replica drops it too.
+ */
+@Component
+@Slf4j
+public class JobCache {
+
+    private final Cache<Long, JobResponse> cache;
+    private final MessagePublisher messagePublisher;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public JobCache(MessagePublisher messagePublisher,
+                    MeterRegistry meterRegistry,
+                    @Value("${jobs.cache.job-detail.maximum-size:10000}") long maximumSize,
+                    @Value("${jobs.cache.job-detail.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.messagePublisher = messagePublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size under name=jobs.detail
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobs.detail");
+    }
+
+    public JobResponse get(Long jobId, Function<Long, JobResponse> loader) {
+        return cache.get(jobId, loader);
+    }
+
+    public JobResponse getIfPresent(Long jobId) {
+        return cache.getIfPresent(jobId);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    // Drop entries on this replica only (e.g. a not-yet-flushed application count changed)
+    public void evictLocal(Collection<Long> jobIds) {
+        cache.invalidateAll(jobIds);
+    }
+
+    // Drop entries here and on every other replica
+    public void invalidate(Collection<Long> jobIds, boolean contentChanged) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+
+        evictLocal(jobIds);
+        messagePublisher.publishJobCacheInvalidationEvent(JobCacheInvalidationEvent.builder()
+                .jobIds(List.copyOf(jobIds))
+                .origin(instanceId)
+                .contentChanged(contentChanged)
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        invalidate(List.of(event.getJob().getId()), true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        List<Long> jobIds = event.getJobs().stream().map(Job::getId).toList();
+        if (event.isReplicated()) {
+            // Already evicted by the invalidation listener; don't echo it back
+            evictLocal(jobIds);
+        } else {
+            invalidate(jobIds, true);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobboard.jobs.cache;
+
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.readmodel.JobReadModel;
+import com.jobboard.jobs.search.JobSearchIndex;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation of everything the public job endpoints can return on this
+ * replica, for ETags that are checked before any of it is read. It moves
+ * once a change is visible: after the commit's other listeners have updated
+ * the in-memory indexes, with every snapshot the read model publishes and
+ * with every search index refresh.
+ * The value starts from a random epoch, so a tag issued by another replica
+ * or an earlier process never matches.
+ */
+@Component
+public class ListingGeneration {
+
+    private final JobReadModel jobReadModel;
+    private final JobSearchIndex jobSearchIndex;
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong changes = new AtomicLong();
+
+    public ListingGeneration(JobReadModel jobReadModel, JobSearchIndex jobSearchIndex) {
+        this.jobReadModel = jobReadModel;
+        this.jobSearchIndex = jobSearchIndex;
+    }
+
+    public String current() {
+        return epoch + "." + Long.toHexString(changes.get()) + "." + Long.toHexString(jobReadModel.version())
+                + "." + Long.toHexString(jobSearchIndex.version());
+    }
+
+    // For changes applied outside a transaction, once every listener has run
+    public void advance() {
+        changes.incrementAndGet();
+    }
+
+    // AFTER_COMPLETION runs once every AFTER_COMMIT listener of the transaction has applied the change
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onApplicationCountsChanged(ApplicationCountsChangedEvent event) {
+        advance();
+    }
+}
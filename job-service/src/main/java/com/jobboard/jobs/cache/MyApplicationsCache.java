@@ -0,0 +1,126 @@
+package com.jobboard.jobs.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobboard.jobs.dto.JobApplicationResponse;
+import com.jobboard.jobs.dto.JobCacheInvalidationEvent;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.service.MessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache of the "my applications" view, both the full list and the
+ * first few pages of the paged view. Applying, withdrawing or a
+ * status change evicts the applicant here and, over the cache fanout
+ * exchange, on every other replica. Job title or company edits are not
+ * tracked per applicant and show up once the entry expires.
+ */
+@Component
+@Slf4j
+public class MyApplicationsCache {
+
+    // Later pages are rarely revisited; they are loaded but not kept
+    private static final int CACHED_PAGES = 5;
+    private static final int MAX_PAGES_PER_USER = 32;
+
+    public record PageKey(Set<ApplicationStatus> statuses, int page, int size) {
+    }
+
+    private final Cache<Long, List<JobApplicationResponse>> cache;
+    // userId -> that user's cached pages, so evicting a user drops all of them at once
+    private final Cache<Long, Map<PageKey, Page<JobApplicationResponse>>> pages;
+    private final MessagePublisher messagePublisher;
+    private final JobCache jobCache;
+
+    public MyApplicationsCache(MessagePublisher messagePublisher,
+                               JobCache jobCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${jobs.cache.my-applications.maximum-size:10000}") long maximumSize,
+                               @Value("${jobs.cache.my-applications.expire-after-write-seconds:120}") long expireAfterWriteSeconds) {
+        this.messagePublisher = messagePublisher;
+        this.jobCache = jobCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobs.my-applications");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "jobs.my-applications.pages");
+    }
+
+    public List<JobApplicationResponse> get(Long userId, Function<Long, List<JobApplicationResponse>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public Page<JobApplicationResponse> getPage(Long userId, PageKey key, Supplier<Page<JobApplicationResponse>> loader) {
+        if (key.page() >= CACHED_PAGES) {
+            return loader.get();
+        }
+
+        Map<PageKey, Page<JobApplicationResponse>> userPages = pages.get(userId, id -> new ConcurrentHashMap<>());
+        Page<JobApplicationResponse> page = userPages.get(key);
+        if (page == null) {
+            page = loader.get();
+            if (userPages.size() < MAX_PAGES_PER_USER) {
+                userPages.put(key, page);
+            }
+        }
+        return page;
+    }
+
+    public void evictLocal(Collection<Long> userIds) {
+        cache.invalidateAll(userIds);
+        pages.invalidateAll(userIds);
+    }
+
+    // Evict here and on every other replica once the surrounding transaction commits,
+    // so a concurrent read can't re-cache the pre-commit view
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> applicantIds = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(applicantIds);
+                }
+            });
+        } else {
+            broadcast(applicantIds);
+        }
+    }
+
+    private void broadcast(List<Long> applicantIds) {
+        evictLocal(applicantIds);
+        messagePublisher.publishJobCacheInvalidationEvent(JobCacheInvalidationEvent.builder()
+                .jobIds(List.of())
+                .applicantIds(applicantIds)
+                .origin(jobCache.getInstanceId())
+                .build());
+    }
+}
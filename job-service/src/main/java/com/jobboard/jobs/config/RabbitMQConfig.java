@@ -1,5 +1,10 @@
 package com.jobboard.jobs.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -13,11 +18,33 @@ public class RabbitMQConfig {
     // Exchange name
     public static final String JOB_BOARD_EXCHANGE = "job.board.exchange";
 
+    // Fanout exchange every job-service replica listens on to evict cached jobs
+    public static final String JOB_CACHE_EXCHANGE = "job.board.cache.exchange";
+
     // Routing keys
     public static final String JOB_POSTED_ROUTING_KEY = "job.posted";
+    public static final String JOB_BATCH_POSTED_ROUTING_KEY = "job.batch.posted";
     public static final String APPLICATION_SUBMITTED_ROUTING_KEY = "application.submitted";
     public static final String APPLICATION_STATUS_CHANGED_ROUTING_KEY = "application.status.changed";
 
+    @Bean
+    public FanoutExchange jobCacheExchange() {
+        return new FanoutExchange(JOB_CACHE_EXCHANGE);
+    }
+
+    // Exclusive, auto-delete queue per replica so each one receives every invalidation
+    @Bean
+    public Queue jobCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding jobCacheInvalidationBinding() {
+        return BindingBuilder
+                .bind(jobCacheInvalidationQueue())
+                .to(jobCacheExchange());
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -0,0 +1,103 @@
+package com.jobboard.jobs.controller;
+
+import com.jobboard.jobs.cache.ListingGeneration;
+import com.jobboard.jobs.dto.JobResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * ETag / If-None-Match handling for public GET endpoints. ETags are built
+ * from the normalized query and this replica's ListingGeneration, so a
+ * revalidation is answered with 304 before the service runs at all. A tag
+ * only matches on the replica that issued it; elsewhere the client just
+ * gets the full response and a new tag.
+ */
+@Component
+public class ConditionalGet {
+
+    private final ListingGeneration listingGeneration;
+    private final CacheControl listingCacheControl;
+    // Detail may be stored but is revalidated on every view, so views reach the trackers even through a CDN
+    private final CacheControl detailCacheControl = CacheControl.noCache().cachePublic();
+
+    public ConditionalGet(ListingGeneration listingGeneration,
+                          @Value("${jobs.http-cache.max-age-seconds:30}") long maxAgeSeconds) {
+        this.listingGeneration = listingGeneration;
+        this.listingCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    // Listings: per query, moving with any job or application count change on this replica
+    public <T> ResponseEntity<T> listing(WebRequest request, Supplier<T> body) {
+        String etag = "l-" + DigestUtils.md5DigestAsHex(normalizedQuery(request).getBytes(StandardCharsets.UTF_8))
+                + "-" + listingGeneration.current();
+        return respond(request, etag, listingCacheControl, body);
+    }
+
+    // Job detail: revalidated runs instead of body when the client's copy is current
+    public ResponseEntity<JobResponse> detail(WebRequest request, Long jobId, Runnable revalidated,
+                                              Supplier<JobResponse> body) {
+        String etag = "j-" + jobId + "-" + listingGeneration.current();
+        ResponseEntity<JobResponse> response = respond(request, etag, detailCacheControl, body);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            revalidated.run();
+        }
+        return response;
+    }
+
+    // The generation is read before the body, so a change landing in between moves it past this tag
+    private <T> ResponseEntity<T> respond(WebRequest request, String etag, CacheControl cacheControl, Supplier<T> body) {
+        String quoted = "\"" + etag + "\"";
+        if (matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), quoted)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(quoted).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(quoted).cacheControl(cacheControl).body(body.get());
+    }
+
+    // Path plus parameters sorted by name and value, so parameter order doesn't split the tags
+    private static String normalizedQuery(WebRequest request) {
+        StringBuilder query = new StringBuilder(request.getDescription(false));
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> {
+            String[] sorted = values.clone();
+            Arrays.sort(sorted);
+            query.append('\0').append(name);
+            for (String value : sorted) {
+                query.append('\1').append(value);
+            }
+        });
+        return query.toString();
+    }
+
+    // If-None-Match uses weak comparison, so a W/ prefix added by a proxy still matches
+    private static boolean matches(String[] ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String header : ifNoneMatch) {
+            for (String tag : header.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobboard.jobs.controller;
+
+import com.jobboard.jobs.dto.DuplicateScanResponse;
+import com.jobboard.jobs.dto.IndexRebuildResponse;
+import com.jobboard.jobs.dto.ReadModelStatus;
+import com.jobboard.jobs.service.JobAdminService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class JobAdminController {
+
+    private final JobAdminService jobAdminService;
+
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<IndexRebuildResponse> rebuildSearchIndex(
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Rebuild search index request");
+        IndexRebuildResponse response = jobAdminService.rebuildSearchIndex(authToken);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/read-model/rebuild")
+    public ResponseEntity<IndexRebuildResponse> rebuildReadModel(
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Rebuild read model request");
+        IndexRebuildResponse response = jobAdminService.rebuildReadModel(authToken);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/similar-jobs/backfill")
+    public ResponseEntity<IndexRebuildResponse> backfillSimilarJobs(
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Backfill similar jobs signatures request");
+        IndexRebuildResponse response = jobAdminService.backfillSimilarJobs(authToken);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/duplicates")
+    public ResponseEntity<DuplicateScanResponse> scanDuplicates(
+            @RequestHeader("Authorization") String authToken,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("Duplicate jobs scan request");
+        DuplicateScanResponse response = jobAdminService.scanDuplicates(authToken, offset, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/read-model")
+    public ResponseEntity<ReadModelStatus> getReadModelStatus(
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Read model status request");
+        ReadModelStatus response = jobAdminService.getReadModelStatus(authToken);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,17 +1,22 @@
 package com.jobboard.jobs.controller;
 
+import com.jobboard.jobs.dto.BulkApplicationStatusRequest;
+import com.jobboard.jobs.dto.BulkApplicationStatusResponse;
 import com.jobboard.jobs.dto.JobApplicationRequest;
 import com.jobboard.jobs.dto.JobApplicationResponse;
 import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.service.IdempotencyStore;
 import com.jobboard.jobs.service.JobApplicationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -20,15 +25,19 @@ import java.util.List;
 public class JobApplicationController {
 
     private final JobApplicationService jobApplicationService;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping("/{jobId}/apply")
     public ResponseEntity<JobApplicationResponse> applyForJob(
             @PathVariable Long jobId,
             @Valid @RequestBody JobApplicationRequest request,
-            @RequestHeader("Authorization") String authToken) {
+            @RequestHeader("Authorization") String authToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
         log.info("Apply for job request - Job ID: {}", jobId);
-        JobApplicationResponse response = jobApplicationService.applyForJob(jobId, request, authToken);
+        JobApplicationResponse response = idempotencyStore.execute("apply-for-job", authToken, idempotencyKey,
+                List.of(jobId, request), JobApplicationResponse.class,
+                currentUser -> jobApplicationService.applyForJob(jobId, request, currentUser));
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -51,6 +60,20 @@ public class JobApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    // Newest first, optionally filtered by ?status= (repeatable); size is capped at 100
+    @GetMapping("/applications/my-applications/page")
+    public ResponseEntity<Page<JobApplicationResponse>> getMyApplicationsPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Set<ApplicationStatus> status,
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Get my applications page request - page: {}, size: {}, status: {}", page, size, status);
+        Page<JobApplicationResponse> applications = jobApplicationService.getMyApplications(
+                status, page, size, authToken);
+        return ResponseEntity.ok(applications);
+    }
+
     @PatchMapping("/applications/{applicationId}/status")
     public ResponseEntity<JobApplicationResponse> updateApplicationStatus(
             @PathVariable Long applicationId,
@@ -63,6 +86,18 @@ public class JobApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{jobId}/applications/status")
+    public ResponseEntity<BulkApplicationStatusResponse> updateApplicationStatuses(
+            @PathVariable Long jobId,
+            @Valid @RequestBody BulkApplicationStatusRequest request,
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Bulk update application status request - Job ID: {}, Status: {}", jobId, request.getStatus());
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(
+                jobId, request, authToken);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{jobId}/applications/withdraw")
     public ResponseEntity<String> withdrawApplication(
             @PathVariable Long jobId,
@@ -1,55 +1,125 @@
 package com.jobboard.jobs.controller;
 
+import com.jobboard.jobs.dto.BulkImportResponse;
+import com.jobboard.jobs.dto.EmployerDashboardResponse;
+import com.jobboard.jobs.dto.JobAnalyticsResponse;
+import com.jobboard.jobs.dto.JobFacetResponse;
+import com.jobboard.jobs.dto.JobQueryRequest;
+import com.jobboard.jobs.dto.JobQueryResponse;
 import com.jobboard.jobs.dto.JobRequest;
 import com.jobboard.jobs.dto.JobResponse;
+import com.jobboard.jobs.dto.JobSuggestion;
+import com.jobboard.jobs.dto.SimilarJob;
+import com.jobboard.jobs.dto.TrendingJob;
+import com.jobboard.jobs.dto.JobSummaryResponse;
+import com.jobboard.jobs.dto.SkillMatchResponse;
+import com.jobboard.jobs.enums.ExperienceLevel;
 import com.jobboard.jobs.enums.JobCategory;
 import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.service.IdempotencyStore;
+import com.jobboard.jobs.service.JobImportService;
 import com.jobboard.jobs.service.JobService;
+import com.jobboard.jobs.service.JobViewTracker;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/jobs")
-@RequiredArgsConstructor
 @Slf4j
 public class JobController {
 
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    private final ConditionalGet conditionalGet;
+    private final IdempotencyStore idempotencyStore;
+    private final long exportTimeoutMillis;
+
+    public JobController(JobService jobService,
+                         JobImportService jobImportService,
+                         ConditionalGet conditionalGet,
+                         IdempotencyStore idempotencyStore,
+                         @Value("${jobs.export.timeout-minutes:30}") long exportTimeoutMinutes) {
+        this.jobService = jobService;
+        this.jobImportService = jobImportService;
+        this.conditionalGet = conditionalGet;
+        this.idempotencyStore = idempotencyStore;
+        this.exportTimeoutMillis = exportTimeoutMinutes * 60_000;
+    }
 
     @PostMapping
     public ResponseEntity<JobResponse> createJob(
             @Valid @RequestBody JobRequest request,
-            @RequestHeader("Authorization") String authToken) {
+            @RequestHeader("Authorization") String authToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
         log.info("Create job request received");
-        JobResponse response = jobService.createJob(request, authToken);
+        JobResponse response = idempotencyStore.execute("create-job", authToken, idempotencyKey, request,
+                JobResponse.class, currentUser -> jobService.createJob(request, currentUser));
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    // text/csv with a header row of JobRequest field names, or application/x-ndjson with one JobRequest per line
+    @PostMapping(value = "/bulk", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResponse> importJobs(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Bulk import request received");
+        BulkImportResponse response = jobImportService.importJobs(body, contentType, authToken);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable Long jobId) {
+    public ResponseEntity<JobResponse> getJobById(
+            @PathVariable Long jobId,
+            @RequestHeader(value = "Authorization", required = false) String authToken,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
         log.info("Get job by ID request: {}", jobId);
-        JobResponse response = jobService.getJobById(jobId);
-        return ResponseEntity.ok(response);
+        // The remote address is the client's when the request came through a trusted proxy, see server.forward-headers-strategy
+        String viewerKey = JobViewTracker.viewerKey(authToken, request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+        return conditionalGet.detail(webRequest, jobId, () -> jobService.recordView(jobId, viewerKey),
+                () -> jobService.getJobById(jobId, viewerKey));
     }
 
+    // Pass ?cursor= (empty for the first page) to switch to keyset pagination
     @GetMapping
-    public ResponseEntity<Page<JobResponse>> getAllJobs(
+    public ResponseEntity<?> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+
+        if (cursor != null) {
+            log.info("Get all jobs request - cursor mode, size: {}", size);
+            return conditionalGet.listing(webRequest, () -> jobService.getAllActiveJobs(cursor, size));
+        }
 
         log.info("Get all jobs request - page: {}, size: {}", page, size);
 
@@ -57,65 +127,181 @@ public class JobController {
                 Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<JobResponse> jobs = jobService.getAllActiveJobs(pageable);
-
-        return ResponseEntity.ok(jobs);
+        return conditionalGet.listing(webRequest, () -> jobService.getAllActiveJobs(pageable));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<JobResponse>> searchJobs(
+    public ResponseEntity<?> searchJobs(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
 
         log.info("Search jobs request with keyword: {}", keyword);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<JobResponse> jobs = jobService.searchJobs(keyword, pageable);
-        return ResponseEntity.ok(jobs);
+        if (cursor != null) {
+            return conditionalGet.listing(webRequest, () -> jobService.searchJobs(keyword, cursor, size));
+        }
+
+        // Results are ranked by relevance, not by a sort column
+        Pageable pageable = PageRequest.of(page, size);
+        return conditionalGet.listing(webRequest, () -> jobService.searchJobs(keyword, pageable));
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<JobResponse>> getJobsByCategory(
+    public ResponseEntity<?> getJobsByCategory(
             @PathVariable JobCategory category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
 
         log.info("Get jobs by category: {}", category);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<JobResponse> jobs = jobService.getJobsByCategory(category, pageable);
+        if (cursor != null) {
+            return conditionalGet.listing(webRequest, () -> jobService.getJobsByCategory(category, cursor, size));
+        }
 
-        return ResponseEntity.ok(jobs);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        return conditionalGet.listing(webRequest, () -> jobService.getJobsByCategory(category, pageable));
     }
 
     @GetMapping("/type/{jobType}")
-    public ResponseEntity<Page<JobResponse>> getJobsByType(
+    public ResponseEntity<?> getJobsByType(
             @PathVariable JobType jobType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
 
         log.info("Get jobs by type: {}", jobType);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<JobResponse> jobs = jobService.getJobsByType(jobType, pageable);
+        if (cursor != null) {
+            return conditionalGet.listing(webRequest, () -> jobService.getJobsByType(jobType, cursor, size));
+        }
 
-        return ResponseEntity.ok(jobs);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        return conditionalGet.listing(webRequest, () -> jobService.getJobsByType(jobType, pageable));
     }
 
     @GetMapping("/salary-range")
-    public ResponseEntity<Page<JobResponse>> getJobsBySalaryRange(
+    public ResponseEntity<Page<JobSummaryResponse>> getJobsBySalaryRange(
             @RequestParam BigDecimal minSalary,
             @RequestParam BigDecimal maxSalary,
+            @RequestParam(defaultValue = "WITHIN") SalaryMatchMode mode,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Get jobs by salary range: {} - {}", minSalary, maxSalary);
+        log.info("Get jobs by salary range: {} - {} ({})", minSalary, maxSalary, mode);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("salaryMin").ascending());
-        Page<JobResponse> jobs = jobService.getJobsBySalaryRange(minSalary, maxSalary, pageable);
+        return conditionalGet.listing(webRequest,
+                () -> jobService.getJobsBySalaryRange(minSalary, maxSalary, mode, pageable));
+    }
 
-        return ResponseEntity.ok(jobs);
+    // Repeat a parameter to OR values within a facet, e.g. ?category=HR&category=SALES&jobType=CONTRACT
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetResponse> getFacetedJobs(
+            @RequestParam(required = false) Set<JobCategory> category,
+            @RequestParam(required = false) Set<JobType> jobType,
+            @RequestParam(required = false) Set<ExperienceLevel> experienceLevel,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        log.info("Get faceted jobs request");
+
+        return conditionalGet.listing(webRequest, () -> jobService.getFacetedJobs(
+                category, jobType, experienceLevel, PageRequest.of(page, size)));
+    }
+
+    // Combines keyword, facet, salary, location and posted-since filters; the response reports the chosen plan
+    @GetMapping("/query")
+    public ResponseEntity<JobQueryResponse> queryJobs(
+            @ModelAttribute JobQueryRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("Query jobs request");
+
+        JobQueryResponse response = jobService.queryJobs(request, PageRequest.of(page, size));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{jobId}/similar")
+    public ResponseEntity<List<SimilarJob>> getSimilarJobs(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("Get similar jobs request for ID: {}", jobId);
+
+        return ResponseEntity.ok(jobService.getSimilarJobs(jobId, size));
+    }
+
+    // Unique viewers, views and applications of the caller's own job, per UTC day over the last days
+    @GetMapping("/{jobId}/analytics")
+    public ResponseEntity<JobAnalyticsResponse> getJobAnalytics(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Get job analytics request for ID: {}", jobId);
+
+        return ResponseEntity.ok(jobService.getJobAnalytics(jobId, days, authToken));
+    }
+
+    // Ranked by recent detail views and applications, decayed over jobs.trending.half-life-minutes
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingJob>> getTrendingJobs(
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Get trending jobs request");
+
+        return ResponseEntity.ok(jobService.getTrendingJobs(size));
+    }
+
+    // Typeahead over active job titles, companies and locations, most popular first
+    @GetMapping("/suggest")
+    public ResponseEntity<List<JobSuggestion>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("Suggest request for prefix: {}", prefix);
+
+        return ResponseEntity.ok(jobService.suggest(prefix, size));
+    }
+
+    // Ranks active jobs by skill overlap (Jaccard); aliases such as "js" or "k8s" are resolved
+    @GetMapping("/match")
+    public ResponseEntity<SkillMatchResponse> matchJobsBySkills(
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("Match jobs by skills request: {}", skills);
+
+        SkillMatchResponse response = jobService.matchJobsBySkills(skills, PageRequest.of(page, size));
+        return ResponseEntity.ok(response);
+    }
+
+    // Streams jobs as NDJSON, one JobResponse per line; with updatedSince only jobs changed since then
+    // (including deactivated ones) are sent, for incremental syncs
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            WebRequest webRequest) {
+
+        log.info("Export jobs request, updated since: {}", updatedSince);
+
+        // A full export outlives the default async timeout; raise it for this request only
+        WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest().setTimeout(exportTimeoutMillis);
+
+        StreamingResponseBody body = out -> jobService.exportJobs(updatedSince, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/my-jobs")
@@ -127,6 +313,15 @@ public class JobController {
         return ResponseEntity.ok(jobs);
     }
 
+    // Application counts by status for every job of the employer
+    @GetMapping("/my-jobs/dashboard")
+    public ResponseEntity<EmployerDashboardResponse> getEmployerDashboard(
+            @RequestHeader("Authorization") String authToken) {
+
+        log.info("Get employer dashboard request");
+        return ResponseEntity.ok(jobService.getEmployerDashboard(authToken));
+    }
+
     @PutMapping("/{jobId}")
     public ResponseEntity<JobResponse> updateJob(
             @PathVariable Long jobId,
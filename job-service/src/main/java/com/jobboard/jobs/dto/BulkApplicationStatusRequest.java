@@ -0,0 +1,27 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApplicationStatusRequest {
+
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+
+    // Select by ID, by current status, or both (both must match), e.g. currentStatus [PENDING, REVIEWED]
+    // with status REJECTED to reject all remaining applicants
+    private List<Long> applicationIds;
+
+    private Set<ApplicationStatus> currentStatus;
+}
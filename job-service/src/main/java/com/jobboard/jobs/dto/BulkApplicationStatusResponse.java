@@ -0,0 +1,20 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApplicationStatusResponse {
+    private Long jobId;
+    private ApplicationStatus status;
+    private int updated;
+    private List<Long> applicationIds;
+}
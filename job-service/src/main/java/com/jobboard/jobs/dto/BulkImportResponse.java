@@ -0,0 +1,21 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResponse {
+    private long received;
+    private long created;
+    private long rejected;
+    private long duplicates;
+    private long tookMillis;
+    private List<BulkImportRowResult> rows;
+}
@@ -0,0 +1,21 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportRowResult {
+    private long row;             // 1-based data row (CSV header not counted)
+    private ImportRowStatus status;
+    private Long jobId;           // Set when CREATED, or the existing job when DUPLICATE
+    private Long duplicateOfJobId;  // Set when the created job was flagged as a near-duplicate
+    private List<String> errors;  // Set when REJECTED
+}
@@ -0,0 +1,20 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyJobAnalytics {
+    private LocalDate day;  // UTC
+    private long uniqueViewers;
+    private long views;
+    private long applications;
+    private double conversionRate;
+}
@@ -0,0 +1,18 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DuplicateCluster {
+    private Long originalJobId;  // Oldest posting in the cluster
+    private String title;
+    private List<Long> duplicateJobIds;
+}
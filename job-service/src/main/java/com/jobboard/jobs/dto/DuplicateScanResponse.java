@@ -0,0 +1,23 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.DuplicatePolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DuplicateScanResponse {
+    private DuplicatePolicy policy;
+    private long jobsScanned;
+    private long totalClusters;
+    private List<DuplicateCluster> clusters;  // Clusters by original job ID, from the offset up to the limit
+    private LocalDateTime scannedAt;  // When the background scan finished; null before the first one
+    private long tookMillis;
+}
@@ -0,0 +1,21 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployerDashboardDelta implements Serializable {
+    private Long employerId;
+    private Long jobId;
+    private Map<ApplicationStatus, Long> counts;  // Change in the job's applications per status
+    private long committingAt;                    // Epoch millis on the publishing replica when the commit began
+}
@@ -0,0 +1,23 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployerDashboardResponse {
+    private Long employerId;
+    private int totalJobs;
+    private int activeJobs;
+    private long totalApplications;                      // Excluding withdrawn
+    private Map<ApplicationStatus, Long> statusCounts;   // Summed over all jobs
+    private List<JobDashboardEntry> jobs;                // Newest first
+}
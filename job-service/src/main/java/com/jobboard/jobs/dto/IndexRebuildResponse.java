@@ -0,0 +1,16 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IndexRebuildResponse {
+    private String index;
+    private long documents;
+    private long tookMillis;
+}
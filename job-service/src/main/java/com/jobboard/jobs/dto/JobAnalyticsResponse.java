@@ -0,0 +1,22 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobAnalyticsResponse {
+    private Long jobId;
+    private long uniqueViewers;          // All-time, estimated (about 1.6% error)
+    private long views;
+    private long applications;
+    private double conversionRate;       // applications / uniqueViewers
+    private long periodUniqueViewers;    // Across the days below, not their sum
+    private List<DailyJobAnalytics> daily;
+}
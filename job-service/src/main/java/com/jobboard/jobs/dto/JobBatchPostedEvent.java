@@ -0,0 +1,22 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+// One message per bulk-import batch; subscribers get a digest instead of one email per job
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobBatchPostedEvent implements Serializable {
+    private String postedByUsername;
+    private String postedByEmail;
+    private List<JobPostedEvent> jobs;                        // jobSeekerEmails left empty
+    private Map<String, List<String>> subscribersByCategory;  // category -> job seeker emails
+}
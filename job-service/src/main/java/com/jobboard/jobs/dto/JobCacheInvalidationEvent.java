@@ -0,0 +1,22 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobCacheInvalidationEvent implements Serializable {
+    private List<Long> jobIds;
+    private List<Long> applicantIds; // Users whose cached "my applications" view is stale
+    private List<Long> employerIds;  // Employers whose cached dashboard is stale
+    private List<EmployerDashboardDelta> dashboardDeltas;  // Committed count changes to patch into dashboards
+    private String origin;           // Instance that published the event
+    private boolean contentChanged;  // False when only application counts moved
+}
@@ -0,0 +1,54 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.repository.JobSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for newest-first listings: the (createdAt, id)
+ * of the last job on the previous page.
+ */
+@Data
+@AllArgsConstructor
+public class JobCursor {
+
+    private static final String PREFIX = "j";
+
+    // Sorts after every real job, so the first page needs no special query
+    private static final JobCursor START = new JobCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static JobCursor after(JobSummary job) {
+        return new JobCursor(job.getCreatedAt(), job.getId());
+    }
+
+    public String encode() {
+        String raw = PREFIX + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A blank token means "start from the newest job"
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !PREFIX.equals(parts[0])) {
+                throw new InvalidJobDataException("Invalid cursor");
+            }
+            return new JobCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidJobDataException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobDashboardEntry {
+    private Long jobId;
+    private String title;
+    private boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime applicationDeadline;
+    private long totalApplications;                      // Excluding withdrawn
+    private Map<ApplicationStatus, Long> statusCounts;   // Every status, zero included
+}
@@ -0,0 +1,21 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFacetResponse {
+    private List<JobSummaryResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Map<String, Long>> facets;  // facet -> value -> matching active jobs
+}
@@ -0,0 +1,35 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Query parameters for /api/jobs/query; every criterion is optional
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobQueryRequest {
+
+    private String keyword;
+    private Set<JobCategory> category;
+    private Set<JobType> jobType;
+    private Set<ExperienceLevel> experienceLevel;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private SalaryMatchMode salaryMode;
+    private String location;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime postedSince;
+}
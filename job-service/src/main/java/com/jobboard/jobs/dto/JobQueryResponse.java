@@ -0,0 +1,20 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobQueryResponse {
+    private List<JobSummaryResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private QueryPlan plan;
+}
@@ -35,4 +35,5 @@ public class JobResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private long applicationCount;  // Number of applications
+    private Long duplicateOfJobId;  // Set when flagged as a near-duplicate of another posting
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobSuggestion {
+    private String text;
+    private SuggestionType type;
+    private long weight;  // Active jobs using this text plus their applications
+}
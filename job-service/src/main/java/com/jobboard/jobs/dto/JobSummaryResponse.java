@@ -0,0 +1,35 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Listing card; the full description and skills come from GET /api/jobs/{jobId}
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String companyName;
+    private String location;
+    private JobType jobType;
+    private JobCategory category;
+    private ExperienceLevel experienceLevel;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private Long postedByUserId;
+    private String postedByUsername;
+    private LocalDateTime applicationDeadline;
+    private LocalDateTime createdAt;
+    private long applicationCount;  // Number of applications
+}
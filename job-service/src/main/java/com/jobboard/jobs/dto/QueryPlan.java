@@ -0,0 +1,31 @@
+package com.jobboard.jobs.dto;
+
+import com.jobboard.jobs.enums.QueryAccessPath;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueryPlan {
+
+    private QueryAccessPath accessPath;                 // Driving access path chosen by the planner
+    private Map<QueryAccessPath, Long> estimatedRows;   // Candidate rows per applicable path
+    private List<Step> steps;
+    private long tookMicros;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Step {
+        private String operation;
+        private long rows;   // Rows remaining after this step
+        private long micros;
+    }
+}
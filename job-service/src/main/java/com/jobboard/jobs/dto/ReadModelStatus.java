@@ -0,0 +1,18 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadModelStatus {
+    private boolean ready;
+    private long jobs;
+    private long activeJobs;
+    private long pendingChanges;
+    private long lagMillis;
+}
@@ -0,0 +1,15 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarJob {
+    private JobSummaryResponse job;
+    private double similarity;  // Estimated Jaccard similarity of the two jobs' text
+}
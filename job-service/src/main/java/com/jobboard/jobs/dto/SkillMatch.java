@@ -0,0 +1,19 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SkillMatch {
+    private JobSummaryResponse job;
+    private double score;             // Jaccard similarity of the job's and the candidate's skills
+    private int matchedCount;
+    private List<String> matchedSkills;
+}
@@ -0,0 +1,21 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SkillMatchResponse {
+    private List<SkillMatch> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private List<String> skills;         // Canonical names the candidate was matched on
+    private List<String> unknownSkills;  // Not required by any job, ignored
+}
@@ -0,0 +1,15 @@
+package com.jobboard.jobs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingJob {
+    private JobSummaryResponse job;
+    private double score;  // Recent views and applications, weighted and decayed
+}
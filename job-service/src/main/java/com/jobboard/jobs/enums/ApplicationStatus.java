@@ -1,5 +1,10 @@
 package com.jobboard.jobs.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum ApplicationStatus {
     PENDING,
     REVIEWED,
@@ -7,5 +12,23 @@ public enum ApplicationStatus {
     INTERVIEWED,
     ACCEPTED,
     REJECTED,
-    WITHDRAWN
-}
\ No newline at end of file
+    WITHDRAWN;
+
+    private static final Map<ApplicationStatus, Set<ApplicationStatus>> TRANSITIONS = new EnumMap<>(ApplicationStatus.class);
+
+    // Employers move an application forward (stages may be skipped) or reject it; the applicant
+    // can withdraw it at any point. Accepted and rejected applications only allow withdrawing.
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(REVIEWED, SHORTLISTED, INTERVIEWED, ACCEPTED, REJECTED, WITHDRAWN));
+        TRANSITIONS.put(REVIEWED, EnumSet.of(SHORTLISTED, INTERVIEWED, ACCEPTED, REJECTED, WITHDRAWN));
+        TRANSITIONS.put(SHORTLISTED, EnumSet.of(INTERVIEWED, ACCEPTED, REJECTED, WITHDRAWN));
+        TRANSITIONS.put(INTERVIEWED, EnumSet.of(ACCEPTED, REJECTED, WITHDRAWN));
+        TRANSITIONS.put(ACCEPTED, EnumSet.of(WITHDRAWN));
+        TRANSITIONS.put(REJECTED, EnumSet.of(WITHDRAWN));
+        TRANSITIONS.put(WITHDRAWN, EnumSet.noneOf(ApplicationStatus.class));
+    }
+
+    public boolean canTransitionTo(ApplicationStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobboard.jobs.enums;
+
+public enum DuplicatePolicy {
+    REJECT,  // createJob fails with 409
+    MERGE,   // createJob returns the existing job instead of creating one
+    FLAG     // the job is created and marked with duplicateOfJobId
+}
@@ -0,0 +1,7 @@
+package com.jobboard.jobs.enums;
+
+public enum ImportRowStatus {
+    CREATED,
+    REJECTED,
+    DUPLICATE  // Near-duplicate of an existing job under the MERGE policy; nothing was inserted
+}
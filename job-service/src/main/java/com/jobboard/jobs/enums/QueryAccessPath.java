@@ -0,0 +1,10 @@
+package com.jobboard.jobs.enums;
+
+public enum QueryAccessPath {
+    FULL_TEXT,      // Lucene search index
+    ENUM_BITMAP,    // Category / type / experience level bitmaps
+    SALARY_RANGE,   // Sorted salary index
+    LOCATION,       // Location substring over per-location bitmaps
+    POSTED_SINCE,   // Creation-time order of active jobs, estimated from per-day counts
+    FULL_SCAN       // Every active job, filtered in the database
+}
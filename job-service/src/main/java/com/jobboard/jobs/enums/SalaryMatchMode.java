@@ -0,0 +1,6 @@
+package com.jobboard.jobs.enums;
+
+public enum SalaryMatchMode {
+    WITHIN,    // Job's salary range lies inside the requested range
+    OVERLAPS   // Job's salary range intersects the requested range
+}
@@ -0,0 +1,7 @@
+package com.jobboard.jobs.enums;
+
+public enum SuggestionType {
+    TITLE,
+    COMPANY,
+    LOCATION
+}
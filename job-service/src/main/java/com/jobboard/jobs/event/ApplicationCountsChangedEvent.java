@@ -0,0 +1,32 @@
+package com.jobboard.jobs.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stored application counts moved without the job itself being written:
+ * a counter flush (here or on another replica) or a reconciliation pass.
+ */
+@Data
+@AllArgsConstructor
+public class ApplicationCountsChangedEvent {
+
+    private List<Long> jobIds;  // Null when any job may have changed
+    private Map<Long, Long> deltas;  // jobId -> count change, when this replica flushed it; null otherwise
+
+    public static ApplicationCountsChangedEvent forJobs(List<Long> jobIds) {
+        return new ApplicationCountsChangedEvent(jobIds, null);
+    }
+
+    public static ApplicationCountsChangedEvent flushed(Map<Long, Long> deltas) {
+        return new ApplicationCountsChangedEvent(new ArrayList<>(deltas.keySet()), deltas);
+    }
+
+    public static ApplicationCountsChangedEvent all() {
+        return new ApplicationCountsChangedEvent(null, null);
+    }
+}
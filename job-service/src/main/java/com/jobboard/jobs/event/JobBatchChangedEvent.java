@@ -0,0 +1,32 @@
+package com.jobboard.jobs.event;
+
+import com.jobboard.jobs.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Many jobs written at once (bulk import, or a batch replayed from another
+ * replica's broadcast). Listeners apply it in one pass instead of once per job.
+ */
+@Data
+@AllArgsConstructor
+public class JobBatchChangedEvent {
+
+    private List<Job> jobs;
+    private boolean replicated;  // Replayed from another replica's broadcast, not written here
+    private boolean refreshDeferred;  // More batches follow; the writer makes them searchable together at the end
+
+    public static JobBatchChangedEvent created(List<Job> jobs) {
+        return new JobBatchChangedEvent(jobs, false, false);
+    }
+
+    public static JobBatchChangedEvent imported(List<Job> jobs) {
+        return new JobBatchChangedEvent(jobs, false, true);
+    }
+
+    public static JobBatchChangedEvent replicated(List<Job> jobs) {
+        return new JobBatchChangedEvent(jobs, true, false);
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobboard.jobs.event;
+
+import com.jobboard.jobs.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * In-process event published by JobService whenever a job is written.
+ * Local indexes listen for it after the transaction commits; writes that touch
+ * many jobs at once publish a {@link JobBatchChangedEvent} instead.
+ */
+@Data
+@AllArgsConstructor
+public class JobChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DEACTIVATED
+    }
+
+    private Job job;
+    private Type type;
+
+    public static JobChangedEvent created(Job job) {
+        return new JobChangedEvent(job, Type.CREATED);
+    }
+
+    public static JobChangedEvent updated(Job job) {
+        return new JobChangedEvent(job, Type.UPDATED);
+    }
+
+    public static JobChangedEvent deactivated(Job job) {
+        return new JobChangedEvent(job, Type.DEACTIVATED);
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobboard.jobs.event;
+
+import com.jobboard.jobs.model.Job;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Jobs deactivated by the expiry sweeper because their application deadline
+ * passed. It is a {@link JobBatchChangedEvent}, so indexes and caches drop
+ * the jobs without listening for it separately.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class JobExpiredEvent extends JobBatchChangedEvent {
+
+    private final LocalDateTime expiredAt;
+
+    public JobExpiredEvent(List<Job> jobs, LocalDateTime expiredAt) {
+        super(jobs, false, false);
+        this.expiredAt = expiredAt;
+    }
+}
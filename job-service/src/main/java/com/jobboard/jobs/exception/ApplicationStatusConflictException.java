@@ -0,0 +1,7 @@
+package com.jobboard.jobs.exception;
+
+public class ApplicationStatusConflictException extends RuntimeException {
+    public ApplicationStatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobboard.jobs.exception;
+
+public class DuplicateJobException extends RuntimeException {
+    public DuplicateJobException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,315 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SimHash fingerprints of active jobs, cut into max-distance + 1 bands and
+ * filed under each band's bits. Two fingerprints differing in at most
+ * max-distance bits agree on at least one whole band, so looking up a
+ * fingerprint's buckets finds its near-duplicates without comparing
+ * against the whole catalog. Buckets hold at most bucket-capacity jobs, so
+ * a lookup stays bounded even for boilerplate postings; a full bucket drops
+ * its oldest job. Catalog-wide clusters come from a background scan that
+ * looks up one page of jobs per tick and publishes each finished pass.
+ */
+@Component
+@Slf4j
+public class DuplicateJobIndex {
+
+    // Bands of at least 8 bits keep buckets selective
+    static final int MAX_DISTANCE = 7;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int SCAN_PAGE_SIZE = 2000;
+
+    private final JobRepository jobRepository;
+    private final SimHasher simHasher;
+    private final int maxDistance;
+    private final int bands;
+    private final int bucketCapacity;
+    private final long scanIntervalMillis;
+
+    private final Map<Long, Posting> postings = new ConcurrentHashMap<>();
+    // (band, band bits) -> job IDs, oldest first; arrays are replaced, never modified
+    private final Map<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+    private volatile DuplicateScan lastScan;
+
+    // Pass in progress; only touched by scanPage()
+    private long[] scanJobIds;
+    private int scanPosition;
+    private Map<Long, Long> scanParents;
+    private long scanStartedAt;
+
+    private record Posting(long fingerprint, Long postedByUserId) {
+    }
+
+    /**
+     * A finished background scan: groups of active jobs linked by
+     * near-duplicate pairs, each in ascending ID order (the first is the
+     * original posting), ordered by original. Jobs without duplicates are left out.
+     */
+    public record DuplicateScan(List<long[]> clusters, int jobsScanned, LocalDateTime finishedAt, long tookMillis) {
+    }
+
+    public DuplicateJobIndex(JobRepository jobRepository,
+                             SimHasher simHasher,
+                             @Value("${jobs.duplicates.max-distance:5}") int maxDistance,
+                             @Value("${jobs.duplicates.bucket-capacity:256}") int bucketCapacity,
+                             @Value("${jobs.duplicates.scan-interval-ms:900000}") long scanIntervalMillis) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("jobs.duplicates.max-distance must be between 0 and " + MAX_DISTANCE);
+        }
+        this.jobRepository = jobRepository;
+        this.simHasher = simHasher;
+        this.maxDistance = maxDistance;
+        this.bands = maxDistance + 1;
+        this.bucketCapacity = bucketCapacity;
+        this.scanIntervalMillis = scanIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            postings.clear();
+            buckets.clear();
+        }
+
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                put(job.getId(), new Posting(simHasher.fingerprint(job), job.getPostedByUserId()));
+                lastId = job.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        ready = true;
+        log.info("Duplicate job index built with {} jobs", postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public int size() {
+        return postings.size();
+    }
+
+    // Null until the first background scan has finished
+    public DuplicateScan lastScan() {
+        return lastScan;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        apply(event.getJob());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        event.getJobs().forEach(this::apply);
+    }
+
+    /**
+     * Active jobs within maxDistance of the fingerprint: those posted by the
+     * given user first, then everyone else's, each closest first, then oldest.
+     */
+    public List<Long> findDuplicates(long fingerprint, Long postedByUserId) {
+        Map<Long, Integer> distances = new HashMap<>();
+        Set<Long> sameEmployer = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            long[] ids = buckets.get(bucketKey(band, fingerprint));
+            if (ids == null) {
+                continue;
+            }
+            for (long id : ids) {
+                Posting other = postings.get(id);
+                if (other != null) {
+                    int distance = SimHasher.distance(fingerprint, other.fingerprint());
+                    if (distance <= maxDistance) {
+                        distances.put(id, distance);
+                        if (Objects.equals(postedByUserId, other.postedByUserId())) {
+                            sameEmployer.add(id);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Long> duplicates = new ArrayList<>(distances.keySet());
+        duplicates.sort(Comparator.<Long, Boolean>comparing(id -> !sameEmployer.contains(id))
+                .thenComparingInt(distances::get)
+                .thenComparing(Comparator.naturalOrder()));
+        return duplicates;
+    }
+
+    /**
+     * Looks up the next page of jobs of the current scan pass against the
+     * buckets, linking each to its older near-duplicates, and publishes the
+     * clusters when the pass is through. A new pass starts scan-interval
+     * after the last one finished.
+     */
+    @Scheduled(fixedDelayString = "${jobs.duplicates.scan-page-interval-ms:1000}")
+    public synchronized void scanPage() {
+        if (!ready) {
+            return;
+        }
+        if (scanJobIds == null) {
+            DuplicateScan last = lastScan;
+            if (last != null && last.finishedAt().plus(scanIntervalMillis, ChronoUnit.MILLIS).isAfter(LocalDateTime.now())) {
+                return;
+            }
+            scanJobIds = postings.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            scanPosition = 0;
+            scanParents = new HashMap<>();
+            scanStartedAt = System.currentTimeMillis();
+        }
+
+        int end = Math.min(scanJobIds.length, scanPosition + SCAN_PAGE_SIZE);
+        for (; scanPosition < end; scanPosition++) {
+            long jobId = scanJobIds[scanPosition];
+            Posting posting = postings.get(jobId);
+            if (posting == null) {
+                continue;  // Removed since the pass started
+            }
+            for (Long other : findDuplicates(posting.fingerprint(), posting.postedByUserId())) {
+                if (other < jobId) {
+                    union(scanParents, other, jobId);
+                }
+            }
+        }
+
+        if (scanPosition == scanJobIds.length) {
+            lastScan = new DuplicateScan(clusters(scanParents), scanJobIds.length, LocalDateTime.now(),
+                    System.currentTimeMillis() - scanStartedAt);
+            log.debug("Duplicate scan of {} jobs found {} clusters", scanJobIds.length, lastScan.clusters().size());
+            scanJobIds = null;
+            scanParents = null;
+        }
+    }
+
+    // Groups of still-active jobs, dropping those left on their own by removals during the pass
+    private List<long[]> clusters(Map<Long, Long> parents) {
+        Map<Long, List<Long>> groups = new TreeMap<>();
+        for (Long jobId : parents.keySet()) {
+            if (postings.containsKey(jobId)) {
+                groups.computeIfAbsent(find(parents, jobId), root -> new ArrayList<>()).add(jobId);
+            }
+        }
+        return groups.values().stream()
+                .filter(ids -> ids.size() > 1)
+                .map(ids -> ids.stream().mapToLong(Long::longValue).sorted().toArray())
+                .sorted(Comparator.comparingLong(ids -> ids[0]))
+                .toList();
+    }
+
+    private void apply(Job job) {
+        if (job.isActive()) {
+            put(job.getId(), new Posting(simHasher.fingerprint(job), job.getPostedByUserId()));
+        } else {
+            remove(job.getId());
+        }
+    }
+
+    private synchronized void put(Long jobId, Posting posting) {
+        Posting previous = postings.put(jobId, posting);
+        if (previous != null) {
+            if (previous.fingerprint() == posting.fingerprint()) {
+                return;
+            }
+            unfile(jobId, previous.fingerprint());
+        }
+
+        for (int band = 0; band < bands; band++) {
+            buckets.compute(bucketKey(band, posting.fingerprint()), (key, ids) -> {
+                if (ids == null) {
+                    return new long[]{jobId};
+                }
+                // A full bucket drops its oldest job; it stays reachable through its other bands
+                int keep = Math.min(ids.length, bucketCapacity - 1);
+                long[] updated = Arrays.copyOfRange(ids, ids.length - keep, ids.length + 1);
+                updated[keep] = jobId;
+                return updated;
+            });
+        }
+    }
+
+    private synchronized void remove(Long jobId) {
+        Posting previous = postings.remove(jobId);
+        if (previous != null) {
+            unfile(jobId, previous.fingerprint());
+        }
+    }
+
+    private void unfile(long jobId, long fingerprint) {
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfPresent(bucketKey(band, fingerprint), (key, ids) -> {
+                long[] remaining = Arrays.stream(ids).filter(id -> id != jobId).toArray();
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+    }
+
+    // Band b holds bits [64 * b / bands, 64 * (b + 1) / bands) of the fingerprint
+    private long bucketKey(int band, long fingerprint) {
+        int from = Long.SIZE * band / bands;
+        int to = Long.SIZE * (band + 1) / bands;
+        long bits = to - from == Long.SIZE ? fingerprint : (fingerprint >>> from) & ((1L << (to - from)) - 1);
+        return ((long) band << 32) | bits;
+    }
+
+    private static void union(Map<Long, Long> parents, Long a, Long b) {
+        Long rootA = find(parents, a);
+        Long rootB = find(parents, b);
+        if (!rootA.equals(rootB)) {
+            parents.put(rootB, rootA);
+        }
+    }
+
+    private static Long find(Map<Long, Long> parents, Long jobId) {
+        Long root = parents.computeIfAbsent(jobId, id -> id);
+        while (!root.equals(parents.get(root))) {
+            root = parents.get(root);
+        }
+        // Path compression
+        Long current = jobId;
+        while (!current.equals(root)) {
+            Long next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobboard.jobs.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+// Matching job IDs (one page, newest first) plus value counts per facet
+@Data
+@AllArgsConstructor
+public class FacetResult {
+    private long totalMatches;
+    private List<Long> jobIds;
+    private Map<String, Map<String, Long>> facets;
+}
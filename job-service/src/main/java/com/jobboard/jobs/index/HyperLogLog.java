@@ -0,0 +1,130 @@
+package com.jobboard.jobs.index;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog distinct-count sketch with 2^12 registers (about 1.6%
+ * standard error). Merging keeps the larger register of each pair, so
+ * sketches built on different replicas, or merged more than once,
+ * combine into the sketch of the union. Not thread-safe.
+ * <p>
+ * Serialized form: a format byte, then either the non-zero registers as
+ * (index, value) triples of 3 bytes (sparse, small counts) or every
+ * register packed into 6 bits (dense, 3 KB).
+ */
+public class HyperLogLog {
+
+    static final int PRECISION = 12;
+    static final int REGISTERS = 1 << PRECISION;
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+    private static final int DENSE_BYTES = REGISTERS * 6 / 8;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    public void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // Leading zeros of the remaining bits, plus one; the sentinel bit caps it at 64 - PRECISION + 1
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            // Linear counting is more accurate while many registers are still empty
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+
+        if (1 + 3 * nonZero < 1 + DENSE_BYTES) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * nonZero).put(SPARSE);
+            for (int i = 0; i < REGISTERS; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+
+        byte[] bytes = new byte[1 + DENSE_BYTES];
+        bytes[0] = DENSE;
+        // Four 6-bit registers per three bytes
+        for (int i = 0, out = 1; i < REGISTERS; i += 4, out += 3) {
+            int packed = registers[i] << 18 | registers[i + 1] << 12 | registers[i + 2] << 6 | registers[i + 3];
+            bytes[out] = (byte) (packed >>> 16);
+            bytes[out + 1] = (byte) (packed >>> 8);
+            bytes[out + 2] = (byte) packed;
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+
+        if (bytes[0] == SPARSE) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            while (buffer.remaining() >= 3) {
+                int index = buffer.getShort() & 0xFFFF;
+                sketch.registers[index] = buffer.get();
+            }
+        } else {
+            for (int i = 0, in = 1; i < REGISTERS; i += 4, in += 3) {
+                int packed = (bytes[in] & 0xFF) << 16 | (bytes[in + 1] & 0xFF) << 8 | (bytes[in + 2] & 0xFF);
+                sketch.registers[i] = (byte) (packed >>> 18 & 0x3F);
+                sketch.registers[i + 1] = (byte) (packed >>> 12 & 0x3F);
+                sketch.registers[i + 2] = (byte) (packed >>> 6 & 0x3F);
+                sketch.registers[i + 3] = (byte) (packed & 0x3F);
+            }
+        }
+        return sketch;
+    }
+
+    // 64-bit FNV-1a over the UTF-8 bytes, then the SplitMix64 finalizer to spread the high bits
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,14 @@
+package com.jobboard.jobs.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// One page of job IDs from an in-memory index, plus the total number of matches
+@Data
+@AllArgsConstructor
+public class IdPage {
+    private long total;
+    private List<Long> jobIds;
+}
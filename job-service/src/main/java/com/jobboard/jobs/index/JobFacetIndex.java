@@ -0,0 +1,476 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.FacetCount;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmaps of job IDs per category, job type, experience level,
+ * location and active flag. Any combination of facet filters is answered with
+ * bitmap intersections, including per-value counts for every facet.
+ * Active jobs are also kept in (createdAt, id) order so matches can be
+ * paged newest first: IDs come from pooled sequences and are not in
+ * creation order across instances.
+ * <p>
+ * Bitmaps hold job IDs as ints. A job whose ID is beyond Integer.MAX_VALUE
+ * is left out and marks the index incomplete: facet queries are then
+ * answered by the database, and other callers check isComplete() before
+ * relying on the bitmaps.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobFacetIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final Comparator<Recency> NEWEST_FIRST = Comparator
+            .comparing(Recency::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingInt(Recency::id)
+            .reversed();
+
+    private final JobRepository jobRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Bitmaps bitmaps = new Bitmaps();
+
+    // Changes seen while a rebuild is reading the database, replayed before the swap
+    private List<Job> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bitmaps rebuilt = new Bitmaps();
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                rebuilt.put(job);
+                lastId = job.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach(rebuilt::put);
+            changedDuringRebuild = null;
+            bitmaps = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Job facet index rebuilt with {} active jobs", rebuilt.active.getCardinality());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        apply(List.of(event.getJob()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        apply(event.getJobs());
+    }
+
+    private void apply(List<Job> jobs) {
+        lock.writeLock().lock();
+        try {
+            jobs.forEach(bitmaps::put);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(jobs);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Filters combine with OR inside a facet and AND across facets; an empty
+     * collection leaves that facet unfiltered. Facet counts are disjunctive:
+     * each facet is counted against the other facets' filters only.
+     */
+    public FacetResult query(Collection<JobCategory> categories,
+                             Collection<JobType> jobTypes,
+                             Collection<ExperienceLevel> experienceLevels,
+                             int offset,
+                             int limit) {
+        if (!isComplete()) {
+            return queryDatabase(categories, jobTypes, experienceLevels, offset, limit);
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap categoryFilter = bitmaps.union(bitmaps.byCategory, categories);
+            RoaringBitmap typeFilter = bitmaps.union(bitmaps.byJobType, jobTypes);
+            RoaringBitmap levelFilter = bitmaps.union(bitmaps.byExperienceLevel, experienceLevels);
+
+            RoaringBitmap withoutCategory = and(bitmaps.active, typeFilter, levelFilter);
+            RoaringBitmap withoutType = and(bitmaps.active, categoryFilter, levelFilter);
+            RoaringBitmap withoutLevel = and(bitmaps.active, categoryFilter, typeFilter);
+            RoaringBitmap matches = categoryFilter == null ? withoutCategory
+                    : RoaringBitmap.and(withoutCategory, categoryFilter);
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            facets.put("category", counts(withoutCategory, bitmaps.byCategory));
+            facets.put("jobType", counts(withoutType, bitmaps.byJobType));
+            facets.put("experienceLevel", counts(withoutLevel, bitmaps.byExperienceLevel));
+
+            return new FacetResult(matches.getLongCardinality(), bitmaps.newestFirst(matches, offset, limit), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // False once a job ID didn't fit the bitmaps; it stays so, as the sequence only grows
+    public boolean isComplete() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.complete;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Active jobs matching the filters; the caller owns the returned bitmap
+    public RoaringBitmap match(Collection<JobCategory> categories,
+                               Collection<JobType> jobTypes,
+                               Collection<ExperienceLevel> experienceLevels) {
+        lock.readLock().lock();
+        try {
+            return and(bitmaps.active,
+                    bitmaps.union(bitmaps.byCategory, categories),
+                    bitmaps.union(bitmaps.byJobType, jobTypes),
+                    bitmaps.union(bitmaps.byExperienceLevel, experienceLevels));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // One page of the given active job IDs, newest first by (createdAt, id)
+    public List<Long> newestFirst(RoaringBitmap jobIds, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.newestFirst(jobIds, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Active jobs whose location contains the text, ignoring case (the database's LIKE '%text%')
+    public RoaringBitmap matchLocation(String text) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.matchLocation(text);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Upper bound on active jobs created since the given time, from per-day counts
+    public long estimatePostedSince(LocalDateTime since) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.estimatePostedSince(since);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Active jobs created at or after the given time
+    public RoaringBitmap postedSince(LocalDateTime since) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.postedSince(since);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Point check for candidates found through another index
+    public boolean isPostedSince(long jobId, LocalDateTime since) {
+        lock.readLock().lock();
+        try {
+            return jobId <= Integer.MAX_VALUE && bitmaps.isPostedSince((int) jobId, since);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Same result as the bitmaps give, from one page query and a grouped count per facet
+    private FacetResult queryDatabase(Collection<JobCategory> categories,
+                                      Collection<JobType> jobTypes,
+                                      Collection<ExperienceLevel> experienceLevels,
+                                      int offset,
+                                      int limit) {
+        Collection<JobCategory> categoryFilter = orAll(categories, JobCategory.class);
+        Collection<JobType> typeFilter = orAll(jobTypes, JobType.class);
+        Collection<ExperienceLevel> levelFilter = orAll(experienceLevels, ExperienceLevel.class);
+
+        Page<Long> page = jobRepository.findActiveIdsByFacets(categoryFilter, typeFilter, levelFilter,
+                PageRequest.of(offset / Math.max(limit, 1), Math.max(limit, 1),
+                        Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("category", counts(JobCategory.class,
+                jobRepository.countActiveByCategory(typeFilter, levelFilter)));
+        facets.put("jobType", counts(JobType.class,
+                jobRepository.countActiveByJobType(categoryFilter, levelFilter)));
+        facets.put("experienceLevel", counts(ExperienceLevel.class,
+                jobRepository.countActiveByExperienceLevel(categoryFilter, typeFilter)));
+
+        return new FacetResult(page.getTotalElements(), limit <= 0 ? List.of() : page.getContent(), facets);
+    }
+
+    // An unfiltered facet matches every value, so the queries need no optional predicates
+    private static <E extends Enum<E>> Collection<E> orAll(Collection<E> values, Class<E> type) {
+        return values == null || values.isEmpty() ? EnumSet.allOf(type) : values;
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> counts(Class<E> type, List<FacetCount> rows) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (E value : type.getEnumConstants()) {
+            counts.put(value.name(), 0L);
+        }
+        rows.forEach(row -> counts.put(row.getValue().name(), row.getCount()));
+        return counts;
+    }
+
+    private static RoaringBitmap and(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base.clone();
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> counts(RoaringBitmap base, Map<E, RoaringBitmap> byValue) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        byValue.forEach((value, bitmap) -> counts.put(value.name(), (long) RoaringBitmap.andCardinality(base, bitmap)));
+        return counts;
+    }
+
+    private record Recency(LocalDateTime createdAt, int id) {
+    }
+
+    // Facet values as packed enum ordinals
+    private record Indexed(int facets, Recency recency, String location) {
+    }
+
+    private static class Bitmaps {
+
+        private final Map<JobCategory, RoaringBitmap> byCategory = emptyBitmaps(JobCategory.class);
+        private final Map<JobType, RoaringBitmap> byJobType = emptyBitmaps(JobType.class);
+        private final Map<ExperienceLevel, RoaringBitmap> byExperienceLevel = emptyBitmaps(ExperienceLevel.class);
+        private final RoaringBitmap active = new RoaringBitmap();
+
+        // Lower-cased location -> jobs; entries go away with their last job
+        private final Map<String, RoaringBitmap> byLocation = new HashMap<>();
+
+        // Last indexed values per job, so an update can clear the old bits
+        private final Map<Integer, Indexed> indexed = new HashMap<>();
+        private final NavigableSet<Recency> activeNewestFirst = new TreeSet<>(NEWEST_FIRST);
+        private final NavigableMap<LocalDate, Integer> activePerDay = new TreeMap<>();
+        private boolean complete = true;
+
+        void put(Job job) {
+            if (job.getId() > Integer.MAX_VALUE) {
+                if (complete) {
+                    log.error("Job ID {} does not fit the facet bitmaps; facet queries now go to the database",
+                            job.getId());
+                }
+                complete = false;
+                return;
+            }
+            int id = job.getId().intValue();
+
+            Indexed previous = indexed.get(id);
+            if (previous != null) {
+                byCategory.get(JobCategory.values()[previous.facets() & 0xFF]).remove(id);
+                byJobType.get(JobType.values()[(previous.facets() >> 8) & 0xFF]).remove(id);
+                byExperienceLevel.get(ExperienceLevel.values()[(previous.facets() >> 16) & 0xFF]).remove(id);
+                removeLocation(previous.location(), id);
+                if (activeNewestFirst.remove(previous.recency())) {
+                    countDay(previous.recency().createdAt(), -1);
+                }
+            }
+
+            String location = job.getLocation() == null ? "" : job.getLocation().toLowerCase(Locale.ROOT);
+            Recency recency = new Recency(job.getCreatedAt(), id);
+            indexed.put(id, new Indexed(pack(job), recency, location));
+
+            byCategory.get(job.getCategory()).add(id);
+            byJobType.get(job.getJobType()).add(id);
+            byExperienceLevel.get(job.getExperienceLevel()).add(id);
+            byLocation.computeIfAbsent(location, key -> new RoaringBitmap()).add(id);
+            if (job.isActive()) {
+                active.add(id);
+                activeNewestFirst.add(recency);
+                countDay(job.getCreatedAt(), 1);
+            } else {
+                active.remove(id);
+            }
+        }
+
+        RoaringBitmap matchLocation(String text) {
+            String needle = text.toLowerCase(Locale.ROOT);
+            RoaringBitmap matches = new RoaringBitmap();
+            byLocation.forEach((location, jobIds) -> {
+                if (location.contains(needle)) {
+                    matches.or(jobIds);
+                }
+            });
+            matches.and(active);
+            return matches;
+        }
+
+        long estimatePostedSince(LocalDateTime since) {
+            long estimate = 0;
+            for (int count : activePerDay.tailMap(since.toLocalDate(), true).values()) {
+                estimate += count;
+            }
+            return estimate;
+        }
+
+        RoaringBitmap postedSince(LocalDateTime since) {
+            RoaringBitmap matches = new RoaringBitmap();
+            // Newest first, so the jobs created at or after `since` are a prefix of the set
+            for (Recency job : activeNewestFirst.headSet(new Recency(since, Integer.MIN_VALUE), true)) {
+                matches.add(job.id());
+            }
+            return matches;
+        }
+
+        boolean isPostedSince(int id, LocalDateTime since) {
+            Indexed job = indexed.get(id);
+            return job != null && active.contains(id)
+                    && job.recency().createdAt() != null && !job.recency().createdAt().isBefore(since);
+        }
+
+        private void removeLocation(String location, int id) {
+            RoaringBitmap jobIds = byLocation.get(location);
+            if (jobIds != null) {
+                jobIds.remove(id);
+                if (jobIds.isEmpty()) {
+                    byLocation.remove(location);
+                }
+            }
+        }
+
+        private void countDay(LocalDateTime createdAt, int delta) {
+            if (createdAt != null) {
+                activePerDay.merge(createdAt.toLocalDate(), delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+
+        List<Long> newestFirst(RoaringBitmap matches, int offset, int limit) {
+            int matchCount = matches.getCardinality();
+            if (limit <= 0 || offset >= matchCount) {
+                return List.of();
+            }
+            long wanted = Math.min((long) offset + limit, matchCount);
+
+            // Walking the active jobs newest first visits about wanted * active / matches of them
+            // before enough match; selecting from the matches visits each match once
+            List<Long> jobIds = new ArrayList<>((int) Math.min(limit, wanted));
+            if (wanted * activeNewestFirst.size() / matchCount <= matchCount) {
+                Iterator<Recency> iterator = activeNewestFirst.iterator();
+                int skipped = 0;
+                while (jobIds.size() < limit && iterator.hasNext()) {
+                    int id = iterator.next().id();
+                    if (matches.contains(id) && skipped++ >= offset) {
+                        jobIds.add((long) id);
+                    }
+                }
+                return jobIds;
+            }
+
+            // Oldest of the newest `wanted` matches at the head
+            PriorityQueue<Recency> newest = new PriorityQueue<>((int) wanted + 1, NEWEST_FIRST.reversed());
+            IntIterator iterator = matches.getIntIterator();
+            while (iterator.hasNext()) {
+                int id = iterator.next();
+                Indexed match = indexed.get(id);
+                if (match != null && active.contains(id)) {
+                    newest.add(match.recency());
+                    if (newest.size() > wanted) {
+                        newest.poll();
+                    }
+                }
+            }
+            List<Recency> page = new ArrayList<>(newest);
+            page.sort(NEWEST_FIRST);
+            for (int i = offset; i < page.size(); i++) {
+                jobIds.add((long) page.get(i).id());
+            }
+            return jobIds;
+        }
+
+        private static int pack(Job job) {
+            return job.getCategory().ordinal()
+                    | job.getJobType().ordinal() << 8
+                    | job.getExperienceLevel().ordinal() << 16;
+        }
+
+        // Null means "no filter on this facet"
+        <E extends Enum<E>> RoaringBitmap union(Map<E, RoaringBitmap> byValue, Collection<E> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            return RoaringBitmap.or(values.stream().map(byValue::get).iterator());
+        }
+
+        private static <E extends Enum<E>> Map<E, RoaringBitmap> emptyBitmaps(Class<E> type) {
+            Map<E, RoaringBitmap> bitmaps = new EnumMap<>(type);
+            for (E value : type.getEnumConstants()) {
+                bitmaps.put(value, new RoaringBitmap());
+            }
+            return bitmaps;
+        }
+    }
+}
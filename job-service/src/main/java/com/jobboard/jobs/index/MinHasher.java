@@ -0,0 +1,117 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.model.Job;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash signatures of job text. A job's shingles are its title words,
+ * canonical skills and description word pairs; the fraction of positions
+ * at which two signatures agree estimates the Jaccard similarity of their
+ * shingle sets. Each of the SIZE hash functions is a multiply-shift hash
+ * of the shingle's 64-bit hash, seeded identically on every replica.
+ */
+@Component
+@RequiredArgsConstructor
+public class MinHasher {
+
+    public static final int SIZE = 64;
+    public static final int BYTES = SIZE * Integer.BYTES;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private static final long[] MULTIPLIERS = new long[SIZE];
+    private static final long[] INCREMENTS = new long[SIZE];
+
+    static {
+        // Fixed seed: signatures are stored and compared across restarts and replicas
+        Random random = new Random(0x5EEDL);
+        for (int i = 0; i < SIZE; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private final SkillDictionary skillDictionary;
+
+    // Null when the job has no text to shingle
+    public byte[] signature(Job job) {
+        Set<Long> shingles = shingles(job);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] minimums = new int[SIZE];
+        Arrays.fill(minimums, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIZE; i++) {
+                int hash = (int) ((MULTIPLIERS[i] * shingle + INCREMENTS[i]) >>> 32);
+                if (hash < minimums[i]) {
+                    minimums[i] = hash;
+                }
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.asIntBuffer().put(minimums);
+        return buffer.array();
+    }
+
+    public static int[] decode(byte[] signature) {
+        int[] values = new int[SIZE];
+        ByteBuffer.wrap(signature).asIntBuffer().get(values);
+        return values;
+    }
+
+    // Estimated Jaccard similarity of the two jobs' shingle sets
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    private Set<Long> shingles(Job job) {
+        Set<Long> shingles = new HashSet<>();
+        for (String word : words(job.getTitle())) {
+            shingles.add(hash("t:" + word));
+        }
+        for (String skill : skillDictionary.parse(job.getSkillsRequired())) {
+            shingles.add(hash("s:" + skill));
+        }
+
+        String[] description = words(job.getDescription());
+        for (int i = 0; i + 1 < description.length; i++) {
+            shingles.add(hash("d:" + description[i] + ' ' + description[i + 1]));
+        }
+        return shingles;
+    }
+
+    static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return NON_WORD.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    // String.hashCode spread over 64 bits (SplitMix64 finalizer)
+    static long hash(String shingle) {
+        long z = shingle.hashCode() * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,371 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory salary index over active jobs that have both salary bounds.
+ * Jobs are kept in primitive arrays sorted by salaryMin, split into blocks
+ * whose salaryMax values are also kept sorted. Binary search finds the
+ * salaryMin range; inside it, whole blocks are counted by binary search on
+ * salaryMax and only the blocks a page falls into are scanned. Salaries are
+ * compared in exact cents, the scale the salary columns store.
+ * Writes go to a live map and are folded into a new snapshot on a short interval.
+ * match() returns job IDs as an int bitmap; once a job ID beyond
+ * Integer.MAX_VALUE is indexed it refuses, and callers check canMatch() first.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SalaryIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int SCALE = 2;
+
+    private final JobRepository jobRepository;
+
+    // jobId -> {salaryMin, salaryMax}; source for the next snapshot
+    private final Map<Long, long[]> live = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.build(Map.of());
+    private volatile boolean dirty;
+    private volatile boolean ready;
+    private volatile boolean canMatch = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                put(job);
+                lastId = job.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        refresh();
+        ready = true;
+        log.info("Salary index built with {} jobs", snapshot.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        put(event.getJob());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        event.getJobs().forEach(this::put);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.salary-index.refresh-interval-ms:500}")
+    public void refresh() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        snapshot = Snapshot.build(live);
+    }
+
+    public IdPage query(BigDecimal minSalary, BigDecimal maxSalary, SalaryMatchMode mode, int offset, int limit) {
+        return snapshot.query(ceilKey(minSalary), floorKey(maxSalary), mode, offset, limit);
+    }
+
+    // False once a job ID didn't fit match()'s bitmap; it stays so, as the sequence only grows
+    public boolean canMatch() {
+        return canMatch;
+    }
+
+    // Every matching job ID, for intersecting with other indexes
+    public RoaringBitmap match(BigDecimal minSalary, BigDecimal maxSalary, SalaryMatchMode mode) {
+        if (!canMatch) {
+            throw new IllegalStateException("Job IDs beyond Integer.MAX_VALUE don't fit a salary match bitmap");
+        }
+        return snapshot.match(ceilKey(minSalary), floorKey(maxSalary), mode);
+    }
+
+    // Point check against the live map, for filtering candidates found through another index
+    public boolean matches(Long jobId, BigDecimal minSalary, BigDecimal maxSalary, SalaryMatchMode mode) {
+        long[] salary = live.get(jobId);
+        if (salary == null) {
+            return false;
+        }
+
+        long min = ceilKey(minSalary);
+        long max = floorKey(maxSalary);
+        return mode == SalaryMatchMode.WITHIN
+                ? salary[0] >= min && salary[0] <= max && salary[1] <= max
+                : salary[0] <= max && salary[1] >= min;
+    }
+
+    private void put(Job job) {
+        if (job.isActive() && job.getSalaryMin() != null && job.getSalaryMax() != null) {
+            // Checked before the job can reach a snapshot, so match() never sees an ID it can't hold
+            if (job.getId() > Integer.MAX_VALUE && canMatch) {
+                log.error("Job ID {} does not fit the salary match bitmap; match() is refused from now on",
+                        job.getId());
+                canMatch = false;
+            }
+            live.put(job.getId(), new long[]{
+                    toKey(job.getSalaryMin().setScale(SCALE, RoundingMode.HALF_UP)),
+                    toKey(job.getSalaryMax().setScale(SCALE, RoundingMode.HALF_UP))});
+        } else {
+            live.remove(job.getId());
+        }
+        dirty = true;
+    }
+
+    // Keys are exact in cents, so "salary >= bound" is "key >= ceilKey(bound)" and "salary <= bound" is
+    // "key <= floorKey(bound)" for a bound of any scale
+    private static long ceilKey(BigDecimal bound) {
+        return toKey(bound.setScale(SCALE, RoundingMode.CEILING));
+    }
+
+    private static long floorKey(BigDecimal bound) {
+        return toKey(bound.setScale(SCALE, RoundingMode.FLOOR));
+    }
+
+    // Out-of-range bounds saturate, which keeps every comparison above correct
+    private static long toKey(BigDecimal scaled) {
+        BigInteger cents = scaled.unscaledValue();
+        if (cents.bitLength() > 63) {
+            return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+
+    static final class Snapshot {
+
+        // Positions per block; whole blocks are counted by binary search on their sorted salaryMax
+        private static final int BLOCK = 1024;
+
+        // Parallel arrays sorted by (salaryMin, jobId)
+        private final long[] mins;
+        private final long[] maxs;
+        private final long[] ids;
+
+        // maxs, sorted within each block of BLOCK positions
+        private final long[] sortedMaxs;
+
+        private Snapshot(long[] mins, long[] maxs, long[] ids) {
+            this.mins = mins;
+            this.maxs = maxs;
+            this.ids = ids;
+
+            sortedMaxs = maxs.clone();
+            for (int from = 0; from < sortedMaxs.length; from += BLOCK) {
+                Arrays.sort(sortedMaxs, from, Math.min(sortedMaxs.length, from + BLOCK));
+            }
+        }
+
+        static Snapshot build(Map<Long, long[]> salaries) {
+            int n = salaries.size();
+            long[] rawMins = new long[n];
+            long[] rawMaxs = new long[n];
+            long[] rawIds = new long[n];
+
+            int i = 0;
+            for (Map.Entry<Long, long[]> entry : salaries.entrySet()) {
+                if (i == n) {
+                    break;  // Map grew while copying; the next refresh picks it up
+                }
+                rawIds[i] = entry.getKey();
+                rawMins[i] = entry.getValue()[0];
+                rawMaxs[i] = entry.getValue()[1];
+                i++;
+            }
+            n = i;
+
+            int[] order = sortedOrder(rawMins, rawIds, n);
+            long[] mins = new long[n];
+            long[] maxs = new long[n];
+            long[] ids = new long[n];
+            for (int p = 0; p < n; p++) {
+                mins[p] = rawMins[order[p]];
+                maxs[p] = rawMaxs[order[p]];
+                ids[p] = rawIds[order[p]];
+            }
+            return new Snapshot(mins, maxs, ids);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        IdPage query(long minSalary, long maxSalary, SalaryMatchMode mode, int offset, int limit) {
+            Range range = new Range(minSalary, maxSalary, mode);
+            long pageEnd = (long) offset + limit;
+            List<Long> jobIds = new ArrayList<>(limit);
+            long count = 0;
+
+            for (int block = range.from - range.from % BLOCK; block < range.to; block += BLOCK) {
+                int from = Math.max(block, range.from);
+                int to = Math.min(block + BLOCK, range.to);
+
+                // Blocks wholly before or after the page only need counting
+                if (from == block && to == blockEnd(block)) {
+                    int matching = range.countInBlock(block, to);
+                    if (count + matching <= offset || count >= pageEnd) {
+                        count += matching;
+                        continue;
+                    }
+                }
+
+                for (int p = from; p < to; p++) {
+                    if (range.accepts(maxs[p])) {
+                        if (count >= offset && count < pageEnd) {
+                            jobIds.add(ids[p]);
+                        }
+                        count++;
+                    }
+                }
+            }
+            return new IdPage(count, jobIds);
+        }
+
+        RoaringBitmap match(long minSalary, long maxSalary, SalaryMatchMode mode) {
+            Range range = new Range(minSalary, maxSalary, mode);
+            RoaringBitmap bitmap = new RoaringBitmap();
+
+            for (int block = range.from - range.from % BLOCK; block < range.to; block += BLOCK) {
+                int from = Math.max(block, range.from);
+                int to = Math.min(block + BLOCK, range.to);
+
+                boolean whole = from == block && to == blockEnd(block);
+                int matching = whole ? range.countInBlock(block, to) : -1;
+                if (matching == 0) {
+                    continue;
+                }
+                for (int p = from; p < to; p++) {
+                    if (matching == to - from || range.accepts(maxs[p])) {
+                        // Fits: SalaryIndex.match() refuses snapshots that may hold larger IDs
+                        bitmap.add((int) ids[p]);
+                    }
+                }
+            }
+            return bitmap;
+        }
+
+        private int blockEnd(int block) {
+            return Math.min(block + BLOCK, ids.length);
+        }
+
+        // Positions [from, to) whose salaryMin qualifies, and the salaryMax condition inside them
+        private final class Range {
+
+            private final int from;
+            private final int to;
+            private final boolean overlap;
+            private final long bound;
+
+            Range(long minSalary, long maxSalary, SalaryMatchMode mode) {
+                to = upperBound(mins, 0, mins.length, maxSalary);
+                if (mode == SalaryMatchMode.WITHIN) {
+                    // salaryMin in [minSalary, maxSalary] and salaryMax <= maxSalary
+                    from = Math.min(to, lowerBound(mins, 0, mins.length, minSalary));
+                    overlap = false;
+                    bound = maxSalary;
+                } else {
+                    // salaryMin <= maxSalary and salaryMax >= minSalary
+                    from = 0;
+                    overlap = true;
+                    bound = minSalary;
+                }
+            }
+
+            boolean accepts(long max) {
+                return overlap ? max >= bound : max <= bound;
+            }
+
+            int countInBlock(int block, int end) {
+                return overlap
+                        ? end - lowerBound(sortedMaxs, block, end, bound)
+                        : upperBound(sortedMaxs, block, end, bound) - block;
+            }
+        }
+
+        // First position in [lo, hi) with values[p] >= value
+        private static int lowerBound(long[] values, int lo, int hi, long value) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // First position in [lo, hi) with values[p] > value
+        private static int upperBound(long[] values, int lo, int hi, long value) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] <= value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // Indirect bottom-up merge sort by (min, id), avoiding boxed comparators
+        private static int[] sortedOrder(long[] mins, long[] ids, int n) {
+            int[] order = new int[n];
+            int[] buffer = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            for (int width = 1; width < n; width <<= 1) {
+                for (int lo = 0; lo < n - width; lo += 2 * width) {
+                    int mid = lo + width;
+                    int hi = Math.min(lo + 2 * width, n);
+                    int left = lo;
+                    int right = mid;
+                    int k = lo;
+                    while (left < mid && right < hi) {
+                        int a = order[left];
+                        int b = order[right];
+                        boolean takeLeft = mins[a] < mins[b] || (mins[a] == mins[b] && ids[a] <= ids[b]);
+                        buffer[k++] = takeLeft ? order[left++] : order[right++];
+                    }
+                    while (left < mid) {
+                        buffer[k++] = order[left++];
+                    }
+                    while (right < hi) {
+                        buffer[k++] = order[right++];
+                    }
+                    System.arraycopy(buffer, lo, order, lo, hi - lo);
+                }
+            }
+            return order;
+        }
+    }
+}
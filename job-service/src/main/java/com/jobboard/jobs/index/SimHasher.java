@@ -0,0 +1,54 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.model.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 64-bit SimHash fingerprints of job postings. Every feature's hash votes
+ * on each bit, weighted, and the fingerprint keeps the bits with a positive
+ * total, so postings that share most of their features differ in only a
+ * few bits. Features are the title words and company name, weighted up so
+ * a shared boilerplate description alone does not make two jobs duplicates,
+ * and the description's word triples.
+ */
+@Component
+public class SimHasher {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int COMPANY_WEIGHT = 2;
+
+    public long fingerprint(Job job) {
+        int[] votes = new int[Long.SIZE];
+        for (String word : MinHasher.words(job.getTitle())) {
+            vote(votes, MinHasher.hash("t:" + word), TITLE_WEIGHT);
+        }
+        if (job.getCompanyName() != null) {
+            vote(votes, MinHasher.hash("c:" + job.getCompanyName().trim().toLowerCase(Locale.ROOT)), COMPANY_WEIGHT);
+        }
+
+        String[] description = MinHasher.words(job.getDescription());
+        for (int i = 0; i + 2 < description.length; i++) {
+            vote(votes, MinHasher.hash("d:" + description[i] + ' ' + description[i + 1] + ' ' + description[i + 2]), 1);
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void vote(int[] votes, long hash, int weight) {
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            votes[bit] += ((hash >>> bit) & 1) != 0 ? weight : -weight;
+        }
+    }
+}
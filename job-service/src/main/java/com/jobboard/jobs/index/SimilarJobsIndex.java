@@ -0,0 +1,233 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobMinHash;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locality-sensitive hashing over the MinHash signatures of active jobs.
+ * Each signature is cut into BANDS bands of ROWS values and the job is filed
+ * under every band's hash; jobs sharing any bucket are candidate neighbours
+ * (likely from about 40% estimated Jaccard similarity up). Buckets hold at
+ * most bucket-capacity jobs, so a lookup examines a bounded number of
+ * candidates however large the catalog grows.
+ */
+@Component
+@Slf4j
+public class SimilarJobsIndex {
+
+    static final int BANDS = 16;
+    static final int ROWS = MinHasher.SIZE / BANDS;
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    // Never overwrites a signature written by createJob/updateJob meanwhile
+    private static final String BACKFILL_SQL = "UPDATE jobs SET minhash = ? WHERE id = ? AND minhash IS NULL";
+
+    private final JobRepository jobRepository;
+    private final MinHasher minHasher;
+    private final JdbcTemplate jdbcTemplate;
+    private final int bucketCapacity;
+
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    // (band, band hash) -> job IDs, oldest first; arrays are replaced, never modified
+    private final Map<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @Data
+    @AllArgsConstructor
+    public static class Neighbour {
+        private long jobId;
+        private double similarity;
+    }
+
+    public SimilarJobsIndex(JobRepository jobRepository,
+                            MinHasher minHasher,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${jobs.similar.bucket-capacity:256}") int bucketCapacity) {
+        this.jobRepository = jobRepository;
+        this.minHasher = minHasher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0;
+        List<JobMinHash> batch;
+        do {
+            batch = jobRepository.findActiveMinHashes(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (JobMinHash stored : batch) {
+                put(stored.getId(), MinHasher.decode(stored.getMinhash()));
+                lastId = stored.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        long backfilled = backfill();
+        ready = true;
+        log.info("Similar jobs index built with {} jobs ({} signatures backfilled)", signatures.size(), backfilled);
+    }
+
+    /**
+     * Computes and stores signatures for jobs that have none (written before
+     * signatures existed, or bypassing JobService). Jobs are read in ID order
+     * and each batch is hashed in parallel.
+     */
+    public long backfill() {
+        long backfilled = 0;
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findWithoutMinHash(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<byte[]> computed = batch.parallelStream().map(minHasher::signature).toList();
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                Job job = batch.get(i);
+                byte[] signature = computed.get(i);
+                if (signature == null) {
+                    continue;
+                }
+                rows.add(new Object[]{signature, job.getId()});
+                if (job.isActive()) {
+                    put(job.getId(), MinHasher.decode(signature));
+                }
+            }
+            jdbcTemplate.batchUpdate(BACKFILL_SQL, rows);
+
+            backfilled += rows.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == BACKFILL_BATCH_SIZE);
+        return backfilled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        apply(event.getJob());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        event.getJobs().forEach(this::apply);
+    }
+
+    // Signature of an indexed (active) job, or null
+    public int[] signatureOf(Long jobId) {
+        return signatures.get(jobId);
+    }
+
+    // Active jobs most similar to the given signature, best first
+    public List<Neighbour> neighbours(Long jobId, int[] signature, int limit) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            long[] ids = buckets.get(bucketKey(band, signature));
+            if (ids != null) {
+                for (long id : ids) {
+                    candidates.add(id);
+                }
+            }
+        }
+        candidates.remove(jobId);
+
+        List<Neighbour> neighbours = new ArrayList<>(candidates.size());
+        for (Long candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other != null) {
+                neighbours.add(new Neighbour(candidate, MinHasher.similarity(signature, other)));
+            }
+        }
+        neighbours.sort(Comparator.comparingDouble(Neighbour::getSimilarity)
+                .thenComparingLong(Neighbour::getJobId)
+                .reversed());
+        return neighbours.size() > limit ? neighbours.subList(0, limit) : neighbours;
+    }
+
+    private void apply(Job job) {
+        if (job.isActive() && job.getMinhash() != null) {
+            put(job.getId(), MinHasher.decode(job.getMinhash()));
+        } else {
+            remove(job.getId());
+        }
+    }
+
+    private synchronized void put(Long jobId, int[] signature) {
+        int[] previous = signatures.put(jobId, signature);
+        if (previous != null) {
+            if (Arrays.equals(previous, signature)) {
+                return;
+            }
+            unfile(jobId, previous);
+        }
+
+        for (int band = 0; band < BANDS; band++) {
+            buckets.compute(bucketKey(band, signature), (key, ids) -> {
+                if (ids == null) {
+                    return new long[]{jobId};
+                }
+                // A full bucket drops its oldest job; it stays reachable through its other bands
+                int keep = Math.min(ids.length, bucketCapacity - 1);
+                long[] updated = Arrays.copyOfRange(ids, ids.length - keep, ids.length + 1);
+                updated[keep] = jobId;
+                return updated;
+            });
+        }
+    }
+
+    private synchronized void remove(Long jobId) {
+        int[] previous = signatures.remove(jobId);
+        if (previous != null) {
+            unfile(jobId, previous);
+        }
+    }
+
+    private void unfile(long jobId, int[] signature) {
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfPresent(bucketKey(band, signature), (key, ids) -> {
+                long[] remaining = Arrays.stream(ids).filter(id -> id != jobId).toArray();
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+    }
+
+    private static long bucketKey(int band, int[] signature) {
+        int hash = 1;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = 31 * hash + signature[row];
+        }
+        return ((long) band << 32) | (hash & 0xFFFFFFFFL);
+    }
+}
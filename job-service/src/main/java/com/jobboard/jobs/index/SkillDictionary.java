@@ -0,0 +1,179 @@
+package com.jobboard.jobs.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Canonical skill names with dense integer IDs, so a job's skills fit in a
+ * small bitset. Names are lower-cased with whitespace collapsed and then
+ * resolved through the alias file ("js" -> "javascript"). IDs are handed out
+ * on first sight and live only in memory, like the indexes that use them.
+ * Each ID counts the encoded job bitsets holding it; once none do, the owner
+ * of those bitsets can reclaim it and the lowest free ID is handed out next.
+ */
+@Component
+@Slf4j
+public class SkillDictionary {
+
+    private final Map<String, String> aliases = new HashMap<>();
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new CopyOnWriteArrayList<>();
+
+    // Guarded by this: live bitsets per ID, IDs no bitset holds, and reclaimed IDs
+    private int[] refs = new int[64];
+    private final Set<Integer> unused = new HashSet<>();
+    private final Queue<Integer> free = new PriorityQueue<>();
+
+    public SkillDictionary(@Value("${jobs.skills.aliases:classpath:skill-aliases.properties}") Resource aliasFile) {
+        if (!aliasFile.exists()) {
+            log.warn("Skill alias file {} not found, skills are only normalized", aliasFile);
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = aliasFile.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load skill aliases from " + aliasFile, e);
+        }
+        properties.forEach((alias, canonical) -> aliases.put(normalize((String) alias), normalize((String) canonical)));
+        log.info("Loaded {} skill aliases", aliases.size());
+    }
+
+    // Spelling-level normalization only; see canonical() for aliases
+    public static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    public String canonical(String skill) {
+        String normalized = normalize(skill);
+        return aliases.getOrDefault(normalized, normalized);
+    }
+
+    // Canonical, de-duplicated skills of a comma-separated list, in order of appearance
+    public Set<String> parse(String skillsRequired) {
+        Set<String> skills = new LinkedHashSet<>();
+        if (skillsRequired == null) {
+            return skills;
+        }
+        for (String skill : skillsRequired.split(",")) {
+            String canonical = canonical(skill);
+            if (!canonical.isEmpty()) {
+                skills.add(canonical);
+            }
+        }
+        return skills;
+    }
+
+    // Bitset of a job's skills; unseen skills get new IDs. Give it back through release() when dropped
+    public synchronized BitSet encode(String skillsRequired) {
+        BitSet bits = new BitSet();
+        for (String skill : parse(skillsRequired)) {
+            int id = idOf(skill);
+            bits.set(id);
+            if (refs[id]++ == 0) {
+                unused.remove(id);
+            }
+        }
+        return bits;
+    }
+
+    public synchronized void release(BitSet bits) {
+        bits.stream().forEach(id -> {
+            if (--refs[id] == 0) {
+                unused.add(id);
+            }
+        });
+    }
+
+    // IDs no encoded bitset holds right now
+    public synchronized Set<Integer> unused() {
+        return new HashSet<>(unused);
+    }
+
+    /**
+     * Frees the given IDs that are still unused, so their names are forgotten
+     * and the IDs go to new skills. Only safe once every bitset that could
+     * still hold them has been discarded.
+     */
+    public synchronized void reclaim(Collection<Integer> candidates) {
+        for (int id : candidates) {
+            if (refs[id] == 0 && unused.remove(id)) {
+                ids.remove(names.get(id));
+                names.set(id, null);
+                free.add(id);
+            }
+        }
+    }
+
+    // Bitset of a candidate's skills; skills no job has ever listed go to unknown instead of getting IDs
+    public BitSet lookup(Collection<String> skills, Collection<String> known, Collection<String> unknown) {
+        BitSet bits = new BitSet();
+        for (String skill : skills) {
+            String canonical = canonical(skill);
+            if (canonical.isEmpty()) {
+                continue;
+            }
+            Integer id = ids.get(canonical);
+            if (id != null) {
+                bits.set(id);
+                known.add(canonical);
+            } else {
+                unknown.add(canonical);
+            }
+        }
+        return bits;
+    }
+
+    public List<String> names(BitSet bits) {
+        List<String> skills = new ArrayList<>(bits.cardinality());
+        bits.stream().mapToObj(names::get).filter(Objects::nonNull).forEach(skills::add);
+        return skills;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private int idOf(String skill) {
+        Integer id = ids.get(skill);
+        if (id != null) {
+            return id;
+        }
+        Integer reclaimed = free.poll();
+        int next = reclaimed != null ? reclaimed : names.size();
+        if (reclaimed != null) {
+            names.set(next, skill);
+        } else {
+            names.add(skill);
+        }
+        if (next >= refs.length) {
+            refs = Arrays.copyOf(refs, refs.length * 2);
+        }
+        ids.put(skill, next);
+        return next;
+    }
+}
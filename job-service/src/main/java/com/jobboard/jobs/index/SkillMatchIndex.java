@@ -0,0 +1,411 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Skill bitsets of active jobs, ranked against a candidate's skills by
+ * Jaccard similarity (|A and B| / |A or B|, both from popcounts). The
+ * snapshot stores every job's words back to back in one long[] so a query
+ * is a parallel scan over primitive arrays with a bounded top-k per chunk.
+ * Writes go to a live map; each refresh rebuilds only a small tail segment of
+ * the jobs changed since the base segment was built and masks their old base
+ * entries, and the tail is folded into a new base once it outgrows an eighth of it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillMatchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int CHUNK_SIZE = 32_768;
+    private static final int MIN_COMPACT_JOBS = 1024;
+    private static final int COMPACT_RATIO = 8;
+
+    private final JobRepository jobRepository;
+    private final SkillDictionary skillDictionary;
+
+    // jobId -> skill bitset words; source for the next snapshot
+    private final Map<Long, long[]> live = new ConcurrentHashMap<>();
+    // Jobs written since the last refresh
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    // Jobs written since the base segment was built; only touched by refresh()
+    private final Set<Long> tailJobs = new HashSet<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+
+    @Data
+    @AllArgsConstructor
+    public static class Match {
+        private long jobId;
+        private double score;
+        private int matchedCount;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class MatchPage {
+        private long totalMatches;
+        private List<Match> matches;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                put(job);
+                lastId = job.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        refresh();
+        ready = true;
+        log.info("Skill match index built with {} jobs and {} distinct skills", live.size(), skillDictionary.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        put(event.getJob());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        event.getJobs().forEach(this::put);
+    }
+
+    // Synchronized so a slow scheduled build cannot publish over a newer one from rebuild()
+    // Synchronized so a slow scheduled build cannot publish over a newer one from rebuild()
+    @Scheduled(fixedDelayString = "${jobs.skill-index.refresh-interval-ms:500}")
+    public synchronized void refresh() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Long> drained = new ArrayList<>(changed);
+        // Removed before reading live, so a write racing this refresh is either read now or queued again
+        changed.removeAll(drained);
+        tailJobs.addAll(drained);
+
+        Snapshot current = snapshot;
+        if (tailJobs.size() > Math.max(MIN_COMPACT_JOBS, current.base.size() / COMPACT_RATIO)) {
+            compact();
+        } else {
+            snapshot = current.withTail(drained, Segment.build(live, tailJobs));
+        }
+    }
+
+    /**
+     * Jobs sharing at least one skill with the candidate, best first: higher
+     * Jaccard score, then more shared skills, then newer job.
+     */
+    public MatchPage match(BitSet candidate, int offset, int limit) {
+        return snapshot.match(candidate.toLongArray(), candidate.cardinality(), offset + limit, offset);
+    }
+
+    // The candidate's skills this job asks for, from the live map
+    public BitSet matchedSkills(long jobId, BitSet candidate) {
+        long[] words = live.get(jobId);
+        BitSet matched = words != null ? BitSet.valueOf(words) : new BitSet();
+        matched.and(candidate);
+        return matched;
+    }
+
+    private void put(Job job) {
+        BitSet skills = job.isActive() ? skillDictionary.encode(job.getSkillsRequired()) : new BitSet();
+        long[] previous = skills.isEmpty()
+                ? live.remove(job.getId())
+                : live.put(job.getId(), skills.toLongArray());
+        if (previous != null) {
+            skillDictionary.release(BitSet.valueOf(previous));
+        }
+        changed.add(job.getId());
+    }
+
+    // Folds the tail into a new base; skill IDs unused before the build can be handed out again after it
+    private void compact() {
+        Set<Integer> unused = skillDictionary.unused();
+        snapshot = new Snapshot(Segment.build(live, live.keySet()), new long[0], Segment.EMPTY);
+        tailJobs.clear();
+        skillDictionary.reclaim(unused);
+    }
+
+    static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Segment.EMPTY, new long[0], Segment.EMPTY);
+
+        private final Segment base;
+        // Bit p set when base position p was changed or removed since the base was built
+        private final long[] dead;
+        // Current version of every job changed since the base was built, in ascending ID order
+        private final Segment tail;
+
+        private Snapshot(Segment base, long[] dead, Segment tail) {
+            this.base = base;
+            this.dead = dead;
+            this.tail = tail;
+        }
+
+        Snapshot withTail(List<Long> changedJobs, Segment tail) {
+            long[] marked = dead;
+            for (long jobId : changedJobs) {
+                int p = Arrays.binarySearch(base.jobIds, jobId);
+                if (p < 0 || isDead(marked, p)) {
+                    continue;
+                }
+                if (marked == dead) {
+                    marked = Arrays.copyOf(dead, (base.size() + 63) >>> 6);
+                }
+                marked[p >>> 6] |= 1L << p;
+            }
+            return new Snapshot(base, marked, tail);
+        }
+
+        MatchPage match(long[] query, int queryCardinality, int k, int offset) {
+            if (queryCardinality == 0 || k <= 0) {
+                return new MatchPage(0, List.of());
+            }
+
+            // The last chunk is the tail segment
+            int chunks = (base.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            List<TopK> perChunk = IntStream.rangeClosed(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> chunk == chunks
+                            ? tail.scan(query, queryCardinality, k, 0, tail.size(), null)
+                            : base.scan(query, queryCardinality, k,
+                                    chunk * CHUNK_SIZE, Math.min(base.size(), (chunk + 1) * CHUNK_SIZE), dead))
+                    .toList();
+
+            TopK top = new TopK(k);
+            perChunk.forEach(top::merge);
+
+            List<Match> ranked = top.sorted();
+            return new MatchPage(top.total, offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size()));
+        }
+
+        private static boolean isDead(long[] dead, int p) {
+            return dead != null && (p >>> 6) < dead.length && (dead[p >>> 6] & (1L << p)) != 0;
+        }
+    }
+
+    static final class Segment {
+
+        private static final Segment EMPTY = new Segment(new long[0], new int[1], new long[0], new int[0]);
+
+        // Job p's bitset is words[starts[p] .. starts[p + 1]); jobs are in ascending ID order
+        private final long[] jobIds;
+        private final int[] starts;
+        private final long[] words;
+        private final int[] cardinalities;
+
+        private Segment(long[] jobIds, int[] starts, long[] words, int[] cardinalities) {
+            this.jobIds = jobIds;
+            this.starts = starts;
+            this.words = words;
+            this.cardinalities = cardinalities;
+        }
+
+        // The given jobs that are still in the live map
+        static Segment build(Map<Long, long[]> skills, Collection<Long> jobs) {
+            long[] sorted = jobs.stream().mapToLong(Long::longValue).sorted().toArray();
+            long[] jobIds = new long[sorted.length];
+            List<long[]> bitsets = new ArrayList<>(sorted.length);
+            int n = 0;
+            for (long jobId : sorted) {
+                long[] bits = skills.get(jobId);
+                if (bits != null) {
+                    jobIds[n++] = jobId;
+                    bitsets.add(bits);
+                }
+            }
+            jobIds = Arrays.copyOf(jobIds, n);
+            int[] starts = new int[n + 1];
+            int[] cardinalities = new int[n];
+
+            int totalWords = 0;
+            for (int p = 0; p < n; p++) {
+                long[] bits = bitsets.get(p);
+                starts[p] = totalWords;
+                totalWords += bits.length;
+                for (long word : bits) {
+                    cardinalities[p] += Long.bitCount(word);
+                }
+            }
+            starts[n] = totalWords;
+
+            long[] words = new long[totalWords];
+            for (int p = 0; p < n; p++) {
+                long[] bits = bitsets.get(p);
+                System.arraycopy(bits, 0, words, starts[p], bits.length);
+            }
+            return new Segment(jobIds, starts, words, cardinalities);
+        }
+
+        int size() {
+            return jobIds.length;
+        }
+
+        private TopK scan(long[] query, int queryCardinality, int k, int from, int to, long[] dead) {
+            TopK top = new TopK(k);
+            for (int p = from; p < to; p++) {
+                if (Snapshot.isDead(dead, p)) {
+                    continue;
+                }
+                int start = starts[p];
+                int length = Math.min(starts[p + 1] - start, query.length);
+
+                int shared = 0;
+                for (int w = 0; w < length; w++) {
+                    shared += Long.bitCount(words[start + w] & query[w]);
+                }
+                if (shared == 0) {
+                    continue;
+                }
+
+                double score = (double) shared / (cardinalities[p] + queryCardinality - shared);
+                top.offer(jobIds[p], score, shared);
+            }
+            return top;
+        }
+    }
+
+    // Bounded min-heap of job IDs, so each chunk keeps only its k best
+    private static final class TopK {
+
+        private final int capacity;
+        private final long[] jobIds;
+        private final double[] scores;
+        private final int[] shared;
+        private int size;
+        private long total;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            this.jobIds = new long[capacity];
+            this.scores = new double[capacity];
+            this.shared = new int[capacity];
+        }
+
+        void offer(long jobId, double score, int sharedCount) {
+            total++;
+            if (size < capacity) {
+                jobIds[size] = jobId;
+                scores[size] = score;
+                shared[size] = sharedCount;
+                siftUp(size++);
+            } else if (worse(0, score, sharedCount, jobId)) {
+                jobIds[0] = jobId;
+                scores[0] = score;
+                shared[0] = sharedCount;
+                siftDown(0);
+            }
+        }
+
+        void merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.jobIds[i], other.scores[i], other.shared[i]);
+            }
+            // offer() counted the kept entries again; the other heap's total already includes them
+            total += other.total - other.size;
+        }
+
+        List<Match> sorted() {
+            List<Match> matches = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                matches.add(new Match(jobIds[i], scores[i], shared[i]));
+            }
+            matches.sort((a, b) -> compare(b.getScore(), b.getMatchedCount(), b.getJobId(),
+                    a.getScore(), a.getMatchedCount(), a.getJobId()));
+            return matches;
+        }
+
+        // True when heap slot i ranks below the given candidate
+        private boolean worse(int i, double score, int sharedCount, long jobId) {
+            return compare(scores[i], shared[i], jobIds[i], score, sharedCount, jobId) < 0;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!lower(i, parent)) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int lowest = i;
+                if (left < size && lower(left, lowest)) {
+                    lowest = left;
+                }
+                if (right < size && lower(right, lowest)) {
+                    lowest = right;
+                }
+                if (lowest == i) {
+                    return;
+                }
+                swap(i, lowest);
+                i = lowest;
+            }
+        }
+
+        private boolean lower(int a, int b) {
+            return compare(scores[a], shared[a], jobIds[a], scores[b], shared[b], jobIds[b]) < 0;
+        }
+
+        private void swap(int a, int b) {
+            long jobId = jobIds[a];
+            jobIds[a] = jobIds[b];
+            jobIds[b] = jobId;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int count = shared[a];
+            shared[a] = shared[b];
+            shared[b] = count;
+        }
+
+        private static int compare(double scoreA, int sharedA, long idA, double scoreB, int sharedB, long idB) {
+            int byScore = Double.compare(scoreA, scoreB);
+            if (byScore != 0) {
+                return byScore;
+            }
+            int byShared = Integer.compare(sharedA, sharedB);
+            return byShared != 0 ? byShared : Long.compare(idA, idB);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.jobboard.jobs.listener;
+
+import com.jobboard.jobs.cache.EmployerDashboardCache;
+import com.jobboard.jobs.cache.JobCache;
+import com.jobboard.jobs.cache.ListingGeneration;
+import com.jobboard.jobs.cache.MyApplicationsCache;
+import com.jobboard.jobs.dto.JobCacheInvalidationEvent;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobCacheInvalidationListener {
+
+    private final JobCache jobCache;
+    private final MyApplicationsCache myApplicationsCache;
+    private final EmployerDashboardCache employerDashboardCache;
+    private final ListingGeneration listingGeneration;
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @RabbitListener(queues = "#{jobCacheInvalidationQueue.name}")
+    public void handleJobCacheInvalidationEvent(JobCacheInvalidationEvent event) {
+        if (jobCache.getInstanceId().equals(event.getOrigin())) {
+            return;  // Our own broadcast, already evicted locally
+        }
+
+        log.debug("Received Job Cache Invalidation event: {}", event);
+        if (event.getApplicantIds() != null) {
+            myApplicationsCache.evictLocal(event.getApplicantIds());
+        }
+        if (event.getEmployerIds() != null) {
+            employerDashboardCache.evictLocal(event.getEmployerIds());
+        }
+        if (event.getDashboardDeltas() != null) {
+            event.getDashboardDeltas().forEach(employerDashboardCache::applyRemote);
+        }
+        if (event.getJobIds() == null || event.getJobIds().isEmpty()) {
+            return;
+        }
+
+        jobCache.evictLocal(event.getJobIds());
+
+        // Another replica wrote these jobs; replay them so local indexes catch up
+        if (event.isContentChanged()) {
+            eventPublisher.publishEvent(JobBatchChangedEvent.replicated(jobRepository.findAllById(event.getJobIds())));
+        } else {
+            eventPublisher.publishEvent(ApplicationCountsChangedEvent.forJobs(event.getJobIds()));
+        }
+        // Published outside a transaction, so listeners ran in no particular order; all of them are done now
+        listingGeneration.advance();
+    }
+}
@@ -0,0 +1,54 @@
+package com.jobboard.jobs.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A write request sent with an Idempotency-Key, shared by every replica
+ * through IdempotencyStore. The row is inserted before the request runs
+ * and gets the serialized response in the request's own transaction.
+ */
+@Entity
+@Table(name = "idempotent_requests",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "operation", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotent_requests_created", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotentRequest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotent_requests_seq")
+    @SequenceGenerator(name = "idempotent_requests_seq", sequenceName = "idempotent_requests_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String operation;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;  // SHA-256 of the request body as JSON
+
+    @Lob
+    @Column(name = "response")
+    private String response;  // JSON; null while the request is still running
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -8,20 +8,34 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        // Seek indexes for keyset pagination (newest first)
+        @Index(name = "idx_jobs_active_created", columnList = "is_active, created_at, id"),
+        @Index(name = "idx_jobs_category_created", columnList = "category, is_active, created_at, id"),
+        @Index(name = "idx_jobs_type_created", columnList = "job_type, is_active, created_at, id"),
+        // Expiry sweep: active jobs whose deadline has passed, oldest first
+        @Index(name = "idx_jobs_active_deadline", columnList = "is_active, application_deadline, id"),
+        // An employer's own jobs (my-jobs, dashboard)
+        @Index(name = "idx_jobs_posted_by", columnList = "posted_by_user_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Job {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts (bulk import)
+    // JobFacetIndex and SalaryIndex.match() keep IDs in int bitmaps: past Integer.MAX_VALUE the facet
+    // index leaves new jobs out, salary matching is refused and queries fall back to the database
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -69,9 +83,21 @@ public class Job {
     @Column(name = "is_active")
     private boolean isActive = true;
 
+    // Written only by ApplicationCountAccumulator's flush and reconcile queries; saving a job read
+    // earlier must not put back a count those have moved since
+    @ColumnDefault("0")
+    @Column(name = "application_count", nullable = false, insertable = false, updatable = false)
+    private long applicationCount;
+
     @Column(name = "application_deadline")
     private LocalDateTime applicationDeadline;
 
+    @Column(name = "minhash", length = 256)
+    private byte[] minhash;  // MinHash signature of the job text, see MinHasher
+
+    @Column(name = "duplicate_of_job_id")
+    private Long duplicateOfJobId;  // Near-duplicate of this job when created under the FLAG policy
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_seq")
+    @SequenceGenerator(name = "job_applications_seq", sequenceName = "job_applications_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "job_id", nullable = false)
@@ -0,0 +1,52 @@
+package com.jobboard.jobs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * View analytics of a job for one UTC day; same columns as JobViewSketch.
+ */
+@Entity
+@Table(name = "job_daily_view_sketches")
+@IdClass(JobDailyViewSketch.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobDailyViewSketch {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Id
+    @Column(name = "view_date")
+    private LocalDate day;
+
+    @Column(name = "viewers", nullable = false, length = 3073)
+    private byte[] viewers;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long applications;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long jobId;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobboard.jobs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Trending score of a job across all replicas: weighted views and
+ * applications, exponentially decayed up to decayedAt. Written only by
+ * TrendingJobsTracker through JDBC.
+ */
+@Entity
+@Table(name = "job_popularity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobPopularity {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "decayed_at", nullable = false)
+    private long decayedAt;  // Epoch seconds; plain numbers keep the decay arithmetic portable SQL
+}
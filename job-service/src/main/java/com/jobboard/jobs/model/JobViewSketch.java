@@ -0,0 +1,36 @@
+package com.jobboard.jobs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * All-time view analytics of a job, merged from every replica by
+ * JobViewTracker through JDBC.
+ */
+@Entity
+@Table(name = "job_view_sketches")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobViewSketch {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "viewers", nullable = false, length = 3073)
+    private byte[] viewers;  // Serialized HyperLogLog of viewer keys
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long applications;  // Applications recorded alongside views, for conversion
+}
@@ -0,0 +1,515 @@
+package com.jobboard.jobs.readmodel;
+
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobApplicationCount;
+import com.jobboard.jobs.repository.JobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalized, in-memory read side of the public job listings. Job writes and
+ * application counter flushes are queued as they commit and folded in by a
+ * single applier thread, which publishes an immutable snapshot of the active
+ * jobs pre-sorted newest first (overall, per category and per job type).
+ * Listings page and seek over those arrays instead of querying the jobs table.
+ * Each applied batch merges only its changed rows into the previous snapshot's
+ * arrays. Job detail is not served from here; it needs the full row.
+ */
+@Component
+@Slf4j
+public class JobReadModel {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // How long a deactivated job is remembered, so a late event written before the deactivation can't revive it
+    private static final long TOMBSTONE_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private static final Comparator<JobView> NEWEST_FIRST = Comparator
+            .comparingLong(JobView::getCreatedAtKey)
+            .thenComparingLong(JobView::getId)
+            .reversed();
+
+    // Listing sort properties the read model can serve, ascending
+    private static final Map<String, Comparator<JobView>> SORTABLE = Map.of(
+            "id", Comparator.comparingLong(JobView::getId),
+            "createdAt", Comparator.comparingLong(JobView::getCreatedAtKey),
+            "title", Comparator.comparing(JobView::getTitle),
+            "companyName", Comparator.comparing(JobView::getCompanyName),
+            "salaryMin", Comparator.comparingLong(JobView::getSalaryMinKey),
+            "salaryMax", Comparator.comparingLong(JobView::getSalaryMaxKey),
+            "applicationCount", Comparator.comparingLong(JobView::getApplicationCount));
+
+    private final JobRepository jobRepository;
+    private final boolean enabled;
+    private final Timer applyDelay;
+
+    // Active jobs; written only by the applier thread
+    private final Map<Long, JobView> views = new ConcurrentHashMap<>();
+    // Recently deactivated jobs, oldest first; applier thread only
+    private final LinkedHashMap<Long, Tombstone> tombstones = new LinkedHashMap<>();
+    private final BlockingQueue<Change> changes = new LinkedBlockingQueue<>();
+    private final ExecutorService applier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-read-model");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+    private final AtomicLong version = new AtomicLong();  // Snapshots published so far
+    private volatile boolean ready;
+    private volatile Long applyingSince;  // Enqueue time of the oldest change being applied
+
+    private record Tombstone(LocalDateTime updatedAt, long removedNanos) {
+    }
+
+    private record Change(List<JobView> views,
+                          List<Long> countJobIds,
+                          boolean allCounts,
+                          CompletableFuture<Long> rebuild,
+                          long enqueuedNanos) {
+    }
+
+    public JobReadModel(JobRepository jobRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${jobs.read-model.enabled:true}") boolean enabled) {
+        this.jobRepository = jobRepository;
+        this.enabled = enabled;
+
+        this.applyDelay = Timer.builder("jobs.read_model.apply.delay")
+                .description("Time from a write committing to it being visible in the read model")
+                .register(meterRegistry);
+        Gauge.builder("jobs.read_model.lag", this, model -> model.lag().toMillis() / 1000.0)
+                .description("Age of the oldest change not yet applied to the read model")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("jobs.read_model.jobs", views, Map::size)
+                .register(meterRegistry);
+
+        if (enabled) {
+            applier.execute(this::applyLoop);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            requestRebuild();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Reloads every job from the database; queued behind pending changes and applied in order with them
+    public long rebuild() {
+        if (!enabled) {
+            return 0;
+        }
+        try {
+            return requestRebuild().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the job read model", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to rebuild the job read model", e.getCause());
+        }
+    }
+
+    public Duration lag() {
+        Long oldest = applyingSince;
+        Change next = changes.peek();
+        if (oldest == null && next != null) {
+            oldest = next.enqueuedNanos();
+        }
+        return oldest == null ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - oldest);
+    }
+
+    // Moves after every published snapshot, i.e. once a change is visible here, not when it was queued
+    public long version() {
+        return version.get();
+    }
+
+    public int pendingChanges() {
+        return changes.size();
+    }
+
+    public int size() {
+        return views.size();
+    }
+
+    public int activeSize() {
+        return snapshot.newest.length;
+    }
+
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        enqueue(List.of(JobView.of(event.getJob())), null, false, null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        enqueue(event.getJobs().stream().map(JobView::of).toList(), null, false, null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationCountsChanged(ApplicationCountsChangedEvent event) {
+        enqueue(List.of(), event.getJobIds(), event.getJobIds() == null, null);
+    }
+
+    // Active jobs among the given IDs; IDs missing from the result are inactive or not applied yet
+    public Map<Long, JobView> findAll(Collection<Long> jobIds) {
+        Map<Long, JobView> found = new HashMap<>();
+        for (Long jobId : jobIds) {
+            JobView view = views.get(jobId);
+            if (view != null) {
+                found.put(jobId, view);
+            }
+        }
+        return found;
+    }
+
+    // Single-property sorts on the columns above, or none
+    public boolean supports(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.isEmpty() || (orders.size() == 1 && SORTABLE.containsKey(orders.get(0).getProperty()));
+    }
+
+    // Active jobs, optionally of one category or job type; check supports(sort) first
+    public Page<JobView> findActive(JobCategory category, JobType jobType, Pageable pageable) {
+        JobView[] rows = snapshot.rows(category, jobType, pageable.getSort());
+
+        int from = (int) Math.min(pageable.getOffset(), rows.length);
+        int to = Math.min(rows.length, from + pageable.getPageSize());
+        return new PageImpl<>(Arrays.asList(rows).subList(from, to), pageable, rows.length);
+    }
+
+    // Newest-first keyset page: active jobs strictly after (createdAt, id)
+    public Slice<JobView> findActiveBefore(JobCategory category, JobType jobType,
+                                           LocalDateTime createdAt, Long id, int size) {
+        JobView[] rows = snapshot.rows(category, jobType, Sort.unsorted());
+        long createdAtKey = JobView.sortKey(createdAt);
+
+        // First row that sorts after the cursor
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            JobView row = rows[mid];
+            boolean afterCursor = row.getCreatedAtKey() < createdAtKey
+                    || (row.getCreatedAtKey() == createdAtKey && row.getId() < id);
+            if (afterCursor) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        int to = Math.min(rows.length, low + size);
+        return new SliceImpl<>(Arrays.asList(rows).subList(low, to), PageRequest.of(0, size), to < rows.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        applier.shutdownNow();
+    }
+
+    private CompletableFuture<Long> requestRebuild() {
+        CompletableFuture<Long> done = new CompletableFuture<>();
+        enqueue(List.of(), null, false, done);
+        return done;
+    }
+
+    private void enqueue(List<JobView> changed, List<Long> countJobIds, boolean allCounts,
+                         CompletableFuture<Long> rebuild) {
+        if (enabled) {
+            changes.add(new Change(changed, countJobIds, allCounts, rebuild, System.nanoTime()));
+        }
+    }
+
+    private void applyLoop() {
+        List<Change> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(changes.take());
+                changes.drainTo(batch);
+                applyingSince = batch.get(0).enqueuedNanos();
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Views already applied stay; lost counter refreshes are caught up by the next reconcile
+                log.error("Failed to apply {} read model changes: {}", batch.size(), e.getMessage(), e);
+                batch.stream()
+                        .filter(change -> change.rebuild() != null)
+                        .forEach(change -> change.rebuild().completeExceptionally(e));
+            } finally {
+                applyingSince = null;
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<Change> batch) {
+        List<CompletableFuture<Long>> rebuilds = new ArrayList<>();
+        // ID -> row before this batch (null if it was not listed), for every job the batch touched
+        Map<Long, JobView> before = new HashMap<>();
+        for (Change change : batch) {
+            if (change.rebuild() != null) {
+                reload();
+                rebuilds.add(change.rebuild());
+            }
+            change.views().forEach(view -> put(view, before));
+            if (change.allCounts()) {
+                refreshCounts(jobRepository.findAllApplicationCounts(), before);
+            } else if (change.countJobIds() != null && !change.countJobIds().isEmpty()) {
+                refreshCounts(jobRepository.findApplicationCounts(change.countJobIds()), before);
+            }
+        }
+        pruneTombstones();
+
+        if (!rebuilds.isEmpty()) {
+            snapshot = Snapshot.build(views.values());
+            version.incrementAndGet();
+        } else if (!before.isEmpty()) {
+            snapshot = snapshot.merge(before, views);
+            version.incrementAndGet();
+        }
+
+        long now = System.nanoTime();
+        batch.forEach(change -> applyDelay.record(now - change.enqueuedNanos(), TimeUnit.NANOSECONDS));
+
+        if (!rebuilds.isEmpty()) {
+            ready = true;
+            log.info("Job read model rebuilt with {} jobs ({} active)", views.size(), snapshot.newest.length);
+            rebuilds.forEach(done -> done.complete((long) views.size()));
+        }
+    }
+
+    private void put(JobView view, Map<Long, JobView> before) {
+        // Events can arrive out of commit order; keep whichever write is newer
+        JobView current = views.get(view.getId());
+        Tombstone tombstone = tombstones.get(view.getId());
+        if (!view.isNotOlderThan(current) || (tombstone != null && !view.isNotOlderThan(tombstone.updatedAt()))) {
+            return;
+        }
+
+        before.putIfAbsent(view.getId(), current);
+        if (view.isActive()) {
+            views.put(view.getId(), view);
+            tombstones.remove(view.getId());
+        } else {
+            views.remove(view.getId());
+            // Re-inserted so the map stays in removal order
+            tombstones.remove(view.getId());
+            tombstones.put(view.getId(), new Tombstone(view.getUpdatedAt(), System.nanoTime()));
+        }
+    }
+
+    private void refreshCounts(List<JobApplicationCount> counts, Map<Long, JobView> before) {
+        for (JobApplicationCount count : counts) {
+            JobView view = views.get(count.getId());
+            if (view != null && view.getApplicationCount() != count.getApplicationCount()) {
+                before.putIfAbsent(view.getId(), view);
+                views.put(view.getId(), view.withApplicationCount(count.getApplicationCount()));
+            }
+        }
+    }
+
+    private void pruneTombstones() {
+        long now = System.nanoTime();
+        Iterator<Tombstone> oldestFirst = tombstones.values().iterator();
+        while (oldestFirst.hasNext() && now - oldestFirst.next().removedNanos() > TOMBSTONE_TTL_NANOS) {
+            oldestFirst.remove();
+        }
+    }
+
+    private void reload() {
+        Map<Long, JobView> loaded = new HashMap<>();
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId,
+                    PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                loaded.put(job.getId(), JobView.of(job));
+                lastId = job.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        views.keySet().retainAll(loaded.keySet());
+        views.putAll(loaded);
+    }
+
+    static final class Snapshot {
+
+        private final JobView[] newest;
+        private final Map<JobCategory, JobView[]> byCategory;
+        private final Map<JobType, JobView[]> byJobType;
+
+        // Other orderings are sorted on first use and kept for the life of the snapshot
+        private final Map<String, JobView[]> resorted = new ConcurrentHashMap<>();
+
+        private Snapshot(JobView[] newest, Map<JobCategory, JobView[]> byCategory, Map<JobType, JobView[]> byJobType) {
+            this.newest = newest;
+            this.byCategory = byCategory;
+            this.byJobType = byJobType;
+        }
+
+        static Snapshot build(Collection<JobView> views) {
+            JobView[] newest = views.stream()
+                    .filter(JobView::isActive)
+                    .sorted(NEWEST_FIRST)
+                    .toArray(JobView[]::new);
+            return new Snapshot(newest, group(newest, JobView::getCategory, JobCategory.class),
+                    group(newest, JobView::getJobType, JobType.class));
+        }
+
+        /**
+         * The next snapshot after the given jobs changed: their old rows are dropped
+         * and their current rows merged in, in one linear pass per affected array.
+         * Categories and job types none of them was or is in keep their arrays.
+         */
+        Snapshot merge(Map<Long, JobView> before, Map<Long, JobView> current) {
+            List<JobView> changed = new ArrayList<>();
+            Set<JobCategory> categories = EnumSet.noneOf(JobCategory.class);
+            Set<JobType> jobTypes = EnumSet.noneOf(JobType.class);
+            before.forEach((id, old) -> {
+                JobView now = current.get(id);
+                for (JobView view : new JobView[]{old, now}) {
+                    if (view != null) {
+                        categories.add(view.getCategory());
+                        jobTypes.add(view.getJobType());
+                    }
+                }
+                if (now != null) {
+                    changed.add(now);
+                }
+            });
+            changed.sort(NEWEST_FIRST);
+            Set<Long> replaced = before.keySet();
+
+            Map<JobCategory, JobView[]> nextByCategory = new EnumMap<>(byCategory);
+            for (JobCategory category : categories) {
+                put(nextByCategory, category, merge(byCategory.get(category), replaced,
+                        changed.stream().filter(view -> view.getCategory() == category).toList()));
+            }
+            Map<JobType, JobView[]> nextByJobType = new EnumMap<>(byJobType);
+            for (JobType jobType : jobTypes) {
+                put(nextByJobType, jobType, merge(byJobType.get(jobType), replaced,
+                        changed.stream().filter(view -> view.getJobType() == jobType).toList()));
+            }
+            return new Snapshot(merge(newest, replaced, changed), nextByCategory, nextByJobType);
+        }
+
+        // rows without the replaced IDs, merged with the (newest-first) inserts
+        private static JobView[] merge(JobView[] rows, Set<Long> replaced, List<JobView> inserts) {
+            JobView[] existing = rows != null ? rows : new JobView[0];
+            JobView[] merged = new JobView[existing.length + inserts.size()];
+            int size = 0;
+            int next = 0;
+            for (JobView row : existing) {
+                if (replaced.contains(row.getId())) {
+                    continue;
+                }
+                while (next < inserts.size() && NEWEST_FIRST.compare(inserts.get(next), row) < 0) {
+                    merged[size++] = inserts.get(next++);
+                }
+                merged[size++] = row;
+            }
+            while (next < inserts.size()) {
+                merged[size++] = inserts.get(next++);
+            }
+            return size == merged.length ? merged : Arrays.copyOf(merged, size);
+        }
+
+        private static <K extends Enum<K>> void put(Map<K, JobView[]> groups, K key, JobView[] rows) {
+            if (rows.length == 0) {
+                groups.remove(key);
+            } else {
+                groups.put(key, rows);
+            }
+        }
+
+        JobView[] rows(JobCategory category, JobType jobType, Sort sort) {
+            JobView[] base = category != null ? byCategory.getOrDefault(category, new JobView[0])
+                    : jobType != null ? byJobType.getOrDefault(jobType, new JobView[0])
+                    : newest;
+
+            Comparator<JobView> order = comparator(sort);
+            if (order == null) {
+                return base;
+            }
+            String key = category + "|" + jobType + "|" + sort;
+            return resorted.computeIfAbsent(key, k -> {
+                JobView[] copy = base.clone();
+                Arrays.sort(copy, order);
+                return copy;
+            });
+        }
+
+        // Null when the rows are already in the requested order
+        private static Comparator<JobView> comparator(Sort sort) {
+            Sort.Order order = sort.stream().findFirst().orElse(null);
+            if (order == null || (order.getProperty().equals("createdAt") && order.isDescending())) {
+                return null;
+            }
+
+            Comparator<JobView> ascending = SORTABLE.get(order.getProperty())
+                    .thenComparingLong(JobView::getId);
+            return order.isAscending() ? ascending : ascending.reversed();
+        }
+
+        private static <K extends Enum<K>> Map<K, JobView[]> group(JobView[] rows, Function<JobView, K> key,
+                                                                  Class<K> type) {
+            return Arrays.stream(rows).collect(Collectors.groupingBy(key, () -> new EnumMap<>(type),
+                    Collectors.collectingAndThen(Collectors.toList(), list -> list.toArray(JobView[]::new))));
+        }
+    }
+}
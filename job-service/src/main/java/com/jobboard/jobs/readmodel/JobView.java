@@ -0,0 +1,95 @@
+package com.jobboard.jobs.readmodel;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobSummary;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Immutable, denormalized row of the job read model. Listing pages use it
+ * directly as a JobSummary, so it carries only listing columns (no
+ * description); sort keys are computed once when the row is built.
+ */
+@Value
+@Builder(toBuilder = true)
+public class JobView implements JobSummary {
+
+    Long id;
+    String title;
+    String companyName;
+    String location;
+    JobType jobType;
+    JobCategory category;
+    ExperienceLevel experienceLevel;
+    BigDecimal salaryMin;
+    BigDecimal salaryMax;
+    Long postedByUserId;
+    String postedByUsername;
+    boolean active;
+    LocalDateTime applicationDeadline;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    long applicationCount;      // Stored count; callers add this instance's unflushed delta
+
+    // Sort keys; a missing salary sorts first, as it does in the database
+    long createdAtKey;
+    long salaryMinKey;
+    long salaryMaxKey;
+
+    public static JobView of(Job job) {
+        return JobView.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .companyName(job.getCompanyName())
+                .location(job.getLocation())
+                .jobType(job.getJobType())
+                .category(job.getCategory())
+                .experienceLevel(job.getExperienceLevel())
+                .salaryMin(job.getSalaryMin())
+                .salaryMax(job.getSalaryMax())
+                .postedByUserId(job.getPostedByUserId())
+                .postedByUsername(job.getPostedByUsername())
+                .active(job.isActive())
+                .applicationDeadline(job.getApplicationDeadline())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .applicationCount(job.getApplicationCount())
+                .createdAtKey(sortKey(job.getCreatedAt()))
+                .salaryMinKey(toKey(job.getSalaryMin()))
+                .salaryMaxKey(toKey(job.getSalaryMax()))
+                .build();
+    }
+
+    public JobView withApplicationCount(long applicationCount) {
+        return toBuilder().applicationCount(applicationCount).build();
+    }
+
+    // False when this row is older than the given one, so a late event can't undo a newer write
+    boolean isNotOlderThan(JobView other) {
+        return other == null || isNotOlderThan(other.updatedAt);
+    }
+
+    boolean isNotOlderThan(LocalDateTime otherUpdatedAt) {
+        return updatedAt == null || otherUpdatedAt == null || !updatedAt.isBefore(otherUpdatedAt);
+    }
+
+    // Microseconds, the precision the database keeps
+    static long sortKey(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Long.MIN_VALUE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static long toKey(BigDecimal salary) {
+        return salary != null ? salary.setScale(0, RoundingMode.HALF_UP).longValue() : Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobboard.jobs.repository;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+
+// An application's status together with the employer who posted its job
+public interface ApplicationWithEmployer {
+    Long getId();
+    ApplicationStatus getStatus();
+    Long getEmployerId();
+}
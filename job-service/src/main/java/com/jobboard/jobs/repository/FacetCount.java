@@ -0,0 +1,7 @@
+package com.jobboard.jobs.repository;
+
+// Active jobs with one value of a facet (a JobCategory, JobType or ExperienceLevel)
+public interface FacetCount {
+    Enum<?> getValue();
+    long getCount();
+}
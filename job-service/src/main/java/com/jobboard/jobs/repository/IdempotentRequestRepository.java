@@ -0,0 +1,40 @@
+package com.jobboard.jobs.repository;
+
+import com.jobboard.jobs.model.IdempotentRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotentRequestRepository extends JpaRepository<IdempotentRequest, Long> {
+
+    Optional<IdempotentRequest> findByUserIdAndOperationAndIdempotencyKey(Long userId, String operation,
+                                                                          String idempotencyKey);
+
+    long countByUserId(Long userId);
+
+    // A user's completed requests, oldest first, to make room under the per-user cap
+    @Query("SELECT r.id FROM IdempotentRequest r WHERE r.userId = :userId AND r.response IS NOT NULL " +
+            "ORDER BY r.createdAt ASC, r.id ASC")
+    List<Long> findOldestCompletedIds(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE IdempotentRequest r SET r.response = :response WHERE r.id = :id")
+    int complete(@Param("id") Long id, @Param("response") String response);
+
+    // Only a request that never completed is released; a stored response stays until it expires
+    @Modifying
+    @Query("DELETE FROM IdempotentRequest r WHERE r.id = :id AND r.response IS NULL")
+    int release(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotentRequest r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
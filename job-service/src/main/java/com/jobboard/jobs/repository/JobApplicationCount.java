@@ -0,0 +1,7 @@
+package com.jobboard.jobs.repository;
+
+// Stored application counter of a job, for refreshing in-memory copies
+public interface JobApplicationCount {
+    Long getId();
+    long getApplicationCount();
+}
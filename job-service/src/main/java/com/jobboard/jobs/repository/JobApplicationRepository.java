@@ -2,9 +2,18 @@ package com.jobboard.jobs.repository;
 
 import com.jobboard.jobs.enums.ApplicationStatus;
 import com.jobboard.jobs.model.JobApplication;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +32,18 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // Find specific application
     Optional<JobApplication> findByJobIdAndUserId(Long jobId, Long userId);
 
+    // The same application with its job's employer, without loading the job
+    @Query("SELECT a.id AS id, a.status AS status, j.postedByUserId AS employerId " +
+            "FROM JobApplication a JOIN Job j ON j.id = a.jobId " +
+            "WHERE a.jobId = :jobId AND a.userId = :userId")
+    Optional<ApplicationWithEmployer> findWithEmployerByJobIdAndUserId(@Param("jobId") Long jobId,
+                                                                       @Param("userId") Long userId);
+
+    // A seeker's applications, one page at a time
+    Page<JobApplication> findByUserId(Long userId, Pageable pageable);
+
+    Page<JobApplication> findByUserIdAndStatusIn(Long userId, Collection<ApplicationStatus> statuses, Pageable pageable);
+
     // Find applications by status
     List<JobApplication> findByJobIdAndStatus(Long jobId, ApplicationStatus status);
 
@@ -31,4 +52,41 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     // Count applications by user
     long countByUserId(Long userId);
-}
\ No newline at end of file
+
+    // Candidates for a bulk status change, locked so their old status stays accurate until the update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<JobApplication> findByJobIdAndIdIn(Long jobId, Collection<Long> ids);
+
+    // One page of them in ID order, starting after the last ID of the previous page
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<JobApplication> findByJobIdAndStatusInAndIdGreaterThanOrderByIdAsc(Long jobId,
+                                                                          Collection<ApplicationStatus> statuses,
+                                                                          Long afterId,
+                                                                          Pageable pageable);
+
+    // Changes the status only if it is still the expected one, so concurrent changes can't overwrite
+    // each other; returns 0 when it was not. Clears the persistence context, whose copy is now stale.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobApplication a SET a.status = :status, a.updatedAt = :updatedAt " +
+            "WHERE a.id = :id AND a.status = :expected")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expected") ApplicationStatus expected,
+                            @Param("status") ApplicationStatus status,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Applications per job and status over all of an employer's jobs in one grouped pass;
+    // a job without applications comes back as a single row with a null status
+    @Query("SELECT j.id AS jobId, j.title AS title, j.isActive AS active, j.createdAt AS createdAt, " +
+            "j.applicationDeadline AS applicationDeadline, a.status AS status, COUNT(a.id) AS count " +
+            "FROM Job j LEFT JOIN JobApplication a ON a.jobId = j.id " +
+            "WHERE j.postedByUserId = :employerId " +
+            "GROUP BY j.id, j.title, j.isActive, j.createdAt, j.applicationDeadline, a.status")
+    List<JobStatusCount> countByStatusForEmployer(@Param("employerId") Long employerId);
+
+    // Clears the persistence context, so pages of a bulk change don't pile up in it
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobApplication a SET a.status = :status, a.updatedAt = :updatedAt WHERE a.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") ApplicationStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,15 @@
+package com.jobboard.jobs.repository;
+
+import com.jobboard.jobs.model.JobDailyViewSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface JobDailyViewSketchRepository extends JpaRepository<JobDailyViewSketch, JobDailyViewSketch.Key> {
+
+    // Primary key range: one job's days, oldest first
+    List<JobDailyViewSketch> findByJobIdAndDayBetweenOrderByDayAsc(Long jobId, LocalDate from, LocalDate to);
+}
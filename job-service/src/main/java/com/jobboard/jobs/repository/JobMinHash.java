@@ -0,0 +1,7 @@
+package com.jobboard.jobs.repository;
+
+// Stored MinHash signature of a job, without the text it was computed from
+public interface JobMinHash {
+    Long getId();
+    byte[] getMinhash();
+}
@@ -1,47 +1,224 @@
 package com.jobboard.jobs.repository;
 
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.enums.ExperienceLevel;
 import com.jobboard.jobs.enums.JobCategory;
 import com.jobboard.jobs.enums.JobType;
 import com.jobboard.jobs.model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    // Select list for JobSummary queries written in JPQL
+    String SUMMARY_SELECT = "SELECT j.id AS id, j.title AS title, j.companyName AS companyName, " +
+            "j.location AS location, j.jobType AS jobType, j.category AS category, " +
+            "j.experienceLevel AS experienceLevel, j.salaryMin AS salaryMin, j.salaryMax AS salaryMax, " +
+            "j.postedByUserId AS postedByUserId, j.postedByUsername AS postedByUsername, " +
+            "j.applicationDeadline AS applicationDeadline, j.createdAt AS createdAt, " +
+            "j.applicationCount AS applicationCount ";
+
     // Find active jobs
-    Page<Job> findByIsActiveTrue(Pageable pageable);
+    Page<JobSummary> findByIsActiveTrue(Pageable pageable);
+
+    // Listing rows by ID, for results ranked by an in-memory index
+    List<JobSummary> findByIdInAndIsActiveTrue(Collection<Long> ids);
+
+    // Same, including deactivated jobs (e.g. to label a seeker's past applications)
+    List<JobSummary> findByIdIn(Collection<Long> ids);
+
+    // Walk jobs in ID order (used to rebuild in-memory indexes)
+    List<Job> findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Job> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
     // Find jobs by employer
     List<Job> findByPostedByUserId(Long userId);
 
     // Find by category
-    Page<Job> findByCategoryAndIsActiveTrue(JobCategory category, Pageable pageable);
+    Page<JobSummary> findByCategoryAndIsActiveTrue(JobCategory category, Pageable pageable);
 
     // Find by job type
-    Page<Job> findByJobTypeAndIsActiveTrue(JobType jobType, Pageable pageable);
+    Page<JobSummary> findByJobTypeAndIsActiveTrue(JobType jobType, Pageable pageable);
 
-    // Search by title or company (case-insensitive)
-    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
+    // Search by title or company (case-insensitive); fallback while the search index is rebuilding
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND " +
             "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
+    Page<JobSummary> searchJobs(@Param("keyword") String keyword, Pageable pageable);
+
+    // Keyset pagination, newest first: seek past the (createdAt, id) of the last row seen
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND " +
+            "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    Slice<JobSummary> findActiveBefore(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND j.category = :category AND " +
+            "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    Slice<JobSummary> findActiveByCategoryBefore(@Param("category") JobCategory category,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND j.jobType = :jobType AND " +
+            "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    Slice<JobSummary> findActiveByJobTypeBefore(@Param("jobType") JobType jobType,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // Keyset variant of searchJobs, used only while the search index is rebuilding
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND " +
+            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    Slice<JobSummary> searchJobsBefore(@Param("keyword") String keyword,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    // Facet filters in the database, for when JobFacetIndex can't hold every job ID; every
+    // collection must be non-empty, so an unfiltered facet passes all of its values
+    @Query("SELECT j.id FROM Job j WHERE j.isActive = true AND j.category IN :categories " +
+            "AND j.jobType IN :jobTypes AND j.experienceLevel IN :experienceLevels")
+    Page<Long> findActiveIdsByFacets(@Param("categories") Collection<JobCategory> categories,
+                                     @Param("jobTypes") Collection<JobType> jobTypes,
+                                     @Param("experienceLevels") Collection<ExperienceLevel> experienceLevels,
+                                     Pageable pageable);
+
+    // Each facet is counted against the other facets' filters only
+    @Query("SELECT j.category AS value, COUNT(j) AS count FROM Job j WHERE j.isActive = true " +
+            "AND j.jobType IN :jobTypes AND j.experienceLevel IN :experienceLevels GROUP BY j.category")
+    List<FacetCount> countActiveByCategory(@Param("jobTypes") Collection<JobType> jobTypes,
+                                           @Param("experienceLevels") Collection<ExperienceLevel> experienceLevels);
+
+    @Query("SELECT j.jobType AS value, COUNT(j) AS count FROM Job j WHERE j.isActive = true " +
+            "AND j.category IN :categories AND j.experienceLevel IN :experienceLevels GROUP BY j.jobType")
+    List<FacetCount> countActiveByJobType(@Param("categories") Collection<JobCategory> categories,
+                                          @Param("experienceLevels") Collection<ExperienceLevel> experienceLevels);
+
+    @Query("SELECT j.experienceLevel AS value, COUNT(j) AS count FROM Job j WHERE j.isActive = true " +
+            "AND j.category IN :categories AND j.jobType IN :jobTypes GROUP BY j.experienceLevel")
+    List<FacetCount> countActiveByExperienceLevel(@Param("categories") Collection<JobCategory> categories,
+                                                  @Param("jobTypes") Collection<JobType> jobTypes);
 
     // Find jobs within salary range
-    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND " +
             "j.salaryMin >= :minSalary AND j.salaryMax <= :maxSalary")
-    Page<Job> findBySalaryRange(@Param("minSalary") BigDecimal minSalary,
+    Page<JobSummary> findBySalaryRange(@Param("minSalary") BigDecimal minSalary,
                                 @Param("maxSalary") BigDecimal maxSalary,
                                 Pageable pageable);
 
+    // Find jobs whose salary range intersects the requested range
+    @Query(SUMMARY_SELECT + "FROM Job j WHERE j.isActive = true AND " +
+            "j.salaryMin <= :maxSalary AND j.salaryMax >= :minSalary")
+    Page<JobSummary> findBySalaryOverlap(@Param("minSalary") BigDecimal minSalary,
+                                  @Param("maxSalary") BigDecimal maxSalary,
+                                  Pageable pageable);
+
+    // The unified query in the database: keyword scans while the search index is rebuilding, and every
+    // predicate once the bitmaps can't hold all job IDs. Each collection must be non-empty, so an
+    // unfiltered facet passes all of its values; null location, keyword and postedSince don't filter
+    @Query("SELECT j.id FROM Job j WHERE j.isActive = true AND j.category IN :categories " +
+            "AND j.jobType IN :jobTypes AND j.experienceLevel IN :experienceLevels " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "AND (:keyword IS NULL OR " +
+            "LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (:postedSince IS NULL OR j.createdAt >= :postedSince) " +
+            "AND (:salary = false " +
+            "OR (:within = true AND j.salaryMin >= :minSalary AND j.salaryMin <= :maxSalary " +
+            "AND j.salaryMax <= :maxSalary) " +
+            "OR (:within = false AND j.salaryMin <= :maxSalary AND j.salaryMax >= :minSalary))")
+    Page<Long> findActiveIdsMatching(@Param("categories") Collection<JobCategory> categories,
+                                     @Param("jobTypes") Collection<JobType> jobTypes,
+                                     @Param("experienceLevels") Collection<ExperienceLevel> experienceLevels,
+                                     @Param("location") String location,
+                                     @Param("keyword") String keyword,
+                                     @Param("postedSince") LocalDateTime postedSince,
+                                     @Param("salary") boolean salary,
+                                     @Param("within") boolean within,
+                                     @Param("minSalary") BigDecimal minSalary,
+                                     @Param("maxSalary") BigDecimal maxSalary,
+                                     Pageable pageable);
+
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids AND j.isActive = true AND " +
+            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    List<Long> filterIdsByKeyword(@Param("ids") Collection<Long> ids, @Param("keyword") String keyword);
+
+    // Active jobs past their application deadline, oldest deadline first (idx_jobs_active_deadline)
+    @Query("SELECT j.id FROM Job j WHERE j.isActive = true AND j.applicationDeadline < :now " +
+            "ORDER BY j.applicationDeadline, j.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT MIN(j.applicationDeadline) FROM Job j WHERE j.isActive = true AND j.applicationDeadline < :now")
+    LocalDateTime findOldestExpiredDeadline(@Param("now") LocalDateTime now);
+
+    // Stored MinHash signatures of active jobs in ID order (loads the similar-jobs index)
+    @Query("SELECT j.id AS id, j.minhash AS minhash FROM Job j " +
+            "WHERE j.isActive = true AND j.minhash IS NOT NULL AND j.id > :after ORDER BY j.id")
+    List<JobMinHash> findActiveMinHashes(@Param("after") Long after, Pageable pageable);
+
+    // Jobs still without a MinHash signature, in ID order (backfill)
+    @Query("SELECT j FROM Job j WHERE j.minhash IS NULL AND j.id > :after ORDER BY j.id")
+    List<Job> findWithoutMinHash(@Param("after") Long after, Pageable pageable);
+
+    // Forward-only cursor for the NDJSON export; must be consumed inside a transaction.
+    // With updatedSince, jobs deactivated since then are included so incremental syncs can drop them.
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM Job j WHERE " +
+            "(:updatedSince IS NULL AND j.isActive = true) OR " +
+            "(:updatedSince IS NOT NULL AND j.updatedAt >= :updatedSince) " +
+            "ORDER BY j.id")
+    Stream<Job> streamForExport(@Param("updatedSince") LocalDateTime updatedSince);
+
     // Count jobs by employer
     long countByPostedByUserId(Long userId);
+
+    // Recompute the denormalized application counter wherever it drifted from job_applications.
+    // Jobs with an application written since settledBefore are left alone: a replica may still hold
+    // that write's delta, and it would be counted again when flushed on top of the recount.
+    @Modifying
+    @Query("UPDATE Job j SET j.applicationCount = " +
+            "(SELECT COUNT(a) FROM JobApplication a WHERE a.jobId = j.id AND a.status <> :excluded) " +
+            "WHERE j.applicationCount <> " +
+            "(SELECT COUNT(a) FROM JobApplication a WHERE a.jobId = j.id AND a.status <> :excluded) " +
+            "AND NOT EXISTS (SELECT a.id FROM JobApplication a WHERE a.jobId = j.id AND a.updatedAt >= :settledBefore)")
+    int reconcileApplicationCounts(@Param("excluded") ApplicationStatus excluded,
+                                   @Param("settledBefore") LocalDateTime settledBefore);
+
+    @Query("SELECT j.id AS id, j.applicationCount AS applicationCount FROM Job j WHERE j.id IN :ids")
+    List<JobApplicationCount> findApplicationCounts(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT j.id AS id, j.applicationCount AS applicationCount FROM Job j")
+    List<JobApplicationCount> findAllApplicationCounts();
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.jobboard.jobs.repository;
+
+import com.jobboard.jobs.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+// Applications of one job in one status, with the job fields the employer dashboard shows
+public interface JobStatusCount {
+    Long getJobId();
+    String getTitle();
+    boolean isActive();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getApplicationDeadline();
+    ApplicationStatus getStatus();
+    long getCount();
+}
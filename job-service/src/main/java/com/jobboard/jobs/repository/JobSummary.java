@@ -0,0 +1,26 @@
+package com.jobboard.jobs.repository;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Closed projection for listing pages: description and skills_required are never selected
+public interface JobSummary {
+    Long getId();
+    String getTitle();
+    String getCompanyName();
+    String getLocation();
+    JobType getJobType();
+    JobCategory getCategory();
+    ExperienceLevel getExperienceLevel();
+    BigDecimal getSalaryMin();
+    BigDecimal getSalaryMax();
+    Long getPostedByUserId();
+    String getPostedByUsername();
+    LocalDateTime getApplicationDeadline();
+    LocalDateTime getCreatedAt();
+    long getApplicationCount();
+}
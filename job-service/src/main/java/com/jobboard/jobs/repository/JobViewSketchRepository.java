@@ -0,0 +1,9 @@
+package com.jobboard.jobs.repository;
+
+import com.jobboard.jobs.model.JobViewSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobViewSketchRepository extends JpaRepository<JobViewSketch, Long> {
+}
@@ -0,0 +1,86 @@
+package com.jobboard.jobs.search;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+
+import java.io.IOException;
+import java.util.function.LongPredicate;
+
+/**
+ * Filter clause that reads each candidate document's job ID from doc values
+ * and asks a predicate, so a large candidate set found through another index
+ * never has to be turned into terms. Only documents the rest of the query
+ * already matches are checked.
+ */
+final class JobIdFilterQuery extends Query {
+
+    private final String field;
+    private final LongPredicate accepts;
+
+    JobIdFilterQuery(String field, LongPredicate accepts) {
+        this.field = field;
+        this.accepts = accepts;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+        return new ConstantScoreWeight(this, boost) {
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                NumericDocValues ids = DocValues.getNumeric(context.reader(), field);
+                TwoPhaseIterator iterator = new TwoPhaseIterator(ids) {
+                    @Override
+                    public boolean matches() throws IOException {
+                        return accepts.test(ids.longValue());
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        return 10;
+                    }
+                };
+                return new ConstantScoreScorer(this, score(), scoreMode, iterator);
+            }
+
+            // The predicate reads live in-memory indexes, so results must not be cached
+            @Override
+            public boolean isCacheable(LeafReaderContext context) {
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public String toString(String defaultField) {
+        return "JobIdFilterQuery(" + field + ")";
+    }
+
+    // Identity semantics: two filters are only equal when they share the predicate
+    @Override
+    public boolean equals(Object other) {
+        return sameClassAs(other) && field.equals(((JobIdFilterQuery) other).field)
+                && accepts == ((JobIdFilterQuery) other).accepts;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * classHash() + field.hashCode() + System.identityHashCode(accepts);
+    }
+}
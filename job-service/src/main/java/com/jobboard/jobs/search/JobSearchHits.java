@@ -0,0 +1,19 @@
+package com.jobboard.jobs.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Job IDs for one page of search results, in relevance order
+@Data
+@AllArgsConstructor
+public class JobSearchHits {
+    private long totalHits;
+    private List<Long> jobIds;
+    private String nextCursor;  // Only set in cursor mode
+
+    public JobSearchHits(long totalHits, List<Long> jobIds) {
+        this(totalHits, jobIds, null);
+    }
+}
@@ -0,0 +1,498 @@
+package com.jobboard.jobs.search;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.StringHelper;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+
+/**
+ * Embedded Lucene index over active jobs, ranked with BM25.
+ * Kept in sync from JobChangedEvent; searches see writes through a
+ * near-real-time reader and the index is committed to disk periodically.
+ */
+@Component
+@Slf4j
+public class JobSearchIndex {
+
+    private static final String ID = "id";
+    private static final String ID_KEY = "id_key";
+    private static final String ID_SORT = "id_sort";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String COMPANY = "company";
+    private static final String LOCATION = "location";
+    private static final String SKILLS = "skills";
+
+    // Field boosts applied to every query term
+    private static final Map<String, Float> FIELD_BOOSTS = new LinkedHashMap<>();
+
+    static {
+        FIELD_BOOSTS.put(TITLE, 3.0f);
+        FIELD_BOOSTS.put(SKILLS, 2.0f);
+        FIELD_BOOSTS.put(COMPANY, 2.0f);
+        FIELD_BOOSTS.put(LOCATION, 1.5f);
+        FIELD_BOOSTS.put(DESCRIPTION, 1.0f);
+    }
+
+    // Stable order for cursor pagination: relevance first, job ID breaks ties
+    private static final Sort RELEVANCE_THEN_ID = new Sort(
+            SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+
+    // Deepest hit offset+size pages can reach; further results need cursor pagination
+    public static final int MAX_RESULT_WINDOW = 10_000;
+    // Hits counted exactly per query; beyond this the total is a lower bound
+    private static final int TOTAL_HITS_THRESHOLD = 1000;
+    // Candidate sets up to this size are looked up by ID term; larger ones are checked per matching document
+    private static final int TERM_FILTER_LIMIT = 1024;
+    // Terms a trailing prefix may expand to before an estimate assumes it matches everything
+    private static final int PREFIX_ESTIMATE_TERMS = 64;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final Path indexDir;
+    private final boolean rebuildOnStartup;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // False while the index is being (re)built; callers fall back to the database
+    private volatile boolean ready;
+    private final AtomicLong version = new AtomicLong();  // Refreshes that made new changes searchable
+
+    public JobSearchIndex(JobRepository jobRepository,
+                          @Value("${jobs.search.index-dir}") String indexDir,
+                          @Value("${jobs.search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.jobRepository = jobRepository;
+        this.indexDir = Path.of(indexDir);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(indexDir);
+        directory = new MMapDirectory(indexDir);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(new BM25Similarity());
+        writer = new IndexWriter(directory, config);
+
+        // Readers opened from the writer see uncommitted changes (NRT); IndexSearcher defaults to BM25
+        searcherManager = new SearcherManager(writer, null);
+        searcherManager.addListener(new ReferenceManager.RefreshListener() {
+            @Override
+            public void beforeRefresh() {
+            }
+
+            @Override
+            public void afterRefresh(boolean didRefresh) {
+                if (didRefresh) {
+                    version.incrementAndGet();
+                }
+            }
+        });
+        ready = !rebuildOnStartup;
+
+        log.info("Opened job search index at {}", indexDir);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Moves whenever a refresh makes changes searchable, whether or not an event caused it
+    public long version() {
+        return version.get();
+    }
+
+    public JobSearchHits search(String keyword, Pageable pageable) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return new JobSearchHits(0, List.of());
+        }
+        return topHits(query, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    // Upper bound on the number of matches from document frequencies, without running the query
+    public long estimate(String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                IndexReader reader = searcher.getIndexReader();
+                long estimate = reader.numDocs();
+                for (int i = 0; i < terms.size(); i++) {
+                    boolean last = i == terms.size() - 1;
+                    long matches = 0;
+                    for (String field : FIELD_BOOSTS.keySet()) {
+                        matches += last
+                                ? prefixDocFreq(reader, field, terms.get(i))
+                                : reader.docFreq(new Term(field, terms.get(i)));
+                    }
+                    // Every keyword must match, so the rarest one bounds the result
+                    estimate = Math.min(estimate, matches);
+                }
+                return estimate;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Job search failed", e);
+        }
+    }
+
+    // One page in relevance order among the given candidates; the total is approximate as in search()
+    public JobSearchHits rank(String keyword, RoaringBitmap candidates, long offset, int limit) {
+        Query query = buildQuery(keyword);
+        if (query == null || candidates.isEmpty()) {
+            return new JobSearchHits(0, List.of());
+        }
+
+        Query filter;
+        if (candidates.getCardinality() <= TERM_FILTER_LIMIT) {
+            List<BytesRef> ids = new ArrayList<>(candidates.getCardinality());
+            candidates.forEach((int id) -> ids.add(new BytesRef(Integer.toString(id))));
+            filter = new TermInSetQuery(ID_KEY, ids);
+        } else {
+            filter = new JobIdFilterQuery(ID_SORT, id -> id <= Integer.MAX_VALUE && candidates.contains((int) id));
+        }
+        return topHits(filtered(query, filter), offset, limit);
+    }
+
+    // One page in relevance order among the matches the predicate accepts (all when null), checked per matching job
+    public JobSearchHits rank(String keyword, LongPredicate accepts, long offset, int limit) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return new JobSearchHits(0, List.of());
+        }
+        return topHits(accepts == null ? query : filtered(query, new JobIdFilterQuery(ID_SORT, accepts)), offset, limit);
+    }
+
+    // Cursor mode: seeks past the last (score, id) seen instead of re-collecting earlier pages
+    public JobSearchHits searchAfter(String keyword, SearchCursor after, int size) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return new JobSearchHits(0, List.of());
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                // Job IDs are unique, so the Lucene doc only matters for excluding the cursor's own hit
+                FieldDoc afterDoc = after == null ? null : new FieldDoc(
+                        searcher.getIndexReader().maxDoc() - 1, after.getScore(),
+                        new Object[]{after.getScore(), after.getId()});
+
+                TopFieldDocs topDocs = searcher.searchAfter(afterDoc, query, size + 1, RELEVANCE_THEN_ID, true);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+
+                List<Long> jobIds = new ArrayList<>();
+                FieldDoc last = null;
+                for (int i = 0; i < Math.min(size, scoreDocs.length); i++) {
+                    last = (FieldDoc) scoreDocs[i];
+                    jobIds.add((Long) last.fields[1]);
+                }
+
+                String nextCursor = scoreDocs.length > size
+                        ? new SearchCursor((Float) last.fields[0], (Long) last.fields[1]).encode()
+                        : null;
+                return new JobSearchHits(topDocs.totalHits.value, jobIds, nextCursor);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Job search failed", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        apply(List.of(event.getJob()), true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        apply(event.getJobs(), !event.isRefreshDeferred());
+    }
+
+    // Makes writes applied without a refresh searchable, e.g. once after the last batch of a bulk import
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.error("Failed to refresh search index: {}", e.getMessage());
+        }
+    }
+
+    private void apply(List<Job> jobs, boolean refresh) {
+        try {
+            for (Job job : jobs) {
+                if (job.isActive()) {
+                    writer.updateDocument(idTerm(job.getId()), toDocument(job));
+                } else {
+                    writer.deleteDocuments(idTerm(job.getId()));
+                }
+            }
+            // Blocking, so the change is searchable as soon as the update returns
+            if (refresh) {
+                searcherManager.maybeRefreshBlocking();
+            }
+        } catch (IOException e) {
+            log.error("Failed to update search index for {} jobs: {}", jobs.size(), e.getMessage());
+        }
+    }
+
+    // Re-index every active job from the database
+    public synchronized long rebuild() {
+        log.info("Rebuilding job search index");
+        ready = false;
+
+        try {
+            writer.deleteAll();
+
+            long indexed = 0;
+            long lastId = 0;
+            List<Job> batch;
+            do {
+                batch = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(
+                        lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Job job : batch) {
+                    writer.updateDocument(idTerm(job.getId()), toDocument(job));
+                    lastId = job.getId();
+                }
+                indexed += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+
+            log.info("Job search index rebuilt with {} jobs", indexed);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rebuild job search index", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.search.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.error("Failed to commit search index: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private JobSearchHits topHits(Query query, long offset, int pageSize) {
+        if (offset + pageSize > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Search pages must end within the first " + MAX_RESULT_WINDOW + " hits");
+        }
+        int limit = (int) offset + pageSize;
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                // Counting stops past the threshold (the total becomes a lower bound), but always
+                // goes one past the page so there is a next page exactly when the total says so
+                TopDocs topDocs = searcher.search(query,
+                        new TopScoreDocCollectorManager(limit, Math.max(TOTAL_HITS_THRESHOLD, limit + 1)));
+                StoredFields storedFields = searcher.storedFields();
+
+                List<Long> jobIds = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = (int) offset; i < scoreDocs.length; i++) {
+                    Document document = storedFields.document(scoreDocs[i].doc, Set.of(ID));
+                    jobIds.add(document.getField(ID).numericValue().longValue());
+                }
+
+                return new JobSearchHits(topDocs.totalHits.value, jobIds);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Job search failed", e);
+        }
+    }
+
+    private static Query filtered(Query query, Query filter) {
+        return new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(filter, BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    // Documents containing any term with the prefix, summed per term; gives up on very short prefixes
+    private static long prefixDocFreq(IndexReader reader, String field, String prefix) throws IOException {
+        BytesRef prefixBytes = new BytesRef(prefix);
+        long matches = 0;
+        int terms = 0;
+        for (LeafReaderContext leaf : reader.leaves()) {
+            Terms fieldTerms = leaf.reader().terms(field);
+            if (fieldTerms == null) {
+                continue;
+            }
+            TermsEnum iterator = fieldTerms.iterator();
+            if (iterator.seekCeil(prefixBytes) == TermsEnum.SeekStatus.END) {
+                continue;
+            }
+            for (BytesRef term = iterator.term(); term != null && StringHelper.startsWith(term, prefixBytes);
+                 term = iterator.next()) {
+                if (++terms > PREFIX_ESTIMATE_TERMS) {
+                    return reader.numDocs();
+                }
+                matches += iterator.docFreq();
+            }
+        }
+        return matches;
+    }
+
+    // Every keyword must match some field; the last one also matches as a prefix for type-ahead
+    private Query buildQuery(String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            String text = terms.get(i);
+            boolean last = i == terms.size() - 1;
+
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                Term term = new Term(field, text);
+                anyField.add(new BoostQuery(new TermQuery(term), boost), BooleanClause.Occur.SHOULD);
+                if (last) {
+                    anyField.add(new BoostQuery(new PrefixQuery(term), boost / 2), BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(Job job) {
+        Document document = new Document();
+        document.add(new StringField(ID_KEY, job.getId().toString(), Field.Store.NO));
+        document.add(new StoredField(ID, job.getId()));
+        document.add(new NumericDocValuesField(ID_SORT, job.getId()));
+        document.add(new TextField(TITLE, job.getTitle(), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, job.getDescription(), Field.Store.NO));
+        document.add(new TextField(COMPANY, job.getCompanyName(), Field.Store.NO));
+        document.add(new TextField(LOCATION, job.getLocation(), Field.Store.NO));
+        if (job.getSkillsRequired() != null) {
+            document.add(new TextField(SKILLS, job.getSkillsRequired(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static Term idTerm(Long jobId) {
+        return new Term(ID_KEY, jobId.toString());
+    }
+}
@@ -0,0 +1,495 @@
+package com.jobboard.jobs.search;
+
+import com.jobboard.jobs.dto.JobSuggestion;
+import com.jobboard.jobs.enums.SuggestionType;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobApplicationCount;
+import com.jobboard.jobs.repository.JobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+import org.apache.lucene.util.IntsRefBuilder;
+import org.apache.lucene.util.fst.FST;
+import org.apache.lucene.util.fst.FSTCompiler;
+import org.apache.lucene.util.fst.PositiveIntOutputs;
+import org.apache.lucene.util.fst.Util;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead over the titles, company names and locations of active jobs,
+ * served from a Lucene FST. Each entry is weighted by popularity (active jobs
+ * using the text plus their applications) and the FST's shortest-path search
+ * returns the heaviest completions of a prefix without visiting the rest.
+ * Weights are kept up to date per write; the FST is immutable, so it is
+ * recompiled from them once writes settle (or have waited too long), and
+ * never sooner than ten build times after the last build. The weights and
+ * the FST share one memory budget; the lightest entries are dropped beyond it.
+ */
+@Component
+@Slf4j
+public class JobSuggestIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int COUNT_BATCH_SIZE = 1000;
+
+    // Builds take at most 1 / (1 + BUILD_BACKOFF) of the time between them
+    private static final long BUILD_BACKOFF = 10;
+
+    // Rough heap cost of an entry and of a job's contribution, besides their text
+    private static final long ENTRY_OVERHEAD = 128;
+    private static final long CONTRIBUTION_OVERHEAD = 96;
+
+    // FST key: normalized text, separator, type, then the text as first seen
+    private static final byte SEPARATOR = 0;
+
+    private static final Comparator<Long> LOWEST_COST = Long::compare;
+
+    private final JobRepository jobRepository;
+    private final long maxBytes;
+    private final long refreshIntervalNanos;
+    private final long maxStalenessNanos;
+
+    // Guarded by this: weights by type + normalized text, what each indexed job contributes
+    // to them, their estimated size, and jobs whose stored application counts moved
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<Long, Contribution> jobs = new HashMap<>();
+    private long trackedBytes;
+    private final Set<Long> staleCounts = new HashSet<>();
+    private boolean allCountsStale;
+
+    private final Object refreshLock = new Object();
+    private volatile FST<Long> fst;
+    private volatile int size;
+    private volatile boolean dirty;
+    private volatile boolean ready;
+    private volatile long firstChangeNanos;
+    private volatile long lastChangeNanos;
+    private volatile long nextBuildNanos;
+
+    private static final class Entry {
+        final SuggestionType type;
+        final String key;
+        final String text;
+        final long bytes;
+        long weight;
+        int contributors;
+
+        Entry(SuggestionType type, String key, String text) {
+            this.type = type;
+            this.key = key;
+            this.text = text;
+            this.bytes = ENTRY_OVERHEAD + 2L * key.length() + text.length();
+        }
+
+        String mapKey() {
+            return type.ordinal() + key;
+        }
+    }
+
+    private record Contribution(List<Entry> entries, long weight) {
+        long bytes() {
+            return CONTRIBUTION_OVERHEAD + 8L * entries.size();
+        }
+    }
+
+    // Entry weight as of the copy a build works from
+    private record Weighted(Entry entry, long weight) {
+    }
+
+    public JobSuggestIndex(JobRepository jobRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${jobs.suggest.max-bytes:8388608}") long maxBytes,
+                           @Value("${jobs.suggest.refresh-interval-ms:1000}") long refreshIntervalMs,
+                           @Value("${jobs.suggest.max-staleness-ms:30000}") long maxStalenessMs) {
+        this.jobRepository = jobRepository;
+        this.maxBytes = maxBytes;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMs);
+
+        Gauge.builder("jobs.suggest.entries", this, index -> index.size)
+                .description("Completions in the served suggest FST")
+                .register(meterRegistry);
+        Gauge.builder("jobs.suggest.bytes", this, index -> index.fst != null ? index.fst.ramBytesUsed() : 0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("jobs.suggest.tracked.bytes", this, JobSuggestIndex::trackedBytes)
+                .description("Estimated size of the weights behind the suggest FST")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                put(job);
+                lastId = job.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        compile();
+        ready = true;
+        log.info("Suggest index built with {} completions", size);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        put(event.getJob());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        event.getJobs().forEach(this::put);
+    }
+
+    // Deltas from this replica's flushes apply as they are; other count changes are read at the next build
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onApplicationCountsChanged(ApplicationCountsChangedEvent event) {
+        if (event.getDeltas() != null) {
+            event.getDeltas().forEach((jobId, delta) -> {
+                Contribution contribution = jobs.get(jobId);
+                if (contribution != null && delta != 0) {
+                    apply(jobId, contribution.entries(), Math.max(weightOf(0), contribution.weight() + delta));
+                }
+            });
+        } else if (event.getJobIds() == null) {
+            allCountsStale = true;
+            markDirty();
+        } else {
+            for (Long jobId : event.getJobIds()) {
+                if (jobs.containsKey(jobId) && staleCounts.add(jobId)) {
+                    markDirty();
+                }
+            }
+        }
+    }
+
+    // Compiles once no write arrived for a whole interval, or the oldest unbuilt one has waited too long
+    @Scheduled(fixedDelayString = "${jobs.suggest.refresh-interval-ms:1000}")
+    public void refresh() {
+        // rebuild() compiles once when it is done, not on every tick while it loads
+        if (!ready || !dirty) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean settled = now - lastChangeNanos >= refreshIntervalNanos;
+        boolean overdue = now - firstChangeNanos >= maxStalenessNanos;
+        if ((settled || overdue) && now - nextBuildNanos >= 0) {
+            compile();
+        }
+    }
+
+    void compile() {
+        // One build at a time, so a slow build cannot publish over a newer one
+        synchronized (refreshLock) {
+            if (!dirty) {
+                return;
+            }
+            long started = System.nanoTime();
+            refreshStaleCounts();
+
+            List<Weighted> live = new ArrayList<>();
+            synchronized (this) {
+                dirty = false;
+                entries.values().removeIf(entry -> {
+                    if (entry.weight > 0) {
+                        return false;
+                    }
+                    trackedBytes -= entry.bytes;
+                    return true;
+                });
+                while (trackedBytes > maxBytes) {
+                    evictLightest();
+                }
+                entries.values().forEach(entry -> live.add(new Weighted(entry, entry.weight)));
+            }
+
+            try {
+                build(live);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to build suggest FST", e);
+            }
+            long finished = System.nanoTime();
+            nextBuildNanos = finished + (finished - started) * BUILD_BACKOFF;
+        }
+    }
+
+    synchronized long trackedBytes() {
+        return trackedBytes;
+    }
+
+    /**
+     * Heaviest completions of the prefix, compared after the same
+     * normalization as the indexed text.
+     */
+    public List<JobSuggestion> suggest(String prefix, int limit) {
+        FST<Long> current = fst;
+        String normalized = normalizePrefix(prefix);
+        if (current == null || normalized.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            FST.BytesReader reader = current.getBytesReader();
+            FST.Arc<Long> arc = current.getFirstArc(new FST.Arc<>());
+            Long prefixCost = current.outputs.getNoOutput();
+            byte[] prefixBytes = normalized.getBytes(StandardCharsets.UTF_8);
+            for (byte b : prefixBytes) {
+                if (current.findTargetArc(b & 0xff, arc, arc, reader) == null) {
+                    return List.of();
+                }
+                prefixCost = current.outputs.add(prefixCost, arc.output());
+            }
+
+            Util.TopResults<Long> completions = Util.shortestPaths(current, arc, prefixCost, LOWEST_COST, limit, true);
+
+            List<JobSuggestion> suggestions = new ArrayList<>(completions.topN.size());
+            for (Util.Result<Long> completion : completions) {
+                suggestions.add(decode(completion.input, completion.output));
+            }
+            return suggestions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read suggest FST", e);
+        }
+    }
+
+    private synchronized void put(Job job) {
+        List<Entry> jobEntries = new ArrayList<>(3);
+        if (job.isActive()) {
+            addEntry(jobEntries, SuggestionType.TITLE, job.getTitle());
+            addEntry(jobEntries, SuggestionType.COMPANY, job.getCompanyName());
+            addEntry(jobEntries, SuggestionType.LOCATION, job.getLocation());
+        }
+        apply(job.getId(), jobEntries, weightOf(job.getApplicationCount()));
+    }
+
+    // Moves a job's weight from the entries it contributed to before to the given ones
+    private void apply(Long jobId, List<Entry> jobEntries, long weight) {
+        Contribution previous = jobs.remove(jobId);
+        if (previous != null) {
+            previous.entries().forEach(entry -> {
+                entry.weight -= previous.weight();
+                entry.contributors--;
+            });
+            trackedBytes -= previous.bytes();
+        }
+        if (!jobEntries.isEmpty()) {
+            jobEntries.forEach(entry -> {
+                entry.weight += weight;
+                entry.contributors++;
+            });
+            Contribution contribution = new Contribution(jobEntries, weight);
+            jobs.put(jobId, contribution);
+            trackedBytes += contribution.bytes();
+        }
+        markDirty();
+    }
+
+    private void markDirty() {
+        long now = System.nanoTime();
+        if (!dirty) {
+            firstChangeNanos = now;
+        }
+        lastChangeNanos = now;
+        dirty = true;
+    }
+
+    private void addEntry(List<Entry> jobEntries, SuggestionType type, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String key = normalize(text);
+        jobEntries.add(entries.computeIfAbsent(type.ordinal() + key, k -> {
+            Entry entry = new Entry(type, key, text.trim());
+            trackedBytes += entry.bytes;
+            return entry;
+        }));
+    }
+
+    // One query per build for every job whose count moved on another replica or in a reconcile
+    private void refreshStaleCounts() {
+        boolean all;
+        List<Long> jobIds;
+        synchronized (this) {
+            all = allCountsStale;
+            jobIds = all ? List.of() : new ArrayList<>(staleCounts);
+            allCountsStale = false;
+            staleCounts.clear();
+        }
+
+        List<JobApplicationCount> counts = new ArrayList<>();
+        if (all) {
+            counts = jobRepository.findAllApplicationCounts();
+        } else {
+            for (int from = 0; from < jobIds.size(); from += COUNT_BATCH_SIZE) {
+                counts.addAll(jobRepository.findApplicationCounts(
+                        jobIds.subList(from, Math.min(jobIds.size(), from + COUNT_BATCH_SIZE))));
+            }
+        }
+
+        synchronized (this) {
+            for (JobApplicationCount count : counts) {
+                Contribution contribution = jobs.get(count.getId());
+                if (contribution != null && contribution.weight() != weightOf(count.getApplicationCount())) {
+                    apply(count.getId(), contribution.entries(), weightOf(count.getApplicationCount()));
+                }
+            }
+        }
+    }
+
+    // Drops the lightest entries, which the FST would leave out first, until a quarter of the budget is free
+    private void evictLightest() {
+        List<Entry> byWeight = new ArrayList<>(entries.values());
+        byWeight.sort(Comparator.comparingLong(entry -> entry.weight));
+        Set<Entry> evicted = Collections.newSetFromMap(new IdentityHashMap<>());
+        // At most what the evictions free, so a pass never drops more than it needs to
+        long freeable = 0;
+        for (Entry entry : byWeight) {
+            if (trackedBytes - freeable <= maxBytes * 3 / 4) {
+                break;
+            }
+            entries.remove(entry.mapKey());
+            trackedBytes -= entry.bytes;
+            freeable += entry.contributors * (8 + CONTRIBUTION_OVERHEAD);
+            evicted.add(entry);
+        }
+
+        // Jobs stop tracking evicted entries, and jobs left with none are forgotten
+        Iterator<Map.Entry<Long, Contribution>> it = jobs.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Contribution> job = it.next();
+            Contribution contribution = job.getValue();
+            if (contribution.entries().stream().noneMatch(evicted::contains)) {
+                continue;
+            }
+            trackedBytes -= contribution.bytes();
+            List<Entry> kept = contribution.entries().stream().filter(entry -> !evicted.contains(entry)).toList();
+            if (kept.isEmpty()) {
+                it.remove();
+            } else {
+                Contribution trimmed = new Contribution(kept, contribution.weight());
+                job.setValue(trimmed);
+                trackedBytes += trimmed.bytes();
+            }
+        }
+        log.debug("Suggest weights over budget, dropped the {} lightest entries", evicted.size());
+    }
+
+    private void build(List<Weighted> live) throws IOException {
+        // Heaviest first until the key bytes reach the budget; the compiled FST is smaller still
+        live.sort(Comparator.comparingLong(Weighted::weight).reversed());
+        List<BytesRef> keys = new ArrayList<>();
+        Map<BytesRef, Long> weights = new HashMap<>();
+        long bytes = 0;
+        for (Weighted weighted : live) {
+            BytesRef key = encode(weighted.entry());
+            if (bytes + key.length > maxBytes) {
+                break;
+            }
+            bytes += key.length;
+            keys.add(key);
+            weights.put(key, weighted.weight());
+        }
+        if (keys.size() < live.size()) {
+            log.debug("Suggest index over budget, kept {} of {} completions", keys.size(), live.size());
+        }
+
+        keys.sort(BytesRef::compareTo);
+        FSTCompiler<Long> compiler = new FSTCompiler.Builder<>(FST.INPUT_TYPE.BYTE1, PositiveIntOutputs.getSingleton())
+                .build();
+        IntsRefBuilder scratch = new IntsRefBuilder();
+        for (BytesRef key : keys) {
+            compiler.add(Util.toIntsRef(key, scratch), costOf(weights.get(key)));
+        }
+
+        fst = keys.isEmpty() ? null : FST.fromFSTReader(compiler.compile(), compiler.getFSTReader());
+        size = keys.size();
+    }
+
+    private static BytesRef encode(Entry entry) {
+        byte[] key = entry.key.getBytes(StandardCharsets.UTF_8);
+        byte[] text = entry.text.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[key.length + 2 + text.length];
+        System.arraycopy(key, 0, encoded, 0, key.length);
+        encoded[key.length] = SEPARATOR;
+        encoded[key.length + 1] = (byte) entry.type.ordinal();
+        System.arraycopy(text, 0, encoded, key.length + 2, text.length);
+        return new BytesRef(encoded);
+    }
+
+    // The completion's input holds the labels after the prefix; the key is rebuilt from them in full
+    private JobSuggestion decode(IntsRef completion, long cost) {
+        byte[] suffix = new byte[completion.length];
+        for (int i = 0; i < completion.length; i++) {
+            suffix[i] = (byte) completion.ints[completion.offset + i];
+        }
+
+        int separator = -1;
+        for (int i = 0; i < suffix.length; i++) {
+            if (suffix[i] == SEPARATOR) {
+                separator = i;
+                break;
+            }
+        }
+
+        int textStart = separator + 2;
+        return JobSuggestion.builder()
+                .text(new String(suffix, textStart, suffix.length - textStart, StandardCharsets.UTF_8))
+                .type(SuggestionType.values()[suffix[separator + 1]])
+                .weight(Integer.MAX_VALUE - cost)
+                .build();
+    }
+
+    // Shortest-path search finds the lowest cost, so heavier entries get cheaper paths
+    private static long costOf(long weight) {
+        return Integer.MAX_VALUE - Math.min(weight, Integer.MAX_VALUE - 1);
+    }
+
+    private static long weightOf(long applicationCount) {
+        return 1 + applicationCount;
+    }
+
+    // Control characters are dropped so text can never contain the key separator
+    static String normalize(String text) {
+        return normalizePrefix(text).stripTrailing();
+    }
+
+    // Keeps a trailing space, so "java " completes "java developer" but not "javascript"
+    static String normalizePrefix(String prefix) {
+        return prefix.replaceAll("\\p{Cntrl}", "").stripLeading().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobboard.jobs.search;
+
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for relevance-ranked search: the (score, id)
+ * of the last hit on the previous page.
+ */
+@Data
+@AllArgsConstructor
+public class SearchCursor {
+
+    private static final String PREFIX = "s";
+
+    private float score;
+    private long id;
+
+    public String encode() {
+        String raw = PREFIX + "|" + Float.floatToIntBits(score) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // True when the token came from the search index rather than the database fallback
+    public static boolean isIndexCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).startsWith(PREFIX + "|");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Returns null for a blank token, meaning "start from the best match"
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !PREFIX.equals(parts[0])) {
+                throw new InvalidJobDataException("Invalid cursor");
+            }
+            return new SearchCursor(Float.intBitsToFloat(Integer.parseInt(parts[1])), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidJobDataException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.cache.JobCache;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps Job.applicationCount up to date without contending on the job row.
+ * Applies and withdrawals land in a per-job LongAdder; a background task
+ * flushes the accumulated deltas to the database in one JDBC batch and
+ * drops the adders of jobs that had nothing to flush.
+ * <p>
+ * The hourly reconcile recounts from job_applications, but only for jobs
+ * whose applications have settled: every replica flushes well within the
+ * settle window, so none can still hold a delta for them.
+ */
+@Component
+@Slf4j
+public class ApplicationCountAccumulator {
+
+    private static final String FLUSH_SQL =
+            "UPDATE jobs SET application_count = application_count + ? WHERE id = ?";
+
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCache jobCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long settleSeconds;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // Adders removed by the previous flush: an increment that looked one up just before the
+    // removal still lands in it, so they are drained once more before being let go
+    private Map<Long, LongAdder> retired = Map.of();
+
+    public ApplicationCountAccumulator(JobRepository jobRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       JobCache jobCache,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${jobs.application-count.reconcile-settle-seconds:300}") long settleSeconds) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobCache = jobCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settleSeconds = settleSeconds;
+    }
+
+    public void increment(Long jobId) {
+        add(jobId, 1);
+    }
+
+    public void decrement(Long jobId) {
+        add(jobId, -1);
+    }
+
+    // Delta recorded by this instance that has not reached the database yet
+    public long pending(Long jobId) {
+        LongAdder adder = pending.get(jobId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.application-count.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        Map<Long, Long> collected = new HashMap<>();
+        retired.forEach((jobId, adder) -> collect(collected, jobId, adder.sumThenReset()));
+
+        Map<Long, LongAdder> removed = new HashMap<>();
+        pending.forEach((jobId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                collect(collected, jobId, delta);
+            } else if (pending.remove(jobId, adder)) {
+                removed.put(jobId, adder);
+            }
+        });
+        retired = removed;
+
+        List<Object[]> batch = new ArrayList<>();
+        collected.forEach((jobId, delta) -> batch.add(new Object[]{delta, jobId}));
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("Flushed application count deltas for {} jobs", batch.size());
+
+            // Stored counts moved, so every replica's cached detail is stale
+            jobCache.invalidate(List.copyOf(collected.keySet()), false);
+            eventPublisher.publishEvent(ApplicationCountsChangedEvent.flushed(collected));
+        } catch (Exception e) {
+            log.error("Failed to flush application counts, will retry: {}", e.getMessage());
+            // Put the deltas back so the next flush picks them up
+            batch.forEach(row -> apply((Long) row[1], (Long) row[0]));
+        }
+    }
+
+    @Scheduled(cron = "${jobs.application-count.reconcile-cron:0 0 * * * *}")
+    public synchronized void reconcile() {
+        // Flush first so this replica's deltas are in; other replicas' are covered by the settle window.
+        // The flush commits on its own: a recount rolling back must not take flushed deltas with it
+        flush();
+
+        Integer drifted = transactionTemplate.execute(status -> jobRepository.reconcileApplicationCounts(
+                ApplicationStatus.WITHDRAWN, LocalDateTime.now().minusSeconds(settleSeconds)));
+        if (drifted != null && drifted > 0) {
+            log.warn("Reconciled application count drift on {} jobs", drifted);
+        } else {
+            log.debug("Application counts are in sync");
+        }
+        // Another replica may have fixed the drift, so refresh local copies either way
+        eventPublisher.publishEvent(ApplicationCountsChangedEvent.all());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Only count changes that actually commit
+    private void add(Long jobId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(jobId, delta);
+                }
+            });
+        } else {
+            apply(jobId, delta);
+        }
+    }
+
+    private static void collect(Map<Long, Long> collected, Long jobId, long delta) {
+        if (delta != 0) {
+            collected.merge(jobId, delta, Long::sum);
+        }
+    }
+
+    private void apply(Long jobId, long delta) {
+        pending.computeIfAbsent(jobId, id -> new LongAdder()).add(delta);
+        // Cached detail on this replica includes pending deltas, so it is stale now
+        jobCache.evictLocal(List.of(jobId));
+    }
+}
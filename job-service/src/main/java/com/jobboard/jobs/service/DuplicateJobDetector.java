@@ -0,0 +1,77 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.enums.DuplicatePolicy;
+import com.jobboard.jobs.index.DuplicateJobIndex;
+import com.jobboard.jobs.index.SimHasher;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Looks up near-duplicates of a new posting among active jobs and carries
+ * the configured policy for what createJob does with them. The policy only
+ * applies to the employer's own postings; another employer's near-duplicate
+ * is at most flagged, never rejected or merged into.
+ */
+@Component
+@Slf4j
+public class DuplicateJobDetector {
+
+    private final DuplicateJobIndex duplicateJobIndex;
+    private final SimHasher simHasher;
+    private final JobRepository jobRepository;
+    private final DuplicatePolicy policy;
+
+    public DuplicateJobDetector(DuplicateJobIndex duplicateJobIndex,
+                                SimHasher simHasher,
+                                JobRepository jobRepository,
+                                @Value("${jobs.duplicates.policy:FLAG}") DuplicatePolicy policy) {
+        this.duplicateJobIndex = duplicateJobIndex;
+        this.simHasher = simHasher;
+        this.jobRepository = jobRepository;
+        this.policy = policy;
+    }
+
+    public DuplicatePolicy getPolicy() {
+        return policy;
+    }
+
+    // What to do with a posting by the given user that near-duplicates the original
+    public DuplicatePolicy policyFor(Job original, Long postedByUserId) {
+        return Objects.equals(original.getPostedByUserId(), postedByUserId) ? getPolicy() : DuplicatePolicy.FLAG;
+    }
+
+    public long fingerprint(Job job) {
+        return simHasher.fingerprint(job);
+    }
+
+    public boolean isNearDuplicate(long fingerprint, long other) {
+        return SimHasher.distance(fingerprint, other) <= duplicateJobIndex.getMaxDistance();
+    }
+
+    // The closest active near-duplicate of the (unsaved) job, the poster's own before anyone else's
+    public Optional<Job> findOriginal(Job job) {
+        return findOriginal(fingerprint(job), job.getPostedByUserId());
+    }
+
+    public Optional<Job> findOriginal(long fingerprint, Long postedByUserId) {
+        if (!duplicateJobIndex.isReady()) {
+            log.warn("Duplicate job index not ready, skipping duplicate check");
+            return Optional.empty();
+        }
+
+        for (Long candidate : duplicateJobIndex.findDuplicates(fingerprint, postedByUserId)) {
+            // The index trails commits slightly; skip jobs deactivated meanwhile
+            Optional<Job> original = jobRepository.findById(candidate).filter(Job::isActive);
+            if (original.isPresent()) {
+                return original;
+            }
+        }
+        return Optional.empty();
+    }
+}
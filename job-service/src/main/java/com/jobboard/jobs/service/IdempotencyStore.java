@@ -0,0 +1,258 @@
+package com.jobboard.jobs.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.exception.IdempotencyKeyConflictException;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.model.IdempotentRequest;
+import com.jobboard.jobs.repository.IdempotentRequestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Responses of write requests sent with an Idempotency-Key header, so a
+ * client retrying after a lost response gets the original result back
+ * without the request running again, whichever replica it reaches.
+ * <p>
+ * Completed responses are kept in a bounded local cache keyed by the
+ * caller's token hash, operation and key, which answers a retry on the
+ * same replica without calling the auth service or the database. Behind
+ * it, the idempotent_requests table holds every key scoped to the
+ * caller's user ID: a request first claims its row, then runs and stores
+ * its response in the same transaction, so the response is kept exactly
+ * when the request's writes commit. A failed request releases the row and
+ * may be retried with the same key. Each user keeps at most
+ * max-keys-per-user keys; beyond that their oldest completed keys are
+ * dropped and a retry with one of them runs again.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // A completed request as the local cache keeps it; expiresAt is System.nanoTime() based
+    private record Stored(String requestHash, String response, long expiresAt) {
+    }
+
+    private final IdempotentRequestRepository idempotentRequestRepository;
+    private final AuthServiceClient authServiceClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // Claims and releases commit on their own, ahead of and apart from the request
+    private final TransactionTemplate separateTransactionTemplate;
+    private final Cache<String, Stored> cache;
+    private final long expireAfterWriteSeconds;
+    private final int maxKeysPerUser;
+
+    public IdempotencyStore(IdempotentRequestRepository idempotentRequestRepository,
+                            AuthServiceClient authServiceClient,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${jobs.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${jobs.idempotency.expire-after-write-seconds:3600}") long expireAfterWriteSeconds,
+                            @Value("${jobs.idempotency.max-keys-per-user:1000}") int maxKeysPerUser) {
+        this.idempotentRequestRepository = idempotentRequestRepository;
+        this.authServiceClient = authServiceClient;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.expireAfterWriteSeconds = expireAfterWriteSeconds;
+        this.maxKeysPerUser = maxKeysPerUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // Gone when the row it mirrors expires, however late it was cached
+                .expireAfter(new Expiry<String, Stored>() {
+                    @Override
+                    public long expireAfterCreate(String key, Stored stored, long currentTime) {
+                        return Math.max(0, stored.expiresAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Stored stored, long currentTime, long currentDuration) {
+                        return Math.max(0, stored.expiresAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Stored stored, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobs.idempotency");
+    }
+
+    /**
+     * Runs the action for the caller, or returns the response it gave the
+     * first time this key was used. request is compared by its JSON form
+     * against the first use, so reusing a key for a different request is
+     * rejected. The action gets the caller as resolved here, so it needn't
+     * call the auth service again.
+     */
+    public <T> T execute(String operation, String authToken, String idempotencyKey, Object request,
+                         Class<T> responseType, Function<UserDTO, T> action) {
+        if (idempotencyKey == null) {
+            return action.apply(authServiceClient.getCurrentUser(authToken));
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidJobDataException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String requestHash = hash(write(request));
+        String cacheKey = hash(String.valueOf(authToken)) + ':' + operation + ':' + idempotencyKey;
+        Stored stored = cache.getIfPresent(cacheKey);
+        if (stored != null) {
+            return replay(operation, idempotencyKey, stored.requestHash(), requestHash, stored.response(), responseType);
+        }
+
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
+        IdempotentRequest claim = IdempotentRequest.builder()
+                .userId(currentUser.getId())
+                .operation(operation)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .build();
+
+        Optional<IdempotentRequest> existing = claim(claim);
+        if (existing.isPresent()) {
+            IdempotentRequest first = existing.get();
+            T response = replay(operation, idempotencyKey, first.getRequestHash(), requestHash, first.getResponse(),
+                    responseType);
+            remember(cacheKey, first);
+            return response;
+        }
+
+        T response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                T result = action.apply(currentUser);
+                claim.setResponse(write(result));
+                idempotentRequestRepository.complete(claim.getId(), claim.getResponse());
+                return result;
+            });
+        } catch (RuntimeException e) {
+            separateTransactionTemplate.executeWithoutResult(status -> idempotentRequestRepository.release(claim.getId()));
+            throw e;
+        }
+        remember(cacheKey, claim);
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.idempotency.purge-interval-ms:600000}",
+            initialDelayString = "${jobs.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Integer purged = separateTransactionTemplate.execute(status ->
+                idempotentRequestRepository.deleteCreatedBefore(cutoff()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    // Empty once the row is ours; otherwise the row another request claimed first
+    private Optional<IdempotentRequest> claim(IdempotentRequest claim) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                separateTransactionTemplate.executeWithoutResult(status -> {
+                    makeRoom(claim.getUserId());
+                    idempotentRequestRepository.saveAndFlush(claim);
+                });
+                return Optional.empty();
+            } catch (DataIntegrityViolationException e) {
+                claim.setId(null);
+                Optional<IdempotentRequest> existing = idempotentRequestRepository.findByUserIdAndOperationAndIdempotencyKey(
+                        claim.getUserId(), claim.getOperation(), claim.getIdempotencyKey());
+                // Released by a failed request or expired but not purged yet: claim it afresh
+                if (existing.isPresent() && existing.get().getCreatedAt().isAfter(cutoff())) {
+                    return existing;
+                }
+                existing.ifPresent(expired -> separateTransactionTemplate.executeWithoutResult(
+                        status -> idempotentRequestRepository.deleteById(expired.getId())));
+            }
+        }
+        throw new IdempotencyKeyConflictException("A request with this Idempotency-Key is still in progress");
+    }
+
+    // Drops the user's oldest completed keys so the new one fits under the cap
+    private void makeRoom(Long userId) {
+        long excess = idempotentRequestRepository.countByUserId(userId) - maxKeysPerUser + 1;
+        if (excess <= 0) {
+            return;
+        }
+        List<Long> oldest = idempotentRequestRepository.findOldestCompletedIds(userId,
+                PageRequest.of(0, (int) Math.min(excess, Integer.MAX_VALUE)));
+        idempotentRequestRepository.deleteAllByIdInBatch(oldest);
+    }
+
+    private <T> T replay(String operation, String idempotencyKey, String firstRequestHash, String requestHash,
+                         String response, Class<T> responseType) {
+        if (!firstRequestHash.equals(requestHash)) {
+            throw new IdempotencyKeyConflictException("Idempotency-Key was already used for a different request");
+        }
+        if (response == null) {
+            throw new IdempotencyKeyConflictException("A request with this Idempotency-Key is still in progress");
+        }
+
+        log.info("Replaying stored response for {} with Idempotency-Key {}", operation, idempotencyKey);
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response for Idempotency-Key is unreadable", e);
+        }
+    }
+
+    private void remember(String cacheKey, IdempotentRequest completed) {
+        LocalDateTime createdAt = completed.getCreatedAt() != null ? completed.getCreatedAt() : LocalDateTime.now();
+        long remaining = Duration.between(LocalDateTime.now(), createdAt.plusSeconds(expireAfterWriteSeconds)).toNanos();
+        cache.put(cacheKey, new Stored(completed.getRequestHash(), completed.getResponse(), System.nanoTime() + remaining));
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusSeconds(expireAfterWriteSeconds);
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    // Tokens are kept hashed, not as they were sent
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.DuplicateCluster;
+import com.jobboard.jobs.dto.DuplicateScanResponse;
+import com.jobboard.jobs.dto.IndexRebuildResponse;
+import com.jobboard.jobs.dto.ReadModelStatus;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.exception.UnauthorizedAccessException;
+import com.jobboard.jobs.index.DuplicateJobIndex;
+import com.jobboard.jobs.index.SimilarJobsIndex;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.readmodel.JobReadModel;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobAdminService {
+
+    private static final int MAX_DUPLICATE_CLUSTERS = 1000;
+
+    private final AuthServiceClient authServiceClient;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobReadModel jobReadModel;
+    private final SimilarJobsIndex similarJobsIndex;
+    private final DuplicateJobIndex duplicateJobIndex;
+    private final DuplicateJobDetector duplicateJobDetector;
+    private final JobRepository jobRepository;
+
+    public IndexRebuildResponse rebuildSearchIndex(String authToken) {
+        requireAdmin(authToken);
+
+        long start = System.currentTimeMillis();
+        long documents = jobSearchIndex.rebuild();
+
+        return IndexRebuildResponse.builder()
+                .index("search")
+                .documents(documents)
+                .tookMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    public IndexRebuildResponse rebuildReadModel(String authToken) {
+        requireAdmin(authToken);
+
+        long start = System.currentTimeMillis();
+        long documents = jobReadModel.rebuild();
+
+        return IndexRebuildResponse.builder()
+                .index("read-model")
+                .documents(documents)
+                .tookMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    public IndexRebuildResponse backfillSimilarJobs(String authToken) {
+        requireAdmin(authToken);
+
+        long start = System.currentTimeMillis();
+        long documents = similarJobsIndex.backfill();
+
+        return IndexRebuildResponse.builder()
+                .index("similar-jobs")
+                .documents(documents)
+                .tookMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    // Near-duplicate clusters among active jobs, whatever policy they were created under, from the last background scan
+    public DuplicateScanResponse scanDuplicates(String authToken, int offset, int limit) {
+        requireAdmin(authToken);
+
+        if (offset < 0) {
+            throw new InvalidJobDataException("Offset must not be negative");
+        }
+        if (limit < 1 || limit > MAX_DUPLICATE_CLUSTERS) {
+            throw new InvalidJobDataException("Limit must be between 1 and " + MAX_DUPLICATE_CLUSTERS);
+        }
+
+        DuplicateJobIndex.DuplicateScan scan = duplicateJobIndex.lastScan();
+        if (scan == null) {
+            return DuplicateScanResponse.builder()
+                    .policy(duplicateJobDetector.getPolicy())
+                    .clusters(List.of())
+                    .build();
+        }
+
+        List<long[]> clusters = scan.clusters();
+        List<long[]> page = clusters.subList(Math.min(offset, clusters.size()), Math.min(offset + limit, clusters.size()));
+
+        Map<Long, String> titles = jobRepository.findAllById(page.stream().map(ids -> ids[0]).toList()).stream()
+                .collect(Collectors.toMap(Job::getId, Job::getTitle));
+
+        return DuplicateScanResponse.builder()
+                .policy(duplicateJobDetector.getPolicy())
+                .jobsScanned(scan.jobsScanned())
+                .totalClusters(clusters.size())
+                .clusters(page.stream()
+                        .map(ids -> DuplicateCluster.builder()
+                                .originalJobId(ids[0])
+                                .title(titles.get(ids[0]))
+                                .duplicateJobIds(Arrays.stream(ids, 1, ids.length).boxed().toList())
+                                .build())
+                        .toList())
+                .scannedAt(scan.finishedAt())
+                .tookMillis(scan.tookMillis())
+                .build();
+    }
+
+    public ReadModelStatus getReadModelStatus(String authToken) {
+        requireAdmin(authToken);
+
+        return ReadModelStatus.builder()
+                .ready(jobReadModel.isReady())
+                .jobs(jobReadModel.size())
+                .activeJobs(jobReadModel.activeSize())
+                .pendingChanges(jobReadModel.pendingChanges())
+                .lagMillis(jobReadModel.lag().toMillis())
+                .build();
+    }
+
+    private void requireAdmin(String authToken) {
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
+
+        if (!"ADMIN".equals(currentUser.getRole())) {
+            throw new UnauthorizedAccessException("Only admins can perform this operation");
+        }
+    }
+}
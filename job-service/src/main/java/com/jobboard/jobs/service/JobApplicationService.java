@@ -1,42 +1,69 @@
 package com.jobboard.jobs.service;
 
+import com.jobboard.jobs.cache.EmployerDashboardCache;
+import com.jobboard.jobs.cache.MyApplicationsCache;
 import com.jobboard.jobs.client.AuthServiceClient;
 import com.jobboard.jobs.dto.JobApplicationRequest;
 import com.jobboard.jobs.dto.JobApplicationResponse;
 import com.jobboard.jobs.dto.*;
 import com.jobboard.jobs.enums.ApplicationStatus;
 import com.jobboard.jobs.exception.ApplicationAlreadyExistsException;
+import com.jobboard.jobs.exception.ApplicationStatusConflictException;
+import com.jobboard.jobs.exception.InvalidJobDataException;
 import com.jobboard.jobs.exception.JobNotFoundException;
 import com.jobboard.jobs.exception.UnauthorizedAccessException;
 import com.jobboard.jobs.model.Job;
 import com.jobboard.jobs.model.JobApplication;
+import com.jobboard.jobs.repository.ApplicationWithEmployer;
 import com.jobboard.jobs.repository.JobApplicationRepository;
 import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.repository.JobSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobApplicationService {
 
+    private static final int STATUS_EVENT_BATCH_SIZE = 500;
+    // Caps applicationIds and the pages a currentStatus change is read and updated in, so no IN list
+    // grows past it; every selected row stays PESSIMISTIC_WRITE-locked until the bulk update commits
+    private static final int MAX_BULK_STATUS_IDS = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final JobApplicationRepository jobApplicationRepository;
     private final JobRepository jobRepository;
     private final AuthServiceClient authServiceClient;
 
     private final MessagePublisher messagePublisher;
+    private final ApplicationCountAccumulator applicationCountAccumulator;
+    private final TrendingJobsTracker trendingJobsTracker;
+    private final JobViewTracker jobViewTracker;
+    private final MyApplicationsCache myApplicationsCache;
+    private final EmployerDashboardCache employerDashboardCache;
 
     @Transactional
-    public JobApplicationResponse applyForJob(Long jobId, JobApplicationRequest request, String authToken) {
+    public JobApplicationResponse applyForJob(Long jobId, JobApplicationRequest request, UserDTO currentUser) {
         log.info("User applying for job ID: {}", jobId);
 
-        // Get current user
-        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
-
         // Validate user is not EMPLOYER
         if ("EMPLOYER".equals(currentUser.getRole())) {
             throw new UnauthorizedAccessException("Employers cannot apply for jobs");
@@ -51,6 +78,11 @@ public class JobApplicationService {
             throw new UnauthorizedAccessException("This job is no longer accepting applications");
         }
 
+        // The expiry sweep runs periodically, so the deadline itself is checked here too
+        if (job.getApplicationDeadline() != null && job.getApplicationDeadline().isBefore(LocalDateTime.now())) {
+            throw new UnauthorizedAccessException("The application deadline for this job has passed");
+        }
+
         // Check if user already applied
         if (jobApplicationRepository.existsByJobIdAndUserId(jobId, currentUser.getId())) {
             throw new ApplicationAlreadyExistsException("You have already applied for this job");
@@ -70,6 +102,12 @@ public class JobApplicationService {
         JobApplication savedApplication = jobApplicationRepository.save(application);
         log.info("Application created successfully with ID: {}", savedApplication.getId());
 
+        applicationCountAccumulator.increment(jobId);
+        trendingJobsTracker.recordApplication(jobId);
+        jobViewTracker.recordApplication(jobId);
+        myApplicationsCache.invalidate(List.of(currentUser.getId()));
+        employerDashboardCache.recordChange(job.getPostedByUserId(), jobId, null, ApplicationStatus.PENDING);
+
         // Publish application submitted event
         ApplicationSubmittedEvent event = ApplicationSubmittedEvent.builder()
                 .applicationId(savedApplication.getId())
@@ -113,15 +151,33 @@ public class JobApplicationService {
 
         UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
 
-        List<JobApplication> applications = jobApplicationRepository.findByUserId(currentUser.getId());
+        return myApplicationsCache.get(currentUser.getId(),
+                userId -> mapToApplicationResponses(jobApplicationRepository.findByUserId(userId)));
+    }
 
-        return applications.stream()
-                .map(app -> {
-                    Job job = jobRepository.findById(app.getJobId())
-                            .orElse(null);
-                    return mapToApplicationResponse(app, job);
-                })
-                .toList();
+    // Newest first; size is clamped to 1..MAX_PAGE_SIZE
+    public Page<JobApplicationResponse> getMyApplications(Set<ApplicationStatus> statuses, int page, int size,
+                                                         String authToken) {
+        log.info("Fetching applications for current user - statuses: {}, page: {}", statuses, page);
+
+        if (page < 0) {
+            throw new InvalidJobDataException("Page must not be negative");
+        }
+        Set<ApplicationStatus> filter = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(statuses);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(page, pageSize, Sort.by("appliedAt").descending());
+
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
+
+        return myApplicationsCache.getPage(currentUser.getId(), new MyApplicationsCache.PageKey(filter, page, pageSize),
+                () -> {
+                    Page<JobApplication> applications = filter.isEmpty()
+                            ? jobApplicationRepository.findByUserId(currentUser.getId(), pageable)
+                            : jobApplicationRepository.findByUserIdAndStatusIn(currentUser.getId(), filter, pageable);
+
+                    Map<Long, JobSummary> jobs = findJobs(applications.getContent());
+                    return applications.map(app -> mapToApplicationResponse(app, jobs.get(app.getJobId())));
+                });
     }
 
     @Transactional
@@ -132,6 +188,11 @@ public class JobApplicationService {
 
         log.info("Updating application ID {} to status {}", applicationId, status);
 
+        // Same rule as the bulk update: only withdrawApplication moves the application count
+        if (status == ApplicationStatus.WITHDRAWN) {
+            throw new InvalidJobDataException("Applications can only be withdrawn by the applicant");
+        }
+
         UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
 
         JobApplication application = jobApplicationRepository.findById(applicationId)
@@ -145,26 +206,113 @@ public class JobApplicationService {
             throw new UnauthorizedAccessException("You can only update applications for your own jobs");
         }
 
+        ApplicationStatus previousStatus = application.getStatus();
+        if (!previousStatus.canTransitionTo(status)) {
+            throw new ApplicationStatusConflictException(
+                    "Cannot change application status from " + previousStatus + " to " + status);
+        }
+
+        // Applies only if nobody changed the status since it was read above
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (jobApplicationRepository.compareAndSetStatus(applicationId, previousStatus, status, updatedAt) == 0) {
+            throw new ApplicationStatusConflictException(
+                    "Application status was changed by someone else; reload it and try again");
+        }
         application.setStatus(status);
-        JobApplication updatedApplication = jobApplicationRepository.save(application);
+        application.setUpdatedAt(updatedAt);
+        myApplicationsCache.invalidate(List.of(application.getUserId()));
+        employerDashboardCache.recordChange(job.getPostedByUserId(), job.getId(), previousStatus, status);
 
         log.info("Application status updated successfully");
 
         // Publish status changed event
         ApplicationStatusChangedEvent event = ApplicationStatusChangedEvent.builder()
-                .applicationId(updatedApplication.getId())
+                .applicationId(application.getId())
                 .jobId(job.getId())
                 .jobTitle(job.getTitle())
                 .companyName(job.getCompanyName())
-                .applicantUsername(updatedApplication.getUsername())
-                .applicantEmail(updatedApplication.getUserEmail())
-                .oldStatus(application.getStatus().toString())
+                .applicantUsername(application.getUsername())
+                .applicantEmail(application.getUserEmail())
+                .oldStatus(previousStatus.toString())
                 .newStatus(status.toString())
                 .build();
 
         messagePublisher.publishApplicationStatusChangedEvent(event);
 
-        return mapToApplicationResponse(updatedApplication, job);
+        return mapToApplicationResponse(application, job);
+    }
+
+    @Transactional
+    public BulkApplicationStatusResponse updateApplicationStatuses(
+            Long jobId,
+            BulkApplicationStatusRequest request,
+            String authToken) {
+
+        log.info("Bulk updating applications for job ID {} to status {}", jobId, request.getStatus());
+
+        List<Long> applicationIds = request.getApplicationIds() == null ? null
+                : request.getApplicationIds().stream().distinct().toList();
+        Set<ApplicationStatus> currentStatus = request.getCurrentStatus();
+        boolean byId = applicationIds != null && !applicationIds.isEmpty();
+        if (byId && applicationIds.size() > MAX_BULK_STATUS_IDS) {
+            throw new InvalidJobDataException("At most " + MAX_BULK_STATUS_IDS
+                    + " applicationIds can be updated at once");
+        }
+        boolean byStatus = currentStatus != null && !currentStatus.isEmpty();
+        if (!byId && !byStatus) {
+            throw new InvalidJobDataException("Provide applicationIds, currentStatus or both");
+        }
+        // Withdrawing is the applicant's call, and it moves the job's application count
+        if (request.getStatus() == ApplicationStatus.WITHDRAWN) {
+            throw new InvalidJobDataException("Applications can only be withdrawn by the applicant");
+        }
+
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
+
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId));
+
+        if (!job.getPostedByUserId().equals(currentUser.getId())) {
+            throw new UnauthorizedAccessException("You can only update applications for your own jobs");
+        }
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<Long> changedIds = new ArrayList<>();
+        if (byId) {
+            List<JobApplication> changed = jobApplicationRepository.findByJobIdAndIdIn(jobId, applicationIds).stream()
+                    .filter(app -> !byStatus || currentStatus.contains(app.getStatus()))
+                    .filter(app -> app.getStatus().canTransitionTo(request.getStatus()))
+                    .toList();
+            changedIds.addAll(changeStatuses(job, changed, request.getStatus(), updatedAt));
+        } else {
+            // Only statuses that can move to the new one are selected, so every row read is changed
+            Set<ApplicationStatus> from = currentStatus.stream()
+                    .filter(status -> status.canTransitionTo(request.getStatus()))
+                    .collect(Collectors.toSet());
+            long afterId = 0;
+            while (!from.isEmpty()) {
+                List<JobApplication> page = jobApplicationRepository.findByJobIdAndStatusInAndIdGreaterThanOrderByIdAsc(
+                        jobId, from, afterId, PageRequest.ofSize(MAX_BULK_STATUS_IDS));
+                changedIds.addAll(changeStatuses(job, page, request.getStatus(), updatedAt));
+                if (page.size() < MAX_BULK_STATUS_IDS) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+        }
+
+        if (changedIds.isEmpty()) {
+            log.info("No applications to update");
+        } else {
+            log.info("Updated {} applications to status {}", changedIds.size(), request.getStatus());
+        }
+
+        return BulkApplicationStatusResponse.builder()
+                .jobId(jobId)
+                .status(request.getStatus())
+                .updated(changedIds.size())
+                .applicationIds(changedIds)
+                .build();
     }
 
     @Transactional
@@ -173,22 +321,122 @@ public class JobApplicationService {
 
         UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
 
-        JobApplication application = jobApplicationRepository.findByJobIdAndUserId(jobId, currentUser.getId())
+        ApplicationWithEmployer application = jobApplicationRepository
+                .findWithEmployerByJobIdAndUserId(jobId, currentUser.getId())
                 .orElseThrow(() -> new JobNotFoundException("Application not found for this job"));
 
-        application.setStatus(ApplicationStatus.WITHDRAWN);
-        jobApplicationRepository.save(application);
+        if (application.getStatus() == ApplicationStatus.WITHDRAWN) {
+            log.info("Application already withdrawn");
+            return;
+        }
+
+        ApplicationStatus previousStatus = application.getStatus();
+        if (jobApplicationRepository.compareAndSetStatus(application.getId(), previousStatus,
+                ApplicationStatus.WITHDRAWN, LocalDateTime.now()) == 0) {
+            // A concurrent withdrawal got there first; anything else changed the status under us
+            if (jobApplicationRepository.findById(application.getId())
+                    .filter(app -> app.getStatus() == ApplicationStatus.WITHDRAWN)
+                    .isPresent()) {
+                log.info("Application already withdrawn");
+                return;
+            }
+            throw new ApplicationStatusConflictException(
+                    "Application status was changed by someone else; reload it and try again");
+        }
+        applicationCountAccumulator.decrement(jobId);
+        myApplicationsCache.invalidate(List.of(currentUser.getId()));
+        employerDashboardCache.recordChange(application.getEmployerId(), jobId, previousStatus,
+                ApplicationStatus.WITHDRAWN);
 
         log.info("Application withdrawn successfully");
     }
 
-    // Helper method
+    // Applicants hear about a change only once it has committed
+    // Moves one locked batch of applications to the status; they still carry their old one
+    private List<Long> changeStatuses(Job job, List<JobApplication> changed, ApplicationStatus status,
+                                      LocalDateTime updatedAt) {
+        if (changed.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> changedIds = changed.stream().map(JobApplication::getId).toList();
+        jobApplicationRepository.updateStatus(changedIds, status, updatedAt);
+        myApplicationsCache.invalidate(changed.stream().map(JobApplication::getUserId).collect(Collectors.toSet()));
+        employerDashboardCache.recordChanges(job.getPostedByUserId(), job.getId(),
+                changed.stream().map(JobApplication::getStatus).toList(), status);
+
+        publishAfterCommit(changed.stream()
+                .map(app -> ApplicationStatusChangedEvent.builder()
+                        .applicationId(app.getId())
+                        .jobId(job.getId())
+                        .jobTitle(job.getTitle())
+                        .companyName(job.getCompanyName())
+                        .applicantUsername(app.getUsername())
+                        .applicantEmail(app.getUserEmail())
+                        .oldStatus(app.getStatus().toString())
+                        .newStatus(status.toString())
+                        .build())
+                .toList());
+        return changedIds;
+    }
+
+    private void publishAfterCommit(List<ApplicationStatusChangedEvent> events) {
+        Runnable publish = () -> {
+            for (int from = 0; from < events.size(); from += STATUS_EVENT_BATCH_SIZE) {
+                messagePublisher.publishApplicationStatusChangedEvents(
+                        new ArrayList<>(events.subList(from, Math.min(events.size(), from + STATUS_EVENT_BATCH_SIZE))));
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
+    }
+
+    // One lookup for every job referenced by the applications, instead of one per application
+    private Map<Long, JobSummary> findJobs(Collection<JobApplication> applications) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> jobIds = applications.stream().map(JobApplication::getJobId).collect(Collectors.toSet());
+        return jobRepository.findByIdIn(jobIds).stream()
+                .collect(Collectors.toMap(JobSummary::getId, Function.identity()));
+    }
+
+    private List<JobApplicationResponse> mapToApplicationResponses(List<JobApplication> applications) {
+        Map<Long, JobSummary> jobs = findJobs(applications);
+        return applications.stream()
+                .map(app -> mapToApplicationResponse(app, jobs.get(app.getJobId())))
+                .toList();
+    }
+
+    // Helper methods
     private JobApplicationResponse mapToApplicationResponse(JobApplication application, Job job) {
+        return mapToApplicationResponse(application,
+                job != null ? job.getTitle() : null,
+                job != null ? job.getCompanyName() : null);
+    }
+
+    private JobApplicationResponse mapToApplicationResponse(JobApplication application, JobSummary job) {
+        return mapToApplicationResponse(application,
+                job != null ? job.getTitle() : null,
+                job != null ? job.getCompanyName() : null);
+    }
+
+    private JobApplicationResponse mapToApplicationResponse(JobApplication application,
+                                                            String jobTitle, String companyName) {
         return JobApplicationResponse.builder()
                 .id(application.getId())
                 .jobId(application.getJobId())
-                .jobTitle(job != null ? job.getTitle() : "Unknown")
-                .companyName(job != null ? job.getCompanyName() : "Unknown")
+                .jobTitle(jobTitle != null ? jobTitle : "Unknown")
+                .companyName(companyName != null ? companyName : "Unknown")
                 .userId(application.getUserId())
                 .username(application.getUsername())
                 .userEmail(application.getUserEmail())
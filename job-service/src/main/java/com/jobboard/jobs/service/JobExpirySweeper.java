@@ -0,0 +1,140 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.event.JobExpiredEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deactivates jobs whose application deadline has passed, in bounded batches
+ * of one transaction each. Every replica runs the sweep: a job is claimed by
+ * a conditional per-row update, so when replicas pick the same candidates
+ * only the one whose update flips the row publishes its JobExpiredEvent.
+ */
+@Component
+@Slf4j
+public class JobExpirySweeper {
+
+    private static final String EXPIRE_SQL =
+            "UPDATE jobs SET is_active = FALSE, updated_at = ? " +
+            "WHERE id = ? AND is_active = TRUE AND application_deadline < ?";
+
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerSweep;
+
+    private final DistributionSummary batchSizes;
+    private final Counter expiredJobs;
+
+    // Oldest deadline still active after the last sweep; null when nothing is overdue
+    private volatile LocalDateTime oldestOverdueDeadline;
+
+    public JobExpirySweeper(JobRepository jobRepository,
+                            JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${jobs.expiry.batch-size:500}") int batchSize,
+                            @Value("${jobs.expiry.max-batches-per-sweep:20}") int maxBatchesPerSweep) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerSweep = maxBatchesPerSweep;
+
+        this.batchSizes = DistributionSummary.builder("jobs.expiry.batch.size")
+                .description("Jobs deactivated per expiry batch on this replica")
+                .register(meterRegistry);
+        this.expiredJobs = Counter.builder("jobs.expiry.expired")
+                .description("Jobs deactivated because their application deadline passed")
+                .register(meterRegistry);
+        Gauge.builder("jobs.expiry.lag", this, sweeper -> sweeper.lag().toMillis() / 1000.0)
+                .description("How long the oldest overdue job has been past its deadline")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.expiry.sweep-interval-ms:60000}",
+            initialDelayString = "${jobs.expiry.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerSweep; batch++) {
+                List<Long> candidates = jobRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                if (candidates.isEmpty()) {
+                    break;
+                }
+
+                expired += expire(candidates, now);
+                if (candidates.size() < batchSize) {
+                    break;
+                }
+            }
+            oldestOverdueDeadline = jobRepository.findOldestExpiredDeadline(now);
+        } catch (Exception e) {
+            log.error("Job expiry sweep failed after {} jobs, will retry: {}", expired, e.getMessage());
+            return;
+        }
+
+        if (expired > 0) {
+            log.info("Expired {} jobs past their application deadline", expired);
+        }
+    }
+
+    public Duration lag() {
+        LocalDateTime oldest = oldestOverdueDeadline;
+        return oldest != null ? Duration.between(oldest, LocalDateTime.now()) : Duration.ZERO;
+    }
+
+    private int expire(List<Long> candidates, LocalDateTime now) {
+        List<Job> jobs = transactionTemplate.execute(status -> {
+            Timestamp updatedAt = Timestamp.valueOf(now);
+            List<Object[]> rows = candidates.stream()
+                    .map(id -> new Object[]{updatedAt, id, updatedAt})
+                    .toList();
+            int[] updated = jdbcTemplate.batchUpdate(EXPIRE_SQL, rows);
+
+            // 0 when another replica expired the row first, or the deadline was extended meanwhile
+            List<Long> claimed = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] > 0) {
+                    claimed.add(candidates.get(i));
+                }
+            }
+            if (claimed.isEmpty()) {
+                return List.<Job>of();
+            }
+
+            List<Job> claimedJobs = jobRepository.findAllById(claimed);
+            eventPublisher.publishEvent(new JobExpiredEvent(claimedJobs, now));
+            return claimedJobs;
+        });
+
+        batchSizes.record(jobs.size());
+        expiredJobs.increment(jobs.size());
+        return jobs.size();
+    }
+}
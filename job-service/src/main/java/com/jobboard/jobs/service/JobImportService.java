@@ -0,0 +1,331 @@
+package com.jobboard.jobs.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.BulkImportResponse;
+import com.jobboard.jobs.dto.BulkImportRowResult;
+import com.jobboard.jobs.dto.JobBatchPostedEvent;
+import com.jobboard.jobs.dto.JobPostedEvent;
+import com.jobboard.jobs.dto.JobRequest;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.enums.DuplicatePolicy;
+import com.jobboard.jobs.enums.ImportRowStatus;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.exception.UnauthorizedAccessException;
+import com.jobboard.jobs.index.MinHasher;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bulk job import: rows are parsed and validated as they stream in, and valid
+ * rows are inserted in batches, each in its own transaction. Every batch
+ * publishes one JobBatchChangedEvent (indexes, cache) and one
+ * JobBatchPostedEvent (subscriber digest) rather than one event per job.
+ * Each row goes through the same near-duplicate check as createJob, and the
+ * search index is refreshed once after the last batch.
+ */
+@Service
+@Slf4j
+public class JobImportService {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    private final JobRepository jobRepository;
+    private final AuthServiceClient authServiceClient;
+    private final MessagePublisher messagePublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MinHasher minHasher;
+    private final DuplicateJobDetector duplicateJobDetector;
+    private final JobSearchIndex jobSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final int batchSize;
+
+    public JobImportService(JobRepository jobRepository,
+                            AuthServiceClient authServiceClient,
+                            MessagePublisher messagePublisher,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            MinHasher minHasher,
+                            DuplicateJobDetector duplicateJobDetector,
+                            JobSearchIndex jobSearchIndex,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${jobs.bulk-import.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.authServiceClient = authServiceClient;
+        this.messagePublisher = messagePublisher;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.minHasher = minHasher;
+        this.duplicateJobDetector = duplicateJobDetector;
+        this.jobSearchIndex = jobSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    private record PendingRow(long row, Job job, long fingerprint) {
+    }
+
+    public BulkImportResponse importJobs(InputStream body, MediaType contentType, String authToken) {
+        long started = System.currentTimeMillis();
+
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
+        if (!"EMPLOYER".equals(currentUser.getRole())) {
+            throw new UnauthorizedAccessException("Only employers can create jobs");
+        }
+
+        log.info("Importing jobs for employer {} ({})", currentUser.getUsername(), contentType);
+
+        List<BulkImportRowResult> results = new ArrayList<>();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        Map<String, List<String>> subscribersByCategory = new HashMap<>();
+        long row = 0;
+
+        try (MappingIterator<Map<String, Object>> rows = rowReader(contentType).readValues(body)) {
+            while (rows.hasNextValue()) {
+                Map<String, Object> fields = rows.nextValue();
+                row++;
+
+                List<String> errors = new ArrayList<>();
+                JobRequest request = toRequest(fields, errors);
+
+                if (!errors.isEmpty()) {
+                    results.add(rejected(row, errors));
+                    continue;
+                }
+
+                Job job = toJob(request, currentUser);
+                long fingerprint = duplicateJobDetector.fingerprint(job);
+                if (batch.stream().anyMatch(pending -> duplicateJobDetector.isNearDuplicate(fingerprint, pending.fingerprint()))) {
+                    // The earlier row has to be saved and indexed before this one can be checked against it
+                    results.addAll(saveBatch(batch, currentUser, subscribersByCategory));
+                    batch.clear();
+                }
+
+                Optional<Job> original = duplicateJobDetector.findOriginal(fingerprint, job.getPostedByUserId());
+                if (original.isPresent()) {
+                    Long originalId = original.get().getId();
+                    DuplicatePolicy policy = duplicateJobDetector.policyFor(original.get(), job.getPostedByUserId());
+                    if (policy == DuplicatePolicy.REJECT) {
+                        results.add(rejected(row, List.of("Job is a near-duplicate of job " + originalId)));
+                        continue;
+                    }
+                    if (policy == DuplicatePolicy.MERGE) {
+                        results.add(duplicate(row, originalId));
+                        continue;
+                    }
+                    job.setDuplicateOfJobId(originalId);
+                }
+
+                batch.add(new PendingRow(row, job, fingerprint));
+                if (batch.size() == batchSize) {
+                    results.addAll(saveBatch(batch, currentUser, subscribersByCategory));
+                    batch.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Broken CSV quoting / JSON syntax: the stream cannot be resynchronised, so stop at this row
+            log.warn("Bulk import stopped at row {}: {}", row + 1, e.getOriginalMessage());
+            results.add(rejected(row + 1, List.of("Malformed input, import stopped: " + e.getOriginalMessage())));
+        } catch (IOException e) {
+            // Batches saved so far are committed; make them searchable before giving up
+            jobSearchIndex.refresh();
+            throw new UncheckedIOException("Failed to read bulk import body", e);
+        }
+        results.addAll(saveBatch(batch, currentUser, subscribersByCategory));
+        // Batches were indexed without a search refresh; make them all searchable at once
+        jobSearchIndex.refresh();
+        results.sort(Comparator.comparingLong(BulkImportRowResult::getRow));
+
+        long created = results.stream().filter(r -> r.getStatus() == ImportRowStatus.CREATED).count();
+        long duplicates = results.stream().filter(r -> r.getStatus() == ImportRowStatus.DUPLICATE).count();
+        log.info("Bulk import finished: {} created, {} duplicates, {} rejected",
+                created, duplicates, results.size() - created - duplicates);
+
+        return BulkImportResponse.builder()
+                .received(results.size())
+                .created(created)
+                .rejected(results.size() - created - duplicates)
+                .duplicates(duplicates)
+                .tookMillis(System.currentTimeMillis() - started)
+                .rows(results)
+                .build();
+    }
+
+    // text/csv needs a header row naming JobRequest fields; anything else is read as NDJSON
+    private ObjectReader rowReader(MediaType contentType) {
+        if (contentType != null && TEXT_CSV.includes(contentType)) {
+            return csvMapper.readerFor(ROW_TYPE).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(ROW_TYPE);
+    }
+
+    private JobRequest toRequest(Map<String, Object> fields, List<String> errors) {
+        // Empty CSV cells mean "not given"
+        fields.values().removeIf(value -> value == null || (value instanceof String s && s.isBlank()));
+
+        JobRequest request;
+        try {
+            request = objectMapper.convertValue(fields, JobRequest.class);
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getCause() instanceof MismatchedInputException mismatch && !mismatch.getPath().isEmpty()
+                    ? "Invalid value for " + mismatch.getPath().get(mismatch.getPath().size() - 1).getFieldName()
+                    : "Invalid row: " + e.getMessage());
+            return null;
+        }
+
+        for (ConstraintViolation<JobRequest> violation : validator.validate(request)) {
+            errors.add(violation.getMessage());
+        }
+        if (request.getSalaryMin() != null && request.getSalaryMax() != null
+                && request.getSalaryMin().compareTo(request.getSalaryMax()) > 0) {
+            errors.add("Minimum salary cannot be greater than maximum salary");
+        }
+        return request;
+    }
+
+    private List<BulkImportRowResult> saveBatch(List<PendingRow> batch, UserDTO currentUser,
+                                                Map<String, List<String>> subscribersByCategory) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+
+        List<Job> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Job> jobs = jobRepository.saveAll(batch.stream().map(PendingRow::job).toList());
+                eventPublisher.publishEvent(JobBatchChangedEvent.imported(jobs));
+                return jobs;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to save bulk import batch of {} jobs: {}", batch.size(), e.getMessage());
+            return batch.stream()
+                    .map(pending -> rejected(pending.row(), List.of("Batch could not be saved")))
+                    .toList();
+        }
+
+        publishBatchPosted(saved, currentUser, subscribersByCategory);
+
+        List<BulkImportRowResult> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(BulkImportRowResult.builder()
+                    .row(batch.get(i).row())
+                    .status(ImportRowStatus.CREATED)
+                    .jobId(saved.get(i).getId())
+                    .duplicateOfJobId(saved.get(i).getDuplicateOfJobId())
+                    .build());
+        }
+        return results;
+    }
+
+    private void publishBatchPosted(List<Job> jobs, UserDTO currentUser,
+                                    Map<String, List<String>> subscribersByCategory) {
+        try {
+            List<JobPostedEvent> posted = new ArrayList<>(jobs.size());
+            for (Job job : jobs) {
+                String category = job.getCategory().toString();
+                // One subscriber lookup per category for the whole import
+                subscribersByCategory.computeIfAbsent(category, c -> authServiceClient.getUsersSubscribedToCategory(c)
+                        .stream()
+                        .map(UserDTO::getEmail)
+                        .toList());
+
+                posted.add(JobPostedEvent.builder()
+                        .jobId(job.getId())
+                        .title(job.getTitle())
+                        .companyName(job.getCompanyName())
+                        .location(job.getLocation())
+                        .category(category)
+                        .salaryMin(job.getSalaryMin())
+                        .salaryMax(job.getSalaryMax())
+                        .postedByUsername(currentUser.getUsername())
+                        .postedByEmail(currentUser.getEmail())
+                        .build());
+            }
+
+            Map<String, List<String>> subscribers = new HashMap<>();
+            posted.forEach(event -> subscribers.put(event.getCategory(), subscribersByCategory.get(event.getCategory())));
+
+            messagePublisher.publishJobBatchPostedEvent(JobBatchPostedEvent.builder()
+                    .postedByUsername(currentUser.getUsername())
+                    .postedByEmail(currentUser.getEmail())
+                    .jobs(posted)
+                    .subscribersByCategory(subscribers)
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to publish job batch posted event: {}", e.getMessage());
+            // Don't fail the import if notification fails
+        }
+    }
+
+    private Job toJob(JobRequest request, UserDTO currentUser) {
+        Job job = Job.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .companyName(request.getCompanyName())
+                .location(request.getLocation())
+                .jobType(request.getJobType())
+                .category(request.getCategory())
+                .experienceLevel(request.getExperienceLevel())
+                .salaryMin(request.getSalaryMin())
+                .salaryMax(request.getSalaryMax())
+                .skillsRequired(request.getSkillsRequired())
+                .postedByUserId(currentUser.getId())
+                .postedByUsername(currentUser.getUsername())
+                .postedByEmail(currentUser.getEmail())
+                .applicationDeadline(request.getApplicationDeadline())
+                .isActive(true)
+                .build();
+        job.setMinhash(minHasher.signature(job));
+        return job;
+    }
+
+    private static BulkImportRowResult duplicate(long row, Long originalId) {
+        return BulkImportRowResult.builder()
+                .row(row)
+                .status(ImportRowStatus.DUPLICATE)
+                .jobId(originalId)
+                .build();
+    }
+
+    private static BulkImportRowResult rejected(long row, List<String> errors) {
+        return BulkImportRowResult.builder()
+                .row(row)
+                .status(ImportRowStatus.REJECTED)
+                .errors(errors)
+                .build();
+    }
+}
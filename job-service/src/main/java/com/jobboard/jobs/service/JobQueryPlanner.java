@@ -0,0 +1,325 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.dto.JobQueryRequest;
+import com.jobboard.jobs.dto.QueryPlan;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.enums.QueryAccessPath;
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.index.JobFacetIndex;
+import com.jobboard.jobs.index.SalaryIndex;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchHits;
+import com.jobboard.jobs.search.JobSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * Plans /api/jobs/query: estimates the candidate count of every index that applies to the request from
+ * index statistics, drives from the most selective one, narrows the candidates through the remaining
+ * indexes and orders only the requested page. The keyword is left to the database only while the search
+ * index is rebuilding.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobQueryPlanner {
+
+    private static final int RESIDUAL_CHUNK_SIZE = 1000;
+    private static final BigDecimal NO_UPPER_BOUND = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final JobRepository jobRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final SalaryIndex salaryIndex;
+
+    @Data
+    @AllArgsConstructor
+    public static class PlannedPage {
+        private long totalMatches;
+        private List<Long> jobIds;
+        private QueryPlan plan;
+    }
+
+    public PlannedPage execute(JobQueryRequest request, int offset, int limit) {
+        long started = System.nanoTime();
+        Criteria criteria = new Criteria(request);
+        Map<QueryAccessPath, Long> estimates = new EnumMap<>(QueryAccessPath.class);
+        List<QueryPlan.Step> steps = new ArrayList<>();
+
+        // The bitmaps hold IDs as ints and leave larger ones out, so they can't answer once there are any;
+        // every predicate goes to the database then, the keyword included, ordered newest first
+        if (!jobFacetIndex.isComplete()) {
+            return scanDatabase(criteria, criteria.keyword, offset, limit, estimates, started);
+        }
+
+        // Estimates come from index statistics only; the facet bitmaps are cheap and kept for the chosen plan
+        RoaringBitmap enumMatches = null;
+        if (criteria.hasEnumFilters()) {
+            enumMatches = jobFacetIndex.match(request.getCategory(), request.getJobType(), request.getExperienceLevel());
+            estimates.put(QueryAccessPath.ENUM_BITMAP, enumMatches.getLongCardinality());
+        }
+        RoaringBitmap locationMatches = null;
+        if (criteria.location != null) {
+            locationMatches = jobFacetIndex.matchLocation(criteria.location);
+            estimates.put(QueryAccessPath.LOCATION, locationMatches.getLongCardinality());
+        }
+        if (criteria.useSearchIndex) {
+            estimates.put(QueryAccessPath.FULL_TEXT, jobSearchIndex.estimate(criteria.keyword));
+        }
+        // Without match() the salary range can still be checked per candidate, but can't drive
+        if (criteria.useSalaryIndex && salaryIndex.canMatch()) {
+            estimates.put(QueryAccessPath.SALARY_RANGE,
+                    salaryIndex.query(criteria.minSalary, criteria.maxSalary, criteria.salaryMode, 0, 0).getTotal());
+        }
+        if (criteria.postedSince != null) {
+            estimates.put(QueryAccessPath.POSTED_SINCE, jobFacetIndex.estimatePostedSince(criteria.postedSince));
+        }
+
+        QueryAccessPath accessPath = estimates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(QueryAccessPath.FULL_SCAN);
+
+        if (accessPath == QueryAccessPath.FULL_SCAN) {
+            return fullScan(criteria, offset, limit, estimates, started);
+        }
+
+        long stepStarted = System.nanoTime();
+        if (accessPath == QueryAccessPath.FULL_TEXT) {
+            // The search index collects the page in relevance order and checks the other predicates per match
+            JobSearchHits hits = jobSearchIndex.rank(criteria.keyword,
+                    perMatchFilter(criteria, enumMatches, locationMatches), offset, limit);
+            steps.add(step("Rank " + QueryAccessPath.FULL_TEXT, hits.getTotalHits(), stepStarted));
+            return new PlannedPage(hits.getTotalHits(), hits.getJobIds(), plan(accessPath, estimates, steps, started));
+        }
+
+        // 1. Driving path
+        RoaringBitmap candidates = switch (accessPath) {
+            case ENUM_BITMAP -> enumMatches;
+            case LOCATION -> locationMatches;
+            case SALARY_RANGE -> salaryIndex.match(criteria.minSalary, criteria.maxSalary, criteria.salaryMode);
+            case POSTED_SINCE -> jobFacetIndex.postedSince(criteria.postedSince);
+            default -> throw new IllegalStateException("Unexpected access path: " + accessPath);
+        };
+        steps.add(step("Scan " + accessPath, candidates.getLongCardinality(), stepStarted));
+
+        // 2. Narrow: bitmap intersections first, then point checks against the other indexes
+        if (enumMatches != null && accessPath != QueryAccessPath.ENUM_BITMAP) {
+            stepStarted = System.nanoTime();
+            candidates.and(enumMatches);
+            steps.add(step("Intersect " + QueryAccessPath.ENUM_BITMAP, candidates.getLongCardinality(), stepStarted));
+        }
+        if (locationMatches != null && accessPath != QueryAccessPath.LOCATION) {
+            stepStarted = System.nanoTime();
+            candidates.and(locationMatches);
+            steps.add(step("Intersect " + QueryAccessPath.LOCATION, candidates.getLongCardinality(), stepStarted));
+        }
+        if (criteria.useSalaryIndex && accessPath != QueryAccessPath.SALARY_RANGE) {
+            stepStarted = System.nanoTime();
+            candidates = retain(candidates, id -> salaryIndex.matches(id, criteria.minSalary, criteria.maxSalary,
+                    criteria.salaryMode));
+            steps.add(step("Filter " + QueryAccessPath.SALARY_RANGE, candidates.getLongCardinality(), stepStarted));
+        }
+        if (criteria.postedSince != null && accessPath != QueryAccessPath.POSTED_SINCE) {
+            stepStarted = System.nanoTime();
+            candidates = retain(candidates, id -> jobFacetIndex.isPostedSince(id, criteria.postedSince));
+            steps.add(step("Filter " + QueryAccessPath.POSTED_SINCE, candidates.getLongCardinality(), stepStarted));
+        }
+
+        // 3. Keyword in the database, only while the search index is rebuilding
+        if (criteria.residualKeyword != null) {
+            stepStarted = System.nanoTime();
+            candidates = filterInDatabase(candidates, criteria.residualKeyword);
+            steps.add(step("Filter in database", candidates.getLongCardinality(), stepStarted));
+        }
+
+        // 4. Only the requested page is ordered: by relevance when there is a keyword, newest first otherwise
+        stepStarted = System.nanoTime();
+        if (criteria.useSearchIndex) {
+            JobSearchHits hits = jobSearchIndex.rank(criteria.keyword, candidates, offset, limit);
+            steps.add(step("Rank " + QueryAccessPath.FULL_TEXT, hits.getTotalHits(), stepStarted));
+            return new PlannedPage(hits.getTotalHits(), hits.getJobIds(), plan(accessPath, estimates, steps, started));
+        }
+
+        List<Long> page = jobFacetIndex.newestFirst(candidates, offset, limit);
+        steps.add(step("Order by newest", page.size(), stepStarted));
+        return new PlannedPage(candidates.getLongCardinality(), page, plan(accessPath, estimates, steps, started));
+    }
+
+    // No index applies: every active job, or a keyword scan in the database while the search index rebuilds
+    private PlannedPage fullScan(Criteria criteria, int offset, int limit,
+                                 Map<QueryAccessPath, Long> estimates, long started) {
+        long stepStarted = System.nanoTime();
+        List<QueryPlan.Step> steps = new ArrayList<>();
+
+        if (criteria.residualKeyword == null) {
+            RoaringBitmap active = jobFacetIndex.match(null, null, null);
+            estimates.put(QueryAccessPath.FULL_SCAN, active.getLongCardinality());
+            List<Long> page = jobFacetIndex.newestFirst(active, offset, limit);
+            steps.add(step("Scan active jobs", page.size(), stepStarted));
+
+            return new PlannedPage(active.getLongCardinality(), page,
+                    plan(QueryAccessPath.FULL_SCAN, estimates, steps, started));
+        }
+
+        return scanDatabase(criteria, criteria.residualKeyword, offset, limit, estimates, started);
+    }
+
+    private PlannedPage scanDatabase(Criteria criteria, String keyword, int offset, int limit,
+                                     Map<QueryAccessPath, Long> estimates, long started) {
+        long stepStarted = System.nanoTime();
+        JobQueryRequest request = criteria.request;
+        Page<Long> page = jobRepository.findActiveIdsMatching(
+                orAll(request.getCategory(), JobCategory.class),
+                orAll(request.getJobType(), JobType.class),
+                orAll(request.getExperienceLevel(), ExperienceLevel.class),
+                criteria.location, keyword, criteria.postedSince,
+                criteria.useSalaryIndex, criteria.salaryMode == SalaryMatchMode.WITHIN,
+                criteria.minSalary, criteria.maxSalary,
+                PageRequest.of(offset / limit, limit, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+        estimates.put(QueryAccessPath.FULL_SCAN, page.getTotalElements());
+
+        List<QueryPlan.Step> steps = new ArrayList<>();
+        steps.add(step("Scan active jobs in database", page.getTotalElements(), stepStarted));
+        return new PlannedPage(page.getTotalElements(), page.getContent(),
+                plan(QueryAccessPath.FULL_SCAN, estimates, steps, started));
+    }
+
+    // Every predicate except the keyword, for checking the search index's matches one by one
+    private LongPredicate perMatchFilter(Criteria criteria, RoaringBitmap enumMatches, RoaringBitmap locationMatches) {
+        LongPredicate accepts = null;
+        if (enumMatches != null) {
+            accepts = and(accepts, id -> contains(enumMatches, id));
+        }
+        if (locationMatches != null) {
+            accepts = and(accepts, id -> contains(locationMatches, id));
+        }
+        if (criteria.useSalaryIndex) {
+            accepts = and(accepts, id -> salaryIndex.matches(id, criteria.minSalary, criteria.maxSalary,
+                    criteria.salaryMode));
+        }
+        if (criteria.postedSince != null) {
+            accepts = and(accepts, id -> jobFacetIndex.isPostedSince(id, criteria.postedSince));
+        }
+        return accepts;
+    }
+
+    // An ID the bitmaps can't hold is not in them, rather than a truncated one that may be
+    private static boolean contains(RoaringBitmap bitmap, long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE && bitmap.contains((int) id);
+    }
+
+    private static LongPredicate and(LongPredicate first, LongPredicate second) {
+        return first == null ? second : first.and(second);
+    }
+
+    private static RoaringBitmap retain(RoaringBitmap candidates, LongPredicate accepts) {
+        RoaringBitmap kept = new RoaringBitmap();
+        candidates.forEach((int id) -> {
+            if (accepts.test(id)) {
+                kept.add(id);
+            }
+        });
+        return kept;
+    }
+
+    private RoaringBitmap filterInDatabase(RoaringBitmap candidates, String keyword) {
+        RoaringBitmap kept = new RoaringBitmap();
+        List<Long> chunk = new ArrayList<>(RESIDUAL_CHUNK_SIZE);
+        IntIterator iterator = candidates.getIntIterator();
+        while (iterator.hasNext()) {
+            chunk.add((long) iterator.next());
+            if (chunk.size() == RESIDUAL_CHUNK_SIZE || !iterator.hasNext()) {
+                jobRepository.filterIdsByKeyword(chunk, keyword).forEach(id -> kept.add(id.intValue()));
+                chunk.clear();
+            }
+        }
+        return kept;
+    }
+
+    private static QueryPlan.Step step(String operation, long rows, long startedNanos) {
+        return new QueryPlan.Step(operation, rows, (System.nanoTime() - startedNanos) / 1_000);
+    }
+
+    private static QueryPlan plan(QueryAccessPath accessPath, Map<QueryAccessPath, Long> estimates,
+                                  List<QueryPlan.Step> steps, long startedNanos) {
+        log.debug("Query plan {} with estimates {}", accessPath, estimates);
+        return QueryPlan.builder()
+                .accessPath(accessPath)
+                .estimatedRows(estimates)
+                .steps(steps)
+                .tookMicros((System.nanoTime() - startedNanos) / 1_000)
+                .build();
+    }
+
+    // Normalised request: which predicates go to which index
+    private final class Criteria {
+        private final JobQueryRequest request;
+        private final String keyword;
+        private final String residualKeyword;
+        private final String location;
+        private final boolean useSearchIndex;
+        private final boolean useSalaryIndex;
+        private final BigDecimal minSalary;
+        private final BigDecimal maxSalary;
+        private final SalaryMatchMode salaryMode;
+        private final LocalDateTime postedSince;
+
+        private Criteria(JobQueryRequest request) {
+            this.request = request;
+            this.keyword = StringUtils.hasText(request.getKeyword()) ? request.getKeyword().trim() : null;
+            this.useSearchIndex = keyword != null && jobSearchIndex.isReady();
+            this.residualKeyword = keyword != null && !useSearchIndex ? keyword : null;
+            this.location = StringUtils.hasText(request.getLocation()) ? request.getLocation().trim() : null;
+
+            this.minSalary = request.getMinSalary() != null ? request.getMinSalary() : BigDecimal.ZERO;
+            this.maxSalary = request.getMaxSalary() != null ? request.getMaxSalary() : NO_UPPER_BOUND;
+            if (minSalary.compareTo(maxSalary) > 0) {
+                throw new InvalidJobDataException("Minimum salary cannot be greater than maximum salary");
+            }
+            this.salaryMode = request.getSalaryMode() != null ? request.getSalaryMode() : SalaryMatchMode.WITHIN;
+            boolean hasSalary = request.getMinSalary() != null || request.getMaxSalary() != null;
+            if (hasSalary && !salaryIndex.isReady()) {
+                throw new InvalidJobDataException("Salary filtering is temporarily unavailable");
+            }
+            this.useSalaryIndex = hasSalary;
+            this.postedSince = request.getPostedSince();
+        }
+
+        private boolean hasEnumFilters() {
+            return !isEmpty(request.getCategory()) || !isEmpty(request.getJobType())
+                    || !isEmpty(request.getExperienceLevel());
+        }
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    // The database query takes every value of an unfiltered facet instead of an optional predicate
+    private static <E extends Enum<E>> Collection<E> orAll(Collection<E> values, Class<E> type) {
+        return isEmpty(values) ? EnumSet.allOf(type) : values;
+    }
+}
@@ -1,43 +1,120 @@
 package com.jobboard.jobs.service;
 
+import com.jobboard.jobs.cache.EmployerDashboardCache;
+import com.jobboard.jobs.cache.JobCache;
 import com.jobboard.jobs.client.AuthServiceClient;
 import com.jobboard.jobs.dto.*;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.enums.ExperienceLevel;
 import com.jobboard.jobs.enums.JobCategory;
 import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.exception.DuplicateJobException;
 import com.jobboard.jobs.exception.InvalidJobDataException;
 import com.jobboard.jobs.exception.JobNotFoundException;
+import com.jobboard.jobs.exception.SearchIndexUnavailableException;
 import com.jobboard.jobs.exception.UnauthorizedAccessException;
+import com.jobboard.jobs.index.FacetResult;
+import com.jobboard.jobs.index.HyperLogLog;
+import com.jobboard.jobs.index.IdPage;
+import com.jobboard.jobs.index.JobFacetIndex;
+import com.jobboard.jobs.index.MinHasher;
+import com.jobboard.jobs.index.SalaryIndex;
+import com.jobboard.jobs.index.SimilarJobsIndex;
+import com.jobboard.jobs.index.SkillDictionary;
+import com.jobboard.jobs.index.SkillMatchIndex;
 import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.model.JobDailyViewSketch;
+import com.jobboard.jobs.model.JobViewSketch;
+import com.jobboard.jobs.readmodel.JobReadModel;
+import com.jobboard.jobs.readmodel.JobView;
 import com.jobboard.jobs.repository.JobApplicationRepository;
+import com.jobboard.jobs.repository.JobDailyViewSketchRepository;
 import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.repository.JobSummary;
+import com.jobboard.jobs.repository.JobViewSketchRepository;
+import com.jobboard.jobs.search.JobSearchHits;
+import com.jobboard.jobs.search.JobSearchIndex;
+import com.jobboard.jobs.search.JobSuggestIndex;
+import com.jobboard.jobs.search.SearchCursor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobService {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final int MAX_SKILL_MATCH_RESULTS = 10_000;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_SIMILAR_JOBS = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_ANALYTICS_DAYS = 90;
+
     private final JobRepository jobRepository;
     private final JobApplicationRepository jobApplicationRepository;
+    private final ApplicationCountAccumulator applicationCountAccumulator;
     private final AuthServiceClient authServiceClient;
 
     private final MessagePublisher messagePublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobSuggestIndex jobSuggestIndex;
+    private final JobCache jobCache;
+    private final EmployerDashboardCache employerDashboardCache;
+    private final JobFacetIndex jobFacetIndex;
+    private final SalaryIndex salaryIndex;
+    private final SkillDictionary skillDictionary;
+    private final SkillMatchIndex skillMatchIndex;
+    private final MinHasher minHasher;
+    private final SimilarJobsIndex similarJobsIndex;
+    private final DuplicateJobDetector duplicateJobDetector;
+    private final TrendingJobsTracker trendingJobsTracker;
+    private final JobViewTracker jobViewTracker;
+    private final JobViewSketchRepository jobViewSketchRepository;
+    private final JobDailyViewSketchRepository jobDailyViewSketchRepository;
+    private final JobQueryPlanner jobQueryPlanner;
+    private final JobReadModel jobReadModel;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Transactional
-    public JobResponse createJob(JobRequest request, String authToken) {
+    public JobResponse createJob(JobRequest request, UserDTO currentUser) {
         log.info("Creating new job: {}", request.getTitle());
 
-        // Get current user from Auth Service
-        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
-
         // Validate user is EMPLOYER
         if (!"EMPLOYER".equals(currentUser.getRole())) {
             throw new UnauthorizedAccessException("Only employers can create jobs");
@@ -68,10 +145,29 @@ public class JobService {
                 .applicationDeadline(request.getApplicationDeadline())
                 .isActive(true)
                 .build();
+        job.setMinhash(minHasher.signature(job));
+
+        Optional<Job> original = duplicateJobDetector.findOriginal(job);
+        if (original.isPresent()) {
+            Long originalId = original.get().getId();
+            switch (duplicateJobDetector.policyFor(original.get(), job.getPostedByUserId())) {
+                case REJECT -> throw new DuplicateJobException("Job is a near-duplicate of job " + originalId);
+                case MERGE -> {
+                    log.info("Job merged into near-duplicate job ID: {}", originalId);
+                    return mergeRepost(original.get(), job);
+                }
+                case FLAG -> {
+                    log.warn("Job flagged as a near-duplicate of job ID: {}", originalId);
+                    job.setDuplicateOfJobId(originalId);
+                }
+            }
+        }
 
         Job savedJob = jobRepository.save(job);
         log.info("Job created successfully with ID: {}", savedJob.getId());
 
+        eventPublisher.publishEvent(JobChangedEvent.created(savedJob));
+
         // ============================================
         // PUBLISH JOB POSTED EVENT - UPDATED SECTION
         // ============================================
@@ -113,48 +209,447 @@ public class JobService {
         return mapToJobResponse(savedJob);
     }
 
-    public JobResponse getJobById(Long jobId) {
+    // viewerKey identifies the viewer for unique-viewer analytics, see JobViewTracker.viewerKey
+    public JobResponse getJobById(Long jobId, String viewerKey) {
         log.info("Fetching job with ID: {}", jobId);
 
+        // The cache is evicted as soon as a write commits, so a read right after an update sees it
+        JobResponse response = jobCache.get(jobId, id -> {
+            Job job = jobRepository.findById(id)
+                    .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + id));
+
+            return mapToJobResponse(job);
+        });
+
+        if (response.isActive()) {
+            trendingJobsTracker.recordView(jobId);
+            jobViewTracker.recordView(jobId, viewerKey);
+        }
+        return response;
+    }
+
+    // A view answered with 304: the client has the job already, so only the trackers need it
+    public void recordView(Long jobId, String viewerKey) {
+        JobResponse cached = jobCache.getIfPresent(jobId);
+        if (cached == null) {
+            getJobById(jobId, viewerKey);
+        } else if (cached.isActive()) {
+            trendingJobsTracker.recordView(jobId);
+            jobViewTracker.recordView(jobId, viewerKey);
+        }
+    }
+
+    /**
+     * Unique viewers, views and applications of the employer's job, all-time
+     * and for each of the last days. Reads the job's sketch rows by primary
+     * key and adds what this instance has not flushed yet.
+     */
+    public JobAnalyticsResponse getJobAnalytics(Long jobId, int days, String authToken) {
+        log.info("Fetching analytics for job ID: {}", jobId);
+
+        if (days < 1 || days > MAX_ANALYTICS_DAYS) {
+            throw new InvalidJobDataException("Days must be between 1 and " + MAX_ANALYTICS_DAYS);
+        }
+
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId));
+        if (!job.getPostedByUserId().equals(currentUser.getId())) {
+            throw new UnauthorizedAccessException("You can only view analytics for your own jobs");
+        }
+
+        LocalDate today = jobViewTracker.today();
+        LocalDate from = today.minusDays(days - 1);
+        Map<LocalDate, JobDailyViewSketch> stored = new HashMap<>();
+        jobDailyViewSketchRepository.findByJobIdAndDayBetweenOrderByDayAsc(jobId, from, today)
+                .forEach(row -> stored.put(row.getDay(), row));
+
+        HyperLogLog periodViewers = new HyperLogLog();
+        long unflushedViews = 0;
+        long unflushedApplications = 0;
+        List<DailyJobAnalytics> daily = new ArrayList<>(days);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            JobDailyViewSketch row = stored.get(day);
+            JobViewTracker.Counts unflushed = jobViewTracker.unflushed(jobId, day);
+            HyperLogLog viewers = row != null ? HyperLogLog.fromBytes(row.getViewers()) : new HyperLogLog();
+            viewers.merge(unflushed.viewers());
+            periodViewers.merge(viewers);
+            unflushedViews += unflushed.views();
+            unflushedApplications += unflushed.applications();
+
+            long uniqueViewers = viewers.estimate();
+            long applications = (row != null ? row.getApplications() : 0) + unflushed.applications();
+            daily.add(DailyJobAnalytics.builder()
+                    .day(day)
+                    .uniqueViewers(uniqueViewers)
+                    .views((row != null ? row.getViews() : 0) + unflushed.views())
+                    .applications(applications)
+                    .conversionRate(conversionRate(applications, uniqueViewers))
+                    .build());
+        }
 
-        return mapToJobResponse(job);
+        // Unflushed counts are at most a flush interval old, so the window above holds all of them
+        JobViewSketch total = jobViewSketchRepository.findById(jobId).orElse(null);
+        HyperLogLog viewers = total != null ? HyperLogLog.fromBytes(total.getViewers()) : new HyperLogLog();
+        viewers.merge(periodViewers);
+        long uniqueViewers = viewers.estimate();
+        long views = (total != null ? total.getViews() : 0) + unflushedViews;
+        long applications = (total != null ? total.getApplications() : 0) + unflushedApplications;
+
+        return JobAnalyticsResponse.builder()
+                .jobId(jobId)
+                .uniqueViewers(uniqueViewers)
+                .views(views)
+                .applications(applications)
+                .conversionRate(conversionRate(applications, uniqueViewers))
+                .periodUniqueViewers(periodViewers.estimate())
+                .daily(daily)
+                .build();
     }
 
-    public Page<JobResponse> getAllActiveJobs(Pageable pageable) {
+    // Most viewed and applied-to active jobs lately, served from memory
+    public List<TrendingJob> getTrendingJobs(int size) {
+        if (size < 1 || size > trendingJobsTracker.capacity()) {
+            throw new InvalidJobDataException("Size must be between 1 and " + trendingJobsTracker.capacity());
+        }
+        if (!trendingJobsTracker.isReady()) {
+            log.warn("Trending scores not loaded yet, serving a partial list");
+        }
+
+        List<TrendingJobsTracker.Trending> top = trendingJobsTracker.top(size);
+        Map<Long, Double> scores = new HashMap<>();
+        top.forEach(trending -> scores.put(trending.getJobId(), trending.getScore()));
+
+        return findAllInOrder(top.stream().map(TrendingJobsTracker.Trending::getJobId).toList()).stream()
+                .map(job -> TrendingJob.builder()
+                        .job(mapToSummaryResponse(job))
+                        .score(scores.get(job.getId()))
+                        .build())
+                .toList();
+    }
+
+    public Page<JobSummaryResponse> getAllActiveJobs(Pageable pageable) {
         log.info("Fetching all active jobs");
 
-        Page<Job> jobs = jobRepository.findByIsActiveTrue(pageable);
-        return jobs.map(this::mapToJobResponse);
+        if (servesFromReadModel(pageable)) {
+            return jobReadModel.findActive(null, null, pageable).map(this::mapToSummaryResponse);
+        }
+
+        Page<JobSummary> jobs = jobRepository.findByIsActiveTrue(pageable);
+        return jobs.map(this::mapToSummaryResponse);
     }
 
-    public Page<JobResponse> searchJobs(String keyword, Pageable pageable) {
+    public Page<JobSummaryResponse> searchJobs(String keyword, Pageable pageable) {
         log.info("Searching jobs with keyword: {}", keyword);
 
-        Page<Job> jobs = jobRepository.searchJobs(keyword, pageable);
-        return jobs.map(this::mapToJobResponse);
+        if (pageable.getOffset() + pageable.getPageSize() > JobSearchIndex.MAX_RESULT_WINDOW) {
+            throw new InvalidJobDataException("Only the first " + JobSearchIndex.MAX_RESULT_WINDOW
+                    + " results can be paged through; use cursor pagination beyond that");
+        }
+
+        if (!jobSearchIndex.isReady()) {
+            log.warn("Search index is not ready, falling back to database scan");
+            return jobRepository.searchJobs(keyword, pageable).map(this::mapToSummaryResponse);
+        }
+
+        // Ranked by relevance (BM25) in the search index; totals past the first thousand hits are lower bounds
+        JobSearchHits hits = jobSearchIndex.search(keyword, pageable);
+        List<JobSummaryResponse> jobs = findAllInOrder(hits.getJobIds()).stream()
+                .map(this::mapToSummaryResponse)
+                .toList();
+
+        return new PageImpl<>(jobs, pageable, hits.getTotalHits());
     }
 
-    public Page<JobResponse> getJobsByCategory(JobCategory category, Pageable pageable) {
+    public Page<JobSummaryResponse> getJobsByCategory(JobCategory category, Pageable pageable) {
         log.info("Fetching jobs by category: {}", category);
 
-        Page<Job> jobs = jobRepository.findByCategoryAndIsActiveTrue(category, pageable);
-        return jobs.map(this::mapToJobResponse);
+        if (servesFromReadModel(pageable)) {
+            return jobReadModel.findActive(category, null, pageable).map(this::mapToSummaryResponse);
+        }
+
+        Page<JobSummary> jobs = jobRepository.findByCategoryAndIsActiveTrue(category, pageable);
+        return jobs.map(this::mapToSummaryResponse);
     }
 
-    public Page<JobResponse> getJobsByType(JobType jobType, Pageable pageable) {
+    public Page<JobSummaryResponse> getJobsByType(JobType jobType, Pageable pageable) {
         log.info("Fetching jobs by type: {}", jobType);
 
-        Page<Job> jobs = jobRepository.findByJobTypeAndIsActiveTrue(jobType, pageable);
-        return jobs.map(this::mapToJobResponse);
+        if (servesFromReadModel(pageable)) {
+            return jobReadModel.findActive(null, jobType, pageable).map(this::mapToSummaryResponse);
+        }
+
+        Page<JobSummary> jobs = jobRepository.findByJobTypeAndIsActiveTrue(jobType, pageable);
+        return jobs.map(this::mapToSummaryResponse);
+    }
+
+    // Results are ordered by salaryMin ascending
+    public Page<JobSummaryResponse> getJobsBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary,
+                                                  SalaryMatchMode mode, Pageable pageable) {
+        log.info("Fetching jobs with salary range: {} - {} ({})", minSalary, maxSalary, mode);
+
+        if (!salaryIndex.isReady()) {
+            log.warn("Salary index is not ready, falling back to database scan");
+            Page<JobSummary> jobs = mode == SalaryMatchMode.OVERLAPS
+                    ? jobRepository.findBySalaryOverlap(minSalary, maxSalary, pageable)
+                    : jobRepository.findBySalaryRange(minSalary, maxSalary, pageable);
+            return jobs.map(this::mapToSummaryResponse);
+        }
+
+        IdPage ids = salaryIndex.query(minSalary, maxSalary, mode, (int) pageable.getOffset(), pageable.getPageSize());
+        // Only active rows are loaded; the index snapshot can trail a deactivation briefly
+        List<JobSummaryResponse> jobs = findAllInOrder(ids.getJobIds()).stream()
+                .map(this::mapToSummaryResponse)
+                .toList();
+
+        return new PageImpl<>(jobs, pageable, ids.getTotal());
+    }
+
+    // Cursor mode listings: seek on (createdAt, id), no OFFSET and no COUNT(*)
+    public CursorPage<JobSummaryResponse> getAllActiveJobs(String cursor, int size) {
+        log.info("Fetching all active jobs after cursor");
+
+        JobCursor after = JobCursor.decode(cursor);
+        if (jobReadModel.isReady()) {
+            return mapToCursorPage(jobReadModel.findActiveBefore(
+                    null, null, after.getCreatedAt(), after.getId(), firstSlice(size).getPageSize()));
+        }
+
+        Slice<JobSummary> jobs = jobRepository.findActiveBefore(after.getCreatedAt(), after.getId(), firstSlice(size));
+        return mapToCursorPage(jobs);
+    }
+
+    public CursorPage<JobSummaryResponse> searchJobs(String keyword, String cursor, int size) {
+        log.info("Searching jobs with keyword: {} after cursor", keyword);
+
+        // A scroll stays on the path that issued its first page: database cursors keep
+        // reading the database even once the index is ready again
+        boolean continuesIndexScroll = SearchCursor.isIndexCursor(cursor);
+        boolean firstPage = cursor == null || cursor.isBlank();
+        if (continuesIndexScroll && !jobSearchIndex.isReady()) {
+            throw new SearchIndexUnavailableException("Search index is rebuilding, retry this page shortly");
+        }
+
+        if (!continuesIndexScroll && !(firstPage && jobSearchIndex.isReady())) {
+            log.warn("Search index is not serving this scroll, using database scan");
+            JobCursor after = JobCursor.decode(cursor);
+            return mapToCursorPage(jobRepository.searchJobsBefore(
+                    keyword, after.getCreatedAt(), after.getId(), firstSlice(size)));
+        }
+
+        JobSearchHits hits = jobSearchIndex.searchAfter(keyword, SearchCursor.decode(cursor), firstSlice(size).getPageSize());
+        List<JobSummaryResponse> jobs = findAllInOrder(hits.getJobIds()).stream()
+                .map(this::mapToSummaryResponse)
+                .toList();
+
+        return CursorPage.<JobSummaryResponse>builder()
+                .content(jobs)
+                .size(jobs.size())
+                .hasNext(hits.getNextCursor() != null)
+                .nextCursor(hits.getNextCursor())
+                .build();
+    }
+
+    public CursorPage<JobSummaryResponse> getJobsByCategory(JobCategory category, String cursor, int size) {
+        log.info("Fetching jobs by category: {} after cursor", category);
+
+        JobCursor after = JobCursor.decode(cursor);
+        if (jobReadModel.isReady()) {
+            return mapToCursorPage(jobReadModel.findActiveBefore(
+                    category, null, after.getCreatedAt(), after.getId(), firstSlice(size).getPageSize()));
+        }
+
+        Slice<JobSummary> jobs = jobRepository.findActiveByCategoryBefore(
+                category, after.getCreatedAt(), after.getId(), firstSlice(size));
+        return mapToCursorPage(jobs);
+    }
+
+    public CursorPage<JobSummaryResponse> getJobsByType(JobType jobType, String cursor, int size) {
+        log.info("Fetching jobs by type: {} after cursor", jobType);
+
+        JobCursor after = JobCursor.decode(cursor);
+        if (jobReadModel.isReady()) {
+            return mapToCursorPage(jobReadModel.findActiveBefore(
+                    null, jobType, after.getCreatedAt(), after.getId(), firstSlice(size).getPageSize()));
+        }
+
+        Slice<JobSummary> jobs = jobRepository.findActiveByJobTypeBefore(
+                jobType, after.getCreatedAt(), after.getId(), firstSlice(size));
+        return mapToCursorPage(jobs);
+    }
+
+    public JobFacetResponse getFacetedJobs(Collection<JobCategory> categories,
+                                           Collection<JobType> jobTypes,
+                                           Collection<ExperienceLevel> experienceLevels,
+                                           Pageable pageable) {
+        log.info("Fetching faceted jobs - categories: {}, types: {}, levels: {}", categories, jobTypes, experienceLevels);
+
+        FacetResult result = jobFacetIndex.query(categories, jobTypes, experienceLevels,
+                (int) pageable.getOffset(), pageable.getPageSize());
+
+        List<JobSummaryResponse> jobs = findAllInOrder(result.getJobIds()).stream()
+                .map(this::mapToSummaryResponse)
+                .toList();
+
+        return JobFacetResponse.builder()
+                .content(jobs)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(result.getTotalMatches())
+                .facets(result.getFacets())
+                .build();
+    }
+
+    public JobQueryResponse queryJobs(JobQueryRequest request, Pageable pageable) {
+        log.info("Querying jobs: {}", request);
+
+        if (pageable.getOffset() + pageable.getPageSize() > JobSearchIndex.MAX_RESULT_WINDOW) {
+            throw new InvalidJobDataException("Only the first " + JobSearchIndex.MAX_RESULT_WINDOW
+                    + " results can be paged through");
+        }
+
+        JobQueryPlanner.PlannedPage result = jobQueryPlanner.execute(request,
+                (int) pageable.getOffset(), pageable.getPageSize());
+
+        List<JobSummaryResponse> jobs = findAllInOrder(result.getJobIds()).stream()
+                .map(this::mapToSummaryResponse)
+                .toList();
+
+        return JobQueryResponse.builder()
+                .content(jobs)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(result.getTotalMatches())
+                .plan(result.getPlan())
+                .build();
     }
 
-    public Page<JobResponse> getJobsBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary, Pageable pageable) {
-        log.info("Fetching jobs with salary range: {} - {}", minSalary, maxSalary);
+    // The employer's own repost extends the original's deadline when it runs longer
+    private JobResponse mergeRepost(Job original, Job repost) {
+        LocalDateTime deadline = repost.getApplicationDeadline();
+        boolean extendsDeadline = original.getApplicationDeadline() != null
+                && (deadline == null || deadline.isAfter(original.getApplicationDeadline()));
+        if (!extendsDeadline) {
+            return mapToJobResponse(original);
+        }
+
+        original.setApplicationDeadline(deadline);
+        Job updatedJob = jobRepository.save(original);
+        eventPublisher.publishEvent(JobChangedEvent.updated(updatedJob));
+        return mapToJobResponse(updatedJob);
+    }
+
+    // "Similar jobs" rail: active jobs whose text is closest to this job's, by MinHash/LSH
+    public List<SimilarJob> getSimilarJobs(Long jobId, int size) {
+        log.info("Fetching jobs similar to job ID: {}", jobId);
+
+        if (size < 1 || size > MAX_SIMILAR_JOBS) {
+            throw new InvalidJobDataException("Size must be between 1 and " + MAX_SIMILAR_JOBS);
+        }
+
+        int[] signature = similarJobsIndex.signatureOf(jobId);
+        if (signature == null) {
+            // Inactive, or not indexed yet
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId));
+            byte[] stored = job.getMinhash() != null ? job.getMinhash() : minHasher.signature(job);
+            if (stored == null) {
+                return List.of();
+            }
+            signature = MinHasher.decode(stored);
+        }
+
+        Map<Long, Double> similarities = new LinkedHashMap<>();
+        similarJobsIndex.neighbours(jobId, signature, size)
+                .forEach(neighbour -> similarities.put(neighbour.getJobId(), neighbour.getSimilarity()));
 
-        Page<Job> jobs = jobRepository.findBySalaryRange(minSalary, maxSalary, pageable);
-        return jobs.map(this::mapToJobResponse);
+        return findAllInOrder(List.copyOf(similarities.keySet())).stream()
+                .map(job -> SimilarJob.builder()
+                        .job(mapToSummaryResponse(job))
+                        .similarity(similarities.get(job.getId()))
+                        .build())
+                .sorted(Comparator.comparingDouble(SimilarJob::getSimilarity).reversed())
+                .toList();
+    }
+
+    // Typeahead completions for the search box; never falls back to a LIKE scan
+    public List<JobSuggestion> suggest(String prefix, int size) {
+        if (size < 1 || size > MAX_SUGGESTIONS) {
+            throw new InvalidJobDataException("Suggestion size must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return jobSuggestIndex.suggest(prefix, size);
+    }
+
+    // Active jobs ranked by how well their required skills match the candidate's
+    public SkillMatchResponse matchJobsBySkills(List<String> skills, Pageable pageable) {
+        log.info("Matching jobs for skills: {}", skills);
+
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_SKILL_MATCH_RESULTS) {
+            throw new InvalidJobDataException("Only the best " + MAX_SKILL_MATCH_RESULTS + " matches can be paged through");
+        }
+        if (!skillMatchIndex.isReady()) {
+            log.warn("Skill match index is still building, results may be incomplete");
+        }
+
+        List<String> known = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        BitSet candidate = skillDictionary.lookup(skills, known, unknown);
+
+        SkillMatchIndex.MatchPage page = skillMatchIndex.match(candidate,
+                (int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, JobSummary> jobs = new HashMap<>();
+        findAllInOrder(page.getMatches().stream().map(SkillMatchIndex.Match::getJobId).toList())
+                .forEach(job -> jobs.put(job.getId(), job));
+
+        // Drops jobs deactivated since the last index refresh
+        List<SkillMatch> content = page.getMatches().stream()
+                .filter(match -> jobs.containsKey(match.getJobId()))
+                .map(match -> SkillMatch.builder()
+                        .job(mapToSummaryResponse(jobs.get(match.getJobId())))
+                        .score(match.getScore())
+                        .matchedCount(match.getMatchedCount())
+                        .matchedSkills(skillDictionary.names(skillMatchIndex.matchedSkills(match.getJobId(), candidate)))
+                        .build())
+                .toList();
+
+        return SkillMatchResponse.builder()
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(page.getTotalMatches())
+                .skills(known)
+                .unknownSkills(unknown)
+                .build();
+    }
+
+    // Writes one JobResponse per line; rows are detached as they are written so memory stays flat
+    @Transactional(readOnly = true)
+    public long exportJobs(LocalDateTime updatedSince, OutputStream out) throws IOException {
+        log.info("Exporting jobs updated since: {}", updatedSince);
+
+        long exported = 0;
+        try (Stream<Job> jobs = jobRepository.streamForExport(updatedSince);
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            for (Iterator<Job> it = jobs.iterator(); it.hasNext(); ) {
+                Job job = it.next();
+                writer.write(mapToJobResponse(job));
+                entityManager.detach(job);
+
+                if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        if (exported > 0) {
+            out.write('\n');  // The writer only separates values; NDJSON also terminates the last line
+        }
+
+        log.info("Exported {} jobs", exported);
+        return exported;
     }
 
     public List<JobResponse> getMyJobs(String authToken) {
@@ -172,6 +667,55 @@ public class JobService {
                 .toList();
     }
 
+    /**
+     * Application counts by status for each of the employer's jobs. Served
+     * from EmployerDashboardCache, which loads them with one grouped query
+     * and keeps them current as applications come in and change status.
+     */
+    public EmployerDashboardResponse getEmployerDashboard(String authToken) {
+        log.info("Fetching dashboard for current employer");
+
+        UserDTO currentUser = authServiceClient.getCurrentUser(authToken);
+
+        if (!"EMPLOYER".equals(currentUser.getRole())) {
+            throw new UnauthorizedAccessException("Only employers can view their dashboard");
+        }
+
+        EmployerDashboardCache.Dashboard dashboard = employerDashboardCache.get(currentUser.getId(),
+                jobApplicationRepository::countByStatusForEmployer);
+
+        Map<ApplicationStatus, Long> statusCounts = statusCounts(new long[ApplicationStatus.values().length]);
+        List<JobDashboardEntry> jobs = new ArrayList<>(dashboard.jobs().size());
+        int activeJobs = 0;
+        for (EmployerDashboardCache.JobCounts job : dashboard.jobs().values()) {
+            Map<ApplicationStatus, Long> counts = statusCounts(job.counts());
+            counts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+            if (job.active()) {
+                activeJobs++;
+            }
+            jobs.add(JobDashboardEntry.builder()
+                    .jobId(job.jobId())
+                    .title(job.title())
+                    .isActive(job.active())
+                    .createdAt(job.createdAt())
+                    .applicationDeadline(job.applicationDeadline())
+                    .totalApplications(totalApplications(counts))
+                    .statusCounts(counts)
+                    .build());
+        }
+        jobs.sort(Comparator.comparing(JobDashboardEntry::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(JobDashboardEntry::getJobId, Comparator.reverseOrder()));
+
+        return EmployerDashboardResponse.builder()
+                .employerId(currentUser.getId())
+                .totalJobs(jobs.size())
+                .activeJobs(activeJobs)
+                .totalApplications(totalApplications(statusCounts))
+                .statusCounts(statusCounts)
+                .jobs(jobs)
+                .build();
+    }
+
     @Transactional
     public JobResponse updateJob(Long jobId, JobRequest request, String authToken) {
         log.info("Updating job with ID: {}", jobId);
@@ -205,10 +749,13 @@ public class JobService {
         job.setSalaryMax(request.getSalaryMax());
         job.setSkillsRequired(request.getSkillsRequired());
         job.setApplicationDeadline(request.getApplicationDeadline());
+        job.setMinhash(minHasher.signature(job));
 
         Job updatedJob = jobRepository.save(job);
         log.info("Job updated successfully: {}", updatedJob.getId());
 
+        eventPublisher.publishEvent(JobChangedEvent.updated(updatedJob));
+
         return mapToJobResponse(updatedJob);
     }
 
@@ -229,13 +776,84 @@ public class JobService {
         // Soft delete (set isActive to false)
         job.setActive(false);
         jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.deactivated(job));
 
         log.info("Job deleted successfully: {}", jobId);
     }
 
+    // The cursor already encodes the position, so every request reads the "first" slice after it
+    private Pageable firstSlice(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidJobDataException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        return PageRequest.of(0, size);
+    }
+
+    private boolean servesFromReadModel(Pageable pageable) {
+        return jobReadModel.isReady() && jobReadModel.supports(pageable.getSort());
+    }
+
+    private CursorPage<JobSummaryResponse> mapToCursorPage(Slice<? extends JobSummary> jobs) {
+        List<? extends JobSummary> content = jobs.getContent();
+        String nextCursor = jobs.hasNext()
+                ? JobCursor.after(content.get(content.size() - 1)).encode()
+                : null;
+
+        return CursorPage.<JobSummaryResponse>builder()
+                .content(content.stream().map(this::mapToSummaryResponse).toList())
+                .size(content.size())
+                .hasNext(jobs.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Load active listing rows by ID keeping the order of the given IDs
+    private List<JobSummary> findAllInOrder(List<Long> jobIds) {
+        Map<Long, JobSummary> jobsById = new HashMap<>();
+        List<Long> missing = jobIds;
+        if (jobReadModel.isReady()) {
+            Map<Long, JobView> views = jobReadModel.findAll(jobIds);
+            views.values().forEach(view -> jobsById.put(view.getId(), view));
+            missing = jobIds.stream().filter(id -> !views.containsKey(id)).toList();
+        }
+
+        // Only rows the read model has not seen yet go to the database
+        if (!missing.isEmpty()) {
+            jobRepository.findByIdInAndIsActiveTrue(missing)
+                    .forEach(job -> jobsById.put(job.getId(), job));
+        }
+
+        return jobIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private JobSummaryResponse mapToSummaryResponse(JobSummary job) {
+        long applicationCount = job.getApplicationCount() + applicationCountAccumulator.pending(job.getId());
+
+        return JobSummaryResponse.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .companyName(job.getCompanyName())
+                .location(job.getLocation())
+                .jobType(job.getJobType())
+                .category(job.getCategory())
+                .experienceLevel(job.getExperienceLevel())
+                .salaryMin(job.getSalaryMin())
+                .salaryMax(job.getSalaryMax())
+                .postedByUserId(job.getPostedByUserId())
+                .postedByUsername(job.getPostedByUsername())
+                .applicationDeadline(job.getApplicationDeadline())
+                .createdAt(job.getCreatedAt())
+                .applicationCount(applicationCount)
+                .build();
+    }
+
     // Helper method to map Job to JobResponse
     private JobResponse mapToJobResponse(Job job) {
-        long applicationCount = jobApplicationRepository.countByJobId(job.getId());
+        // Stored count plus increments not yet flushed by this instance
+        long applicationCount = job.getApplicationCount() + applicationCountAccumulator.pending(job.getId());
 
         return JobResponse.builder()
                 .id(job.getId())
@@ -256,6 +874,28 @@ public class JobService {
                 .createdAt(job.getCreatedAt())
                 .updatedAt(job.getUpdatedAt())
                 .applicationCount(applicationCount)
+                .duplicateOfJobId(job.getDuplicateOfJobId())
                 .build();
     }
+
+    private static Map<ApplicationStatus, Long> statusCounts(long[] counts) {
+        Map<ApplicationStatus, Long> statusCounts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            statusCounts.put(status, counts[status.ordinal()]);
+        }
+        return statusCounts;
+    }
+
+    // Withdrawn applications don't count towards a job's applications
+    private static long totalApplications(Map<ApplicationStatus, Long> statusCounts) {
+        return statusCounts.entrySet().stream()
+                .filter(entry -> entry.getKey() != ApplicationStatus.WITHDRAWN)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static double conversionRate(long applications, long uniqueViewers) {
+        return uniqueViewers == 0 ? 0 : (double) applications / uniqueViewers;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+package com.jobboard.jobs.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobboard.jobs.index.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Unique viewers, views and applications per job, all-time and per UTC
+ * day. Viewers go into HyperLogLog sketches, so storage stays a few KB per
+ * job and day however many people look. Each replica collects sketches
+ * in memory and periodically merges them into job_view_sketches and
+ * job_daily_view_sketches under a row lock; a merge keeps the larger
+ * register of each pair, so replicas never overwrite each other's viewers.
+ */
+@Component
+@Slf4j
+public class JobViewTracker {
+
+    private static final int FLUSH_BATCH_SIZE = 200;
+
+    private static final ObjectMapper CLAIMS_READER = new ObjectMapper();
+
+    private static final String SELECT_TOTAL_SQL =
+            "SELECT viewers FROM job_view_sketches WHERE job_id = ? FOR UPDATE";
+    private static final String UPDATE_TOTAL_SQL =
+            "UPDATE job_view_sketches SET viewers = ?, views = views + ?, applications = applications + ? WHERE job_id = ?";
+    private static final String INSERT_TOTAL_SQL =
+            "INSERT INTO job_view_sketches (viewers, views, applications, job_id) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_DAILY_SQL =
+            "SELECT viewers FROM job_daily_view_sketches WHERE job_id = ? AND view_date = ? FOR UPDATE";
+    private static final String UPDATE_DAILY_SQL =
+            "UPDATE job_daily_view_sketches SET viewers = ?, views = views + ?, applications = applications + ? " +
+            "WHERE job_id = ? AND view_date = ?";
+    private static final String INSERT_DAILY_SQL =
+            "INSERT INTO job_daily_view_sketches (viewers, views, applications, job_id, view_date) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock = Clock.systemUTC();
+
+    private record Key(long jobId, LocalDate day) {
+    }
+
+    private static final class Pending {
+        final HyperLogLog viewers = new HyperLogLog();  // Guarded by itself
+        final LongAdder views = new LongAdder();
+        final LongAdder applications = new LongAdder();
+    }
+
+    /**
+     * Viewers, views and applications of a job on a day.
+     */
+    public record Counts(HyperLogLog viewers, long views, long applications) {
+    }
+
+    // Recorded since the last flush. flush() swaps in a new map and collects the one it
+    // swapped out again on the next flush, so a record that raced with the swap still counts.
+    private volatile Map<Key, Pending> recorded = new ConcurrentHashMap<>();
+    private volatile Map<Key, Pending> swappedOut = Map.of();
+
+    public JobViewTracker(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Who is viewing: the JWT subject for signed-in users, so every login and
+     * token refresh of one user counts once, otherwise the client address and
+     * user agent. The token is not verified here; it only keys a count.
+     */
+    public static String viewerKey(String authToken, String remoteAddress, String userAgent) {
+        String subject = subject(authToken);
+        if (subject != null) {
+            return "u:" + subject;
+        }
+        return "a:" + remoteAddress + '|' + userAgent;
+    }
+
+    // The "sub" claim of a bearer JWT, or null when the header holds none
+    private static String subject(String authToken) {
+        if (authToken == null || authToken.isBlank()) {
+            return null;
+        }
+        String[] parts = authToken.replaceFirst("(?i)^Bearer\\s+", "").split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode subject = CLAIMS_READER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("sub");
+            return subject != null && subject.isTextual() && !subject.asText().isBlank() ? subject.asText() : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public void recordView(Long jobId, String viewerKey) {
+        Pending pending = pending(jobId);
+        synchronized (pending.viewers) {
+            pending.viewers.add(viewerKey);
+        }
+        pending.views.increment();
+    }
+
+    // Counted once the application commits
+    public void recordApplication(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending(jobId).applications.increment();
+                }
+            });
+        } else {
+            pending(jobId).applications.increment();
+        }
+    }
+
+    // What this replica recorded for the job and day that has not been flushed yet
+    public Counts unflushed(Long jobId, LocalDate day) {
+        Key key = new Key(jobId, day);
+        HyperLogLog viewers = new HyperLogLog();
+        long views = 0;
+        long applications = 0;
+        for (Map<Key, Pending> map : List.of(swappedOut, recorded)) {
+            Pending pending = map.get(key);
+            if (pending != null) {
+                synchronized (pending.viewers) {
+                    viewers.merge(pending.viewers);
+                }
+                views += pending.views.sum();
+                applications += pending.applications.sum();
+            }
+        }
+        return new Counts(viewers, views, applications);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.view-analytics.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<Key, Pending> drained = recorded;
+        recorded = new ConcurrentHashMap<>();
+
+        Map<Key, Counts> deltas = new HashMap<>();
+        collect(swappedOut, deltas);
+        collect(drained, deltas);
+        swappedOut = drained;
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Key, Counts>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += FLUSH_BATCH_SIZE) {
+            List<Map.Entry<Key, Counts>> batch = entries.subList(from, Math.min(entries.size(), from + FLUSH_BATCH_SIZE));
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (Exception e) {
+                // Typically two replicas inserting the same new row; the retry merges into it
+                log.error("Failed to flush view analytics, will retry: {}", e.getMessage());
+                batch.forEach(entry -> restore(entry.getKey(), entry.getValue()));
+            }
+        }
+        log.debug("Flushed view analytics for {} job days", entries.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Pending pending(Long jobId) {
+        return recorded.computeIfAbsent(new Key(jobId, today()), key -> new Pending());
+    }
+
+    private static void collect(Map<Key, Pending> source, Map<Key, Counts> deltas) {
+        source.forEach((key, pending) -> {
+            long views = pending.views.sumThenReset();
+            long applications = pending.applications.sumThenReset();
+            if (views == 0 && applications == 0) {
+                // Already flushed; viewers are only ever added together with a view
+                return;
+            }
+
+            HyperLogLog viewers = new HyperLogLog();
+            synchronized (pending.viewers) {
+                viewers.merge(pending.viewers);
+            }
+            deltas.merge(key, new Counts(viewers, views, applications), JobViewTracker::sum);
+        });
+    }
+
+    private void write(List<Map.Entry<Key, Counts>> batch) {
+        Map<Long, Counts> totals = new HashMap<>();
+        for (Map.Entry<Key, Counts> entry : batch) {
+            Key key = entry.getKey();
+            Counts delta = entry.getValue();
+            Date day = Date.valueOf(key.day());
+            merge(jdbcTemplate.queryForList(SELECT_DAILY_SQL, byte[].class, key.jobId(), day), delta,
+                    UPDATE_DAILY_SQL, INSERT_DAILY_SQL, key.jobId(), day);
+            totals.merge(key.jobId(), delta, JobViewTracker::sum);
+        }
+
+        totals.forEach((jobId, delta) ->
+                merge(jdbcTemplate.queryForList(SELECT_TOTAL_SQL, byte[].class, jobId), delta,
+                        UPDATE_TOTAL_SQL, INSERT_TOTAL_SQL, jobId));
+    }
+
+    // Both statements take the sketch and counters first, then the key columns
+    private void merge(List<byte[]> stored, Counts delta, String updateSql, String insertSql, Object... key) {
+        HyperLogLog viewers = stored.isEmpty() ? new HyperLogLog() : HyperLogLog.fromBytes(stored.get(0));
+        viewers.merge(delta.viewers());
+
+        Object[] args = new Object[3 + key.length];
+        args[0] = viewers.toBytes();
+        args[1] = delta.views();
+        args[2] = delta.applications();
+        System.arraycopy(key, 0, args, 3, key.length);
+        jdbcTemplate.update(stored.isEmpty() ? insertSql : updateSql, args);
+    }
+
+    private void restore(Key key, Counts delta) {
+        Pending pending = recorded.computeIfAbsent(key, k -> new Pending());
+        synchronized (pending.viewers) {
+            pending.viewers.merge(delta.viewers());
+        }
+        pending.views.add(delta.views());
+        pending.applications.add(delta.applications());
+    }
+
+    private static Counts sum(Counts a, Counts b) {
+        HyperLogLog viewers = new HyperLogLog();
+        viewers.merge(a.viewers());
+        viewers.merge(b.viewers());
+        return new Counts(viewers, a.views() + b.views(), a.applications() + b.applications());
+    }
+}
@@ -3,12 +3,16 @@ package com.jobboard.jobs.service;
 import com.jobboard.jobs.config.RabbitMQConfig;
 import com.jobboard.jobs.dto.ApplicationStatusChangedEvent;
 import com.jobboard.jobs.dto.ApplicationSubmittedEvent;
+import com.jobboard.jobs.dto.JobBatchPostedEvent;
+import com.jobboard.jobs.dto.JobCacheInvalidationEvent;
 import com.jobboard.jobs.dto.JobPostedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -30,6 +34,20 @@ public class MessagePublisher {
         }
     }
 
+    public void publishJobBatchPostedEvent(JobBatchPostedEvent event) {
+        log.info("Publishing Job Batch Posted event with {} jobs", event.getJobs().size());
+        try {
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.JOB_BOARD_EXCHANGE,
+                    RabbitMQConfig.JOB_BATCH_POSTED_ROUTING_KEY,
+                    event
+            );
+            log.info("Job Batch Posted event published successfully");
+        } catch (Exception e) {
+            log.error("Failed to publish Job Batch Posted event: {}", e.getMessage(), e);
+        }
+    }
+
     public void publishApplicationSubmittedEvent(ApplicationSubmittedEvent event) {
         log.info("Publishing Application Submitted event: {}", event);
         try {
@@ -57,4 +75,33 @@ public class MessagePublisher {
             log.error("Failed to publish Application Status Changed event: {}", e.getMessage(), e);
         }
     }
+
+    // Sends the whole batch over one channel instead of checking one out per event
+    public void publishApplicationStatusChangedEvents(List<ApplicationStatusChangedEvent> events) {
+        log.info("Publishing {} Application Status Changed events", events.size());
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (ApplicationStatusChangedEvent event : events) {
+                    operations.convertAndSend(
+                            RabbitMQConfig.JOB_BOARD_EXCHANGE,
+                            RabbitMQConfig.APPLICATION_STATUS_CHANGED_ROUTING_KEY,
+                            event
+                    );
+                }
+                return null;
+            });
+            log.info("Application Status Changed events published successfully");
+        } catch (Exception e) {
+            log.error("Failed to publish Application Status Changed events: {}", e.getMessage(), e);
+        }
+    }
+
+    public void publishJobCacheInvalidationEvent(JobCacheInvalidationEvent event) {
+        log.debug("Publishing Job Cache Invalidation event: {}", event);
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.JOB_CACHE_EXCHANGE, "", event);
+        } catch (Exception e) {
+            log.error("Failed to publish Job Cache Invalidation event: {}", e.getMessage(), e);
+        }
+    }
 }
\ No newline at end of file
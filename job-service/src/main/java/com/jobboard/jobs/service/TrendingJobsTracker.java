@@ -0,0 +1,348 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Trending scores from job detail views and applications, decayed
+ * exponentially with a configurable half-life. Recording only adds to a
+ * per-job DoubleAdder; a background task folds those counts into the
+ * scores and a bounded top-k, and another adds the score deltas to the
+ * job_popularity table, which seeds the scores again after a restart.
+ * <p>
+ * Scores use forward decay: an event at time t adds weight * e^(lambda (t - L))
+ * for a fixed landmark L, so stored scores never have to be decayed and
+ * only grow, and their order is the order of the decayed values. The
+ * landmark is moved forward (all scores rescaled) before the factors get
+ * large. Each replica ranks the persisted scores it loaded plus its own
+ * traffic since then.
+ */
+@Component
+@Slf4j
+public class TrendingJobsTracker {
+
+    private static final String LOAD_SQL =
+            "SELECT p.job_id, p.score, p.decayed_at FROM job_popularity p " +
+            "JOIN jobs j ON j.id = p.job_id WHERE j.is_active = TRUE";
+    // Decays the stored score to now before adding this replica's delta
+    private static final String FLUSH_SQL =
+            "UPDATE job_popularity SET score = score * EXP(? * (decayed_at - ?)) + ?, decayed_at = ? WHERE job_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO job_popularity (job_id, score, decayed_at) VALUES (?, ?, ?)";
+    private static final String PRUNE_SQL =
+            "DELETE FROM job_popularity WHERE score * EXP(? * (decayed_at - ?)) < ?";
+
+    // Rebase before e^(lambda (t - L)) loses precision for new events
+    private static final double MAX_EXPONENT = 50;
+    // Scores that decayed below this are dropped
+    private static final double MIN_SCORE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final double lambda;  // Per second
+    private final double viewWeight;
+    private final double applicationWeight;
+
+    // Weighted events recorded since the last fold. fold() swaps in a new map and drains the
+    // one it swapped out again on the next fold, so an add that raced with the swap still counts.
+    private volatile Map<Long, DoubleAdder> recorded = new ConcurrentHashMap<>();
+    private Map<Long, DoubleAdder> swappedOut = Map.of();
+
+    // Guarded by this: forward-decayed scores, deltas not yet written, and the top-k
+    private long landmark;  // Epoch seconds
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final Map<Long, Double> unflushed = new HashMap<>();
+    private final TopK topK;
+
+    private volatile List<Trending> trending = List.of();
+    private volatile boolean ready;
+
+    @Data
+    @AllArgsConstructor
+    public static class Trending {
+        private long jobId;
+        private double score;  // Weighted events decayed to the last refresh
+    }
+
+    public TrendingJobsTracker(JdbcTemplate jdbcTemplate,
+                               @Value("${jobs.trending.half-life-minutes:360}") double halfLifeMinutes,
+                               @Value("${jobs.trending.view-weight:1}") double viewWeight,
+                               @Value("${jobs.trending.application-weight:5}") double applicationWeight,
+                               @Value("${jobs.trending.capacity:100}") int capacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = Clock.systemUTC();
+        this.lambda = Math.log(2) / (halfLifeMinutes * 60);
+        this.viewWeight = viewWeight;
+        this.applicationWeight = applicationWeight;
+        this.topK = new TopK(capacity);
+        this.landmark = now();
+    }
+
+    public void recordView(Long jobId) {
+        record(jobId, viewWeight);
+    }
+
+    // Counted once the application commits
+    public void recordApplication(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(jobId, applicationWeight);
+                }
+            });
+        } else {
+            record(jobId, applicationWeight);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int capacity() {
+        return topK.capacity;
+    }
+
+    // Highest scores first, as of the last refresh
+    public List<Trending> top(int limit) {
+        List<Trending> current = trending;
+        return current.size() > limit ? current.subList(0, limit) : current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long now = now();
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            double score = rs.getDouble("score") * Math.exp(lambda * (rs.getLong("decayed_at") - landmark));
+            if (score * Math.exp(lambda * (landmark - now)) >= MIN_SCORE) {
+                long jobId = rs.getLong("job_id");
+                scores.merge(jobId, score, Double::sum);
+                topK.offer(jobId, scores.get(jobId));
+            }
+        });
+
+        ready = true;
+        publish(now);
+        log.info("Trending tracker loaded {} job scores", scores.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        drop(List.of(event.getJob()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsChanged(JobBatchChangedEvent event) {
+        drop(event.getJobs());
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.trending.refresh-interval-ms:1000}")
+    public synchronized void fold() {
+        long now = now();
+        if (lambda * (now - landmark) > MAX_EXPONENT) {
+            rebase(now);
+        }
+
+        Map<Long, DoubleAdder> drained = recorded;
+        recorded = new ConcurrentHashMap<>();
+
+        // Events recorded since the last fold are counted as happening now
+        double factor = Math.exp(lambda * (now - landmark));
+        swappedOut.forEach((jobId, adder) -> add(jobId, adder.sumThenReset() * factor));
+        drained.forEach((jobId, adder) -> add(jobId, adder.sumThenReset() * factor));
+        swappedOut = drained;
+
+        if (topK.needsRepair) {
+            topK.rebuild(scores);
+        }
+        publish(now);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.trending.flush-interval-ms:30000}")
+    public void flush() {
+        long now;
+        List<Object[]> batch = new ArrayList<>();
+        synchronized (this) {
+            fold();
+            now = now();
+            double toNow = Math.exp(lambda * (landmark - now));
+            unflushed.forEach((jobId, delta) -> batch.add(new Object[]{lambda, now, delta * toNow, now, jobId}));
+            unflushed.clear();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        int[] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            log.error("Failed to flush trending scores, will retry: {}", e.getMessage());
+            restore(batch, now);
+            return;
+        }
+
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(batch.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, missing.stream()
+                        .map(row -> new Object[]{row[4], row[2], now})
+                        .toList());
+            } catch (Exception e) {
+                // Most likely another replica inserted the same job first; the retry updates its row
+                log.warn("Failed to insert trending scores, will retry: {}", e.getMessage());
+                restore(missing, now);
+            }
+        }
+        log.debug("Flushed trending score deltas for {} jobs", batch.size());
+    }
+
+    @Scheduled(cron = "${jobs.trending.prune-cron:0 15 * * * *}")
+    public void prune() {
+        long now = now();
+        int pruned = jdbcTemplate.update(PRUNE_SQL, lambda, now, MIN_SCORE);
+
+        synchronized (this) {
+            double toNow = Math.exp(lambda * (landmark - now));
+            scores.entrySet().removeIf(entry -> entry.getValue() * toNow < MIN_SCORE
+                    && !unflushed.containsKey(entry.getKey()));
+            topK.rebuild(scores);
+        }
+        log.debug("Pruned {} decayed trending scores", pruned);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(Long jobId, double weight) {
+        recorded.computeIfAbsent(jobId, id -> new DoubleAdder()).add(weight);
+    }
+
+    private void add(Long jobId, double delta) {
+        if (delta == 0) {
+            return;
+        }
+        unflushed.merge(jobId, delta, Double::sum);
+        topK.offer(jobId, scores.merge(jobId, delta, Double::sum));
+    }
+
+    // Deactivated jobs leave the ranking; their stored rows decay and are pruned
+    private synchronized void drop(List<Job> jobs) {
+        for (Job job : jobs) {
+            if (!job.isActive() && scores.remove(job.getId()) != null) {
+                unflushed.remove(job.getId());
+                topK.remove(job.getId());
+            }
+        }
+    }
+
+    private synchronized void restore(List<Object[]> batch, long decayedAt) {
+        double toLandmark = Math.exp(lambda * (decayedAt - landmark));
+        for (Object[] row : batch) {
+            unflushed.merge((Long) row[4], (Double) row[2] * toLandmark, Double::sum);
+        }
+    }
+
+    private void rebase(long now) {
+        double scale = Math.exp(lambda * (landmark - now));
+        scores.replaceAll((jobId, score) -> score * scale);
+        unflushed.replaceAll((jobId, delta) -> delta * scale);
+        landmark = now;
+        topK.rebuild(scores);
+    }
+
+    private void publish(long now) {
+        double toNow = Math.exp(lambda * (landmark - now));
+        trending = topK.sorted().stream()
+                .map(jobId -> new Trending(jobId, scores.get(jobId) * toNow))
+                .toList();
+    }
+
+    private long now() {
+        return clock.instant().getEpochSecond();
+    }
+
+    // The capacity highest scores, ordered for O(log k) updates; scores only grow between rebuilds
+    private static final class TopK {
+
+        private static final Comparator<Map.Entry<Long, Double>> ORDER =
+                Comparator.<Map.Entry<Long, Double>>comparingDouble(Map.Entry::getValue)
+                        .thenComparing(Map.Entry::getKey);
+
+        private final int capacity;
+        private final TreeSet<Map.Entry<Long, Double>> ranked = new TreeSet<>(ORDER);
+        private final Map<Long, Map.Entry<Long, Double>> members = new HashMap<>();
+        // A removal left a slot that a job outside the top-k may deserve
+        private boolean needsRepair;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(long jobId, double score) {
+            Map.Entry<Long, Double> previous = members.remove(jobId);
+            if (previous != null) {
+                ranked.remove(previous);
+            } else if (ranked.size() == capacity) {
+                if (ORDER.compare(ranked.first(), Map.entry(jobId, score)) >= 0) {
+                    return;
+                }
+                members.remove(ranked.pollFirst().getKey());
+            }
+            Map.Entry<Long, Double> entry = Map.entry(jobId, score);
+            ranked.add(entry);
+            members.put(jobId, entry);
+        }
+
+        void remove(long jobId) {
+            Map.Entry<Long, Double> entry = members.remove(jobId);
+            if (entry != null) {
+                ranked.remove(entry);
+                needsRepair = true;
+            }
+        }
+
+        void rebuild(Map<Long, Double> scores) {
+            ranked.clear();
+            members.clear();
+            scores.forEach(this::offer);
+            needsRepair = false;
+        }
+
+        List<Long> sorted() {
+            return ranked.descendingSet().stream().map(Map.Entry::getKey).toList();
+        }
+    }
+}
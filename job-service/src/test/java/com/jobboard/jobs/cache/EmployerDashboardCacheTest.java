@@ -0,0 +1,252 @@
+package com.jobboard.jobs.cache;
+
+import com.jobboard.jobs.dto.EmployerDashboardDelta;
+import com.jobboard.jobs.dto.JobCacheInvalidationEvent;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.repository.JobStatusCount;
+import com.jobboard.jobs.service.MessagePublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EmployerDashboardCacheTest {
+
+    private static final Long EMPLOYER = 1L;
+    private static final Long JOB = 10L;
+
+    private final MessagePublisher messagePublisher = mock(MessagePublisher.class);
+    private final MovableClock clock = new MovableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+    private EmployerDashboardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new EmployerDashboardCache(messagePublisher, new JobCache(messagePublisher, meterRegistry, 100, 60),
+                meterRegistry, 100, 600, 1000);
+        ReflectionTestUtils.setField(cache, "clock", clock);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void committedChangesPatchTheEntryAndBroadcastTheirDelta() {
+        load();
+
+        cache.recordChange(EMPLOYER, JOB, ApplicationStatus.PENDING, ApplicationStatus.WITHDRAWN);
+        commit();
+
+        assertThat(counts()).containsEntry(ApplicationStatus.PENDING, 2L).containsEntry(ApplicationStatus.WITHDRAWN, 1L);
+        assertThat(loads).hasValue(1);
+
+        JobCacheInvalidationEvent event = published();
+        assertThat(event.getEmployerIds()).isNull();
+        assertThat(event.getDashboardDeltas()).singleElement().satisfies(delta -> {
+            assertThat(delta.getEmployerId()).isEqualTo(EMPLOYER);
+            assertThat(delta.getJobId()).isEqualTo(JOB);
+            assertThat(delta.getCounts()).isEqualTo(Map.of(
+                    ApplicationStatus.PENDING, -1L, ApplicationStatus.WITHDRAWN, 1L));
+            assertThat(delta.getCommittingAt()).isEqualTo(clock.millis());
+        });
+    }
+
+    @Test
+    void bulkChangesAddUpToOneDelta() {
+        load();
+
+        cache.recordChanges(EMPLOYER, JOB, List.of(ApplicationStatus.PENDING, ApplicationStatus.PENDING,
+                ApplicationStatus.REVIEWED), ApplicationStatus.SHORTLISTED);
+        commit();
+
+        assertThat(counts()).containsEntry(ApplicationStatus.PENDING, 1L)
+                .containsEntry(ApplicationStatus.REVIEWED, 0L)
+                .containsEntry(ApplicationStatus.SHORTLISTED, 3L);
+        assertThat(published().getDashboardDeltas().get(0).getCounts()).isEqualTo(Map.of(
+                ApplicationStatus.PENDING, -2L, ApplicationStatus.REVIEWED, -1L, ApplicationStatus.SHORTLISTED, 3L));
+    }
+
+    @Test
+    void anEntryLoadedWhileTheChangeCommittedIsDropped() {
+        cache.recordChange(EMPLOYER, JOB, null, ApplicationStatus.PENDING);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        // May or may not have read the new row
+        load();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        counts();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void changesOutsideATransactionEvictEverywhere() {
+        TransactionSynchronizationManager.clearSynchronization();
+        load();
+
+        cache.recordChange(EMPLOYER, JOB, null, ApplicationStatus.PENDING);
+
+        counts();
+        assertThat(loads).hasValue(2);
+        assertThat(published().getEmployerIds()).containsExactly(EMPLOYER);
+        assertThat(published().getDashboardDeltas()).isNull();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @Test
+    void remoteDeltasPatchOnlyEntriesLoadedWellBeforeTheirCommit() {
+        load();
+        clock.advance(Duration.ofSeconds(5));
+
+        cache.applyRemote(remote(ApplicationStatus.REVIEWED, 2L, clock.millis()));
+        assertThat(counts()).containsEntry(ApplicationStatus.REVIEWED, 3L);
+        assertThat(loads).hasValue(1);
+
+        // Within the allowed clock skew of the load: the entry may already count it
+        cache.applyRemote(remote(ApplicationStatus.REVIEWED, 1L, clock.millis() - 4500));
+        counts();
+        assertThat(loads).hasValue(2);
+
+        // Nothing cached for this employer: nothing to do
+        cache.applyRemote(EmployerDashboardDelta.builder()
+                .employerId(2L).jobId(20L).counts(Map.of(ApplicationStatus.PENDING, 1L)).committingAt(clock.millis())
+                .build());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void deltasForJobsMissingFromTheEntryDropIt() {
+        load();
+        clock.advance(Duration.ofSeconds(5));
+
+        cache.applyRemote(EmployerDashboardDelta.builder()
+                .employerId(EMPLOYER).jobId(11L).counts(Map.of(ApplicationStatus.PENDING, 1L)).committingAt(clock.millis())
+                .build());
+
+        counts();
+        assertThat(loads).hasValue(2);
+    }
+
+    private EmployerDashboardCache.Dashboard load() {
+        return cache.get(EMPLOYER, employerId -> {
+            loads.incrementAndGet();
+            return List.of(row(ApplicationStatus.PENDING, 3), row(ApplicationStatus.REVIEWED, 1));
+        });
+    }
+
+    private Map<ApplicationStatus, Long> counts() {
+        long[] counts = load().jobs().get(JOB).counts();
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status, counts[status.ordinal()]);
+        }
+        return byStatus;
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private JobCacheInvalidationEvent published() {
+        ArgumentCaptor<JobCacheInvalidationEvent> event = ArgumentCaptor.forClass(JobCacheInvalidationEvent.class);
+        verify(messagePublisher).publishJobCacheInvalidationEvent(event.capture());
+        return event.getValue();
+    }
+
+    private static EmployerDashboardDelta remote(ApplicationStatus status, long count, long committingAt) {
+        return EmployerDashboardDelta.builder()
+                .employerId(EMPLOYER)
+                .jobId(JOB)
+                .counts(Map.of(status, count))
+                .committingAt(committingAt)
+                .build();
+    }
+
+    private static JobStatusCount row(ApplicationStatus status, long count) {
+        return new JobStatusCount() {
+            @Override
+            public Long getJobId() {
+                return JOB;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Kotlin Engineer";
+            }
+
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return null;
+            }
+
+            @Override
+            public LocalDateTime getApplicationDeadline() {
+                return null;
+            }
+
+            @Override
+            public ApplicationStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.jobboard.jobs.controller;
+
+import com.jobboard.jobs.cache.ListingGeneration;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.readmodel.JobReadModel;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchIndex;
+import com.jobboard.jobs.service.JobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:conditional-get-test",
+        "jobs.search.index-dir=target/search-index/conditional-get-test"
+})
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobReadModel jobReadModel;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+        jobSearchIndex.rebuild();
+    }
+
+    @Test
+    void matchingListingETagReturnsNotModifiedWithoutRunningTheQuery() throws Exception {
+        seed();
+        String etag = searchETag("kotlin");
+        clearInvocations(jobService);
+
+        mockMvc.perform(get("/api/jobs/search").param("keyword", "kotlin")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(jobService, never()).searchJobs(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void listingETagsArePerQueryAndIgnoreParameterOrder() throws Exception {
+        seed();
+
+        assertThat(searchETag("kotlin")).isNotEqualTo(searchETag("java"));
+        String pageFirst = mockMvc.perform(get("/api/jobs?page=0&size=5")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String sizeFirst = mockMvc.perform(get("/api/jobs?size=5&page=0")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(sizeFirst).isEqualTo(pageFirst);
+    }
+
+    @Test
+    void listingETagMovesOnceAChangeIsVisible() throws Exception {
+        Job[] jobs = seed();
+        String etag = searchETag("kotlin");
+        assertThat(searchETag("kotlin")).isEqualTo(etag);
+
+        eventPublisher.publishEvent(JobChangedEvent.updated(jobs[1]));
+        String afterJobChange = searchETag("kotlin");
+        assertThat(afterJobChange).isNotEqualTo(etag);
+
+        eventPublisher.publishEvent(ApplicationCountsChangedEvent.forJobs(List.of(jobs[0].getId())));
+        String afterCountChange = searchETag("kotlin");
+        assertThat(afterCountChange).isNotEqualTo(afterJobChange);
+
+        // Made searchable without an event
+        jobSearchIndex.rebuild();
+        assertThat(searchETag("kotlin")).isNotEqualTo(afterCountChange);
+    }
+
+    @Test
+    void anotherReplicasTagIsNeverHonoured() throws Exception {
+        seed();
+        String etag = searchETag("kotlin");
+
+        // A second instance stands in for another replica with its own generation
+        ConditionalGet otherReplica = new ConditionalGet(new ListingGeneration(jobReadModel, jobSearchIndex), 30);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/search");
+        request.setParameter("keyword", "kotlin");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        ResponseEntity<?> response = otherReplica.listing(new ServletWebRequest(request),
+                () -> jobService.searchJobs("kotlin", PageRequest.of(0, 10)));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void detailRevalidationsStillCountTheView() throws Exception {
+        Long jobId = seed()[0].getId();
+        String etag = mockMvc.perform(get("/api/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(jobService);
+
+        mockMvc.perform(get("/api/jobs/{jobId}", jobId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(jobService).recordView(eq(jobId), anyString());
+        verify(jobService, never()).getJobById(anyLong(), anyString());
+    }
+
+    private String searchETag(String keyword) throws Exception {
+        String etag = mockMvc.perform(get("/api/jobs/search").param("keyword", keyword))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+
+    private Job[] seed() {
+        Job[] jobs = {job("Kotlin Engineer"), job("Java Developer")};
+        jobRepository.saveAll(List.of(jobs));
+        jobSearchIndex.rebuild();
+        return jobs;
+    }
+
+    private static Job job(String title) {
+        return Job.builder()
+                .title(title)
+                .description("Build and operate the services behind the job board platform.")
+                .companyName("Acme")
+                .location("Remote")
+                .jobType(JobType.FULL_TIME)
+                .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .postedByUserId(1L)
+                .postedByUsername("employer")
+                .isActive(true)
+                .build();
+    }
+}
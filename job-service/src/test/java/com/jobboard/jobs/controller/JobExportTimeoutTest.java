@@ -0,0 +1,37 @@
+package com.jobboard.jobs.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:job-export-timeout-test",
+        "jobs.search.index-dir=target/search-index/job-export-timeout-test",
+        "jobs.export.timeout-minutes=7"
+})
+@AutoConfigureMockMvc
+class JobExportTimeoutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportRunsWithItsOwnAsyncTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/jobs/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(7 * 60_000L);
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DuplicateJobIndexTest {
+
+    private static final String DESCRIPTION =
+            "Design, build and operate the Kotlin services behind our payments platform, end to end, "
+                    + "with a small team that owns its on-call rotation and ships to production several times a day.";
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final SimHasher simHasher = new SimHasher();
+    private final Random random = new Random(7);
+
+    @Test
+    void smallEditsStayWithinTheDistanceAndDifferentRolesDoNot() {
+        long original = simHasher.fingerprint(job(1L, 1L, "Kotlin Engineer", DESCRIPTION));
+        long edited = simHasher.fingerprint(job(2L, 1L, "Kotlin Engineer",
+                DESCRIPTION.replace("times a day", "times a week")));
+        long otherRole = simHasher.fingerprint(job(3L, 1L, "Payroll Accountant", randomText(40)));
+
+        assertThat(simHasher.fingerprint(job(4L, 2L, "kotlin  ENGINEER", DESCRIPTION))).isEqualTo(original);
+        assertThat(SimHasher.distance(original, edited)).isLessThanOrEqualTo(5);
+        assertThat(SimHasher.distance(original, otherRole)).isGreaterThan(DuplicateJobIndex.MAX_DISTANCE);
+        assertThat(SimHasher.distance(0b1011L, 0b0110L)).isEqualTo(3);
+    }
+
+    @Test
+    void theEmployersOwnPostingsComeBeforeOtherEmployers() {
+        DuplicateJobIndex index = index(256);
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(
+                job(10L, 2L, "Kotlin Engineer", DESCRIPTION),
+                job(11L, 1L, "Kotlin Engineer", DESCRIPTION),
+                job(12L, 2L, "Payroll Accountant", randomText(40)))));
+
+        long fingerprint = simHasher.fingerprint(job(null, 1L, "Kotlin Engineer", DESCRIPTION));
+
+        assertThat(index.findDuplicates(fingerprint, 1L)).containsExactly(11L, 10L);
+        assertThat(index.findDuplicates(fingerprint, 2L)).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void fullBucketsDropTheirOldestJobs() {
+        DuplicateJobIndex index = index(2);
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(
+                job(1L, 1L, "Kotlin Engineer", DESCRIPTION),
+                job(2L, 1L, "Kotlin Engineer", DESCRIPTION),
+                job(3L, 1L, "Kotlin Engineer", DESCRIPTION))));
+
+        long fingerprint = simHasher.fingerprint(job(null, 1L, "Kotlin Engineer", DESCRIPTION));
+        assertThat(index.findDuplicates(fingerprint, 1L)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void rebuildStartsFromAnEmptyIndex() {
+        DuplicateJobIndex index = index(256);
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(job(1L, 1L, "Kotlin Engineer", DESCRIPTION))));
+        when(jobRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any()))
+                .thenReturn(List.of(job(2L, 1L, "Payroll Accountant", randomText(40))));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findDuplicates(simHasher.fingerprint(job(null, 1L, "Kotlin Engineer", DESCRIPTION)), 1L)).isEmpty();
+    }
+
+    @Test
+    void backgroundScanPublishesClustersOncePassIsThrough() {
+        DuplicateJobIndex index = index(256);
+        index.rebuild();
+        List<Job> jobs = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            jobs.add(job(id, id, "Role " + id, randomText(30)));
+        }
+        jobs.add(job(3000L, 1L, "Kotlin Engineer", DESCRIPTION));
+        jobs.add(job(3001L, 9L, "Kotlin Engineer", DESCRIPTION));
+        jobs.add(job(3002L, 1L, "Kotlin Engineer", DESCRIPTION + " Remote friendly."));
+        index.onJobsChanged(JobBatchChangedEvent.created(jobs));
+
+        index.scanPage();
+        assertThat(index.lastScan()).isNull();
+        index.scanPage();
+
+        DuplicateJobIndex.DuplicateScan scan = index.lastScan();
+        assertThat(scan.jobsScanned()).isEqualTo(2503);
+        assertThat(scan.clusters()).containsExactly(new long[]{3000L, 3001L, 3002L});
+
+        // The next pass waits for the scan interval
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(job(3003L, 1L, "Kotlin Engineer", DESCRIPTION))));
+        index.scanPage();
+        assertThat(index.lastScan()).isSameAs(scan);
+    }
+
+    private DuplicateJobIndex index(int bucketCapacity) {
+        return new DuplicateJobIndex(jobRepository, simHasher, 5, bucketCapacity, 60_000);
+    }
+
+    private String randomText(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append("w").append(random.nextInt(1_000_000)).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static Job job(Long id, Long postedByUserId, String title, String description) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .companyName("Acme")
+                .postedByUserId(postedByUserId)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobboard.jobs.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesStayWithinAFewStandardErrors() {
+        for (int distinct : new int[]{10, 1_000, 100_000}) {
+            HyperLogLog sketch = sketch("viewer-", 0, distinct);
+            // Every value twice: duplicates must not count
+            sketch.merge(sketch("viewer-", 0, distinct));
+
+            assertThat((double) sketch.estimate()).as("%d distinct", distinct)
+                    .isCloseTo(distinct, within(Math.max(1, distinct * 0.05)));
+        }
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void mergingEstimatesTheUnion() {
+        HyperLogLog replicaA = sketch("viewer-", 0, 60_000);
+        HyperLogLog replicaB = sketch("viewer-", 40_000, 100_000);
+        HyperLogLog union = sketch("viewer-", 0, 100_000);
+
+        HyperLogLog merged = new HyperLogLog();
+        merged.merge(replicaA);
+        merged.merge(replicaB);
+
+        assertThat(merged.toBytes()).isEqualTo(union.toBytes());
+        assertThat((double) merged.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    void mergingIsOrderIndependentAndIdempotent() {
+        HyperLogLog a = sketch("a-", 0, 5_000);
+        HyperLogLog b = sketch("b-", 0, 300);
+
+        HyperLogLog ab = HyperLogLog.fromBytes(a.toBytes());
+        ab.merge(b);
+        HyperLogLog ba = HyperLogLog.fromBytes(b.toBytes());
+        ba.merge(a);
+        byte[] once = ab.toBytes();
+        ab.merge(b);
+        ab.merge(ba);
+
+        assertThat(ba.toBytes()).isEqualTo(once);
+        assertThat(ab.toBytes()).isEqualTo(once);
+    }
+
+    @Test
+    void sparseAndDenseFormsRoundTrip() {
+        HyperLogLog small = sketch("viewer-", 0, 50);
+        HyperLogLog large = sketch("viewer-", 0, 50_000);
+
+        byte[] sparse = small.toBytes();
+        byte[] dense = large.toBytes();
+        assertThat(sparse[0]).isZero();
+        assertThat(sparse.length).isLessThan(200);
+        assertThat(dense[0]).isEqualTo((byte) 1);
+        assertThat(dense).hasSize(1 + HyperLogLog.REGISTERS * 6 / 8);
+
+        assertThat(HyperLogLog.fromBytes(sparse).toBytes()).isEqualTo(sparse);
+        assertThat(HyperLogLog.fromBytes(dense).toBytes()).isEqualTo(dense);
+        assertThat(HyperLogLog.fromBytes(sparse).estimate()).isEqualTo(small.estimate());
+        assertThat(HyperLogLog.fromBytes(dense).estimate()).isEqualTo(large.estimate());
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+        assertThat(HyperLogLog.fromBytes(new byte[0]).estimate()).isZero();
+    }
+
+    @Test
+    void aStoredSketchKeepsCountingAfterItIsLoaded() {
+        HyperLogLog stored = HyperLogLog.fromBytes(sketch("viewer-", 0, 20).toBytes());
+        for (int i = 20; i < 20_000; i++) {
+            stored.add("viewer-" + i);
+        }
+
+        assertThat(HyperLogLog.fromBytes(stored.toBytes()).toBytes())
+                .isEqualTo(sketch("viewer-", 0, 20_000).toBytes());
+    }
+
+    private static HyperLogLog sketch(String prefix, int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add(prefix + i);
+        }
+        return sketch;
+    }
+}
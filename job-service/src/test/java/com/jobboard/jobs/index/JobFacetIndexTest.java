@@ -0,0 +1,158 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.FacetCount;
+import com.jobboard.jobs.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobFacetIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex(null);
+    }
+
+    @Test
+    void pagesNewestFirstByCreationTimeNotId() {
+        // Two instances drawing from different sequence pools
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(
+                job(51L, JobCategory.SOFTWARE_DEVELOPMENT, 1),
+                job(2L, JobCategory.SOFTWARE_DEVELOPMENT, 2),
+                job(52L, JobCategory.SOFTWARE_DEVELOPMENT, 3),
+                job(3L, JobCategory.SOFTWARE_DEVELOPMENT, 4))));
+
+        assertThat(index.query(Set.of(), Set.of(), Set.of(), 0, 10).getJobIds()).containsExactly(3L, 52L, 2L, 51L);
+        assertThat(index.query(Set.of(), Set.of(), Set.of(), 1, 2).getJobIds()).containsExactly(52L, 2L);
+    }
+
+    @Test
+    void sparseMatchesAreSelectedInTheSameOrder() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            jobs.add(job(1000L - i, JobCategory.DESIGN, i));
+        }
+        jobs.add(job(7L, JobCategory.SOFTWARE_DEVELOPMENT, 50));
+        jobs.add(job(900L, JobCategory.SOFTWARE_DEVELOPMENT, 10));
+        jobs.add(job(8L, JobCategory.SOFTWARE_DEVELOPMENT, 300));
+        index.onJobsChanged(JobBatchChangedEvent.created(jobs));
+
+        FacetResult result = index.query(Set.of(JobCategory.SOFTWARE_DEVELOPMENT), Set.of(), Set.of(), 0, 2);
+
+        assertThat(result.getTotalMatches()).isEqualTo(3);
+        assertThat(result.getJobIds()).containsExactly(8L, 7L);
+        assertThat(index.query(Set.of(JobCategory.SOFTWARE_DEVELOPMENT), Set.of(), Set.of(), 2, 2).getJobIds())
+                .containsExactly(900L);
+    }
+
+    @Test
+    void deactivatedJobsLeaveTheOrderAndTheCounts() {
+        Job older = job(1L, JobCategory.SOFTWARE_DEVELOPMENT, 1);
+        Job newer = job(2L, JobCategory.DESIGN, 2);
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(older, newer)));
+
+        newer.setActive(false);
+        index.onJobChanged(JobChangedEvent.deactivated(newer));
+
+        FacetResult result = index.query(Set.of(), Set.of(), Set.of(), 0, 10);
+        assertThat(result.getJobIds()).containsExactly(1L);
+        assertThat(result.getFacets().get("category"))
+                .containsEntry("SOFTWARE_DEVELOPMENT", 1L)
+                .containsEntry("DESIGN", 0L);
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilter() {
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(
+                job(1L, JobCategory.SOFTWARE_DEVELOPMENT, 1),
+                job(2L, JobCategory.DESIGN, 2),
+                job(3L, JobCategory.DESIGN, 3))));
+
+        FacetResult result = index.query(Set.of(JobCategory.DESIGN), Set.of(), Set.of(), 0, 10);
+
+        assertThat(result.getJobIds()).containsExactly(3L, 2L);
+        assertThat(result.getFacets().get("category"))
+                .containsEntry("SOFTWARE_DEVELOPMENT", 1L)
+                .containsEntry("DESIGN", 2L);
+        assertThat(result.getFacets().get("jobType")).containsEntry("FULL_TIME", 2L);
+    }
+
+    @Test
+    void idsBeyondTheBitmapsSendFacetQueriesToTheDatabase() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        index = new JobFacetIndex(jobRepository);
+        long beyond = Integer.MAX_VALUE + 1L;
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(
+                job(1L, JobCategory.SOFTWARE_DEVELOPMENT, 1),
+                job(beyond, JobCategory.DESIGN, 2))));
+
+        assertThat(index.isComplete()).isFalse();
+        assertThat(index.isPostedSince(beyond, START)).isFalse();
+
+        when(jobRepository.findActiveIdsByFacets(any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(beyond, 1L), PageRequest.of(0, 10), 2));
+        when(jobRepository.countActiveByCategory(any(), any())).thenReturn(List.of(
+                count(JobCategory.SOFTWARE_DEVELOPMENT, 1), count(JobCategory.DESIGN, 1)));
+        FacetResult result = index.query(Set.of(), Set.of(JobType.FULL_TIME), null, 0, 10);
+
+        assertThat(result.getTotalMatches()).isEqualTo(2);
+        assertThat(result.getJobIds()).containsExactly(beyond, 1L);
+        assertThat(result.getFacets().get("category"))
+                .containsEntry("DESIGN", 1L)
+                .containsEntry("SOFTWARE_DEVELOPMENT", 1L)
+                .containsEntry("MARKETING", 0L);
+        // An unfiltered facet passes all of its values
+        verify(jobRepository).findActiveIdsByFacets(eq(EnumSet.allOf(JobCategory.class)), eq(Set.of(JobType.FULL_TIME)),
+                eq(EnumSet.allOf(ExperienceLevel.class)), any());
+    }
+
+    private static FacetCount count(Enum<?> value, long count) {
+        return new FacetCount() {
+            @Override
+            public Enum<?> getValue() {
+                return value;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static Job job(Long id, JobCategory category, int minutesAfterStart) {
+        return Job.builder()
+                .id(id)
+                .title("Job " + id)
+                .jobType(JobType.FULL_TIME)
+                .category(category)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .isActive(true)
+                .createdAt(START.plusMinutes(minutesAfterStart))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.model.Job;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MinHasherTest {
+
+    private final MinHasher minHasher = new MinHasher(new SkillDictionary(new ClassPathResource("skill-aliases.properties")));
+
+    @Test
+    void agreementEstimatesTheJaccardSimilarityOfTheShingles() {
+        // 199 description pairs each, 149 of them shared: Jaccard 149 / 249
+        int[] a = signature(job(1L, "", words(0, 200), null));
+        int[] b = signature(job(2L, "", words(50, 250), null));
+        int[] disjoint = signature(job(3L, "", words(1000, 1200), null));
+
+        assertThat(MinHasher.similarity(a, b)).isCloseTo(149.0 / 249, within(0.15));
+        assertThat(MinHasher.similarity(a, disjoint)).isLessThan(0.1);
+        assertThat(MinHasher.similarity(a, a)).isEqualTo(1.0);
+    }
+
+    @Test
+    void signaturesIgnoreCaseAndSkillSpellingAndMatchAcrossInstances() {
+        Job original = job(1L, "Senior Backend Engineer", "Build and run payment services", "JS, k8s, Golang");
+        Job respelled = job(2L, "senior backend  engineer", "build AND run payment services!", "javascript, Kubernetes, go");
+
+        MinHasher otherReplica = new MinHasher(new SkillDictionary(new ClassPathResource("skill-aliases.properties")));
+        assertThat(minHasher.signature(respelled)).isEqualTo(minHasher.signature(original));
+        assertThat(otherReplica.signature(original)).isEqualTo(minHasher.signature(original));
+    }
+
+    @Test
+    void signaturesRoundTripThroughTheirStoredBytes() {
+        byte[] stored = minHasher.signature(job(1L, "Data Engineer", "Own the warehouse", "sql"));
+
+        assertThat(stored).hasSize(MinHasher.BYTES);
+        int[] decoded = MinHasher.decode(stored);
+        assertThat(decoded).hasSize(MinHasher.SIZE);
+        ByteBuffer reencoded = ByteBuffer.allocate(MinHasher.BYTES);
+        reencoded.asIntBuffer().put(decoded);
+        assertThat(reencoded.array()).isEqualTo(stored);
+        assertThat(minHasher.signature(job(2L, " ", null, ""))).isNull();
+    }
+
+    @Test
+    void similarJobsAreFoundThroughSharedBands() {
+        SimilarJobsIndex index = new SimilarJobsIndex(null, minHasher, null, 256);
+        Job base = job(1L, "Platform Engineer", words(0, 60), "java, kubernetes");
+        Job close = job(2L, "Platform Engineer", words(0, 58) + " extra words", "java, kubernetes");
+        Job unrelated = job(3L, "Pastry Chef", words(500, 560), "baking");
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(base, close, unrelated)));
+
+        List<SimilarJobsIndex.Neighbour> neighbours = index.neighbours(1L, index.signatureOf(1L), 5);
+
+        assertThat(neighbours).extracting(SimilarJobsIndex.Neighbour::getJobId).containsExactly(2L);
+        assertThat(neighbours.get(0).getSimilarity()).isGreaterThan(0.8);
+    }
+
+    private int[] signature(Job job) {
+        return MinHasher.decode(minHasher.signature(job));
+    }
+
+    private Job job(Long id, String title, String description, String skills) {
+        Job job = Job.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .skillsRequired(skills)
+                .isActive(true)
+                .build();
+        job.setMinhash(minHasher.signature(job));
+        return job;
+    }
+
+    private static String words(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "word" + i).collect(Collectors.joining(" "));
+    }
+}
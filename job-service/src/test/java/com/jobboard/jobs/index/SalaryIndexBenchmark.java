@@ -0,0 +1,127 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the JPQL salary range query with SalaryIndex and checks both
+ * return the same totals. Skipped by default; run with:
+ * mvn test -Dtest=SalaryIndexBenchmark -Dbenchmark=true [-Dbenchmark.jobs=1000000]
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:salary-benchmark",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.jobboard.jobs=INFO",
+        "jobs.search.index-dir=target/search-index/salary-benchmark",
+        "jobs.search.rebuild-on-startup=false"
+})
+class SalaryIndexBenchmark {
+
+    private static final int INSERT_BATCH = 5_000;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private SalaryIndex salaryIndex;
+
+    @Test
+    void compareJpqlWithSalaryIndex() {
+        int jobs = Integer.getInteger("benchmark.jobs", 1_000_000);
+        seed(jobs);
+
+        long start = System.nanoTime();
+        salaryIndex.rebuild();
+        System.out.printf("Indexed %d jobs in %d ms%n", jobs, (System.nanoTime() - start) / 1_000_000);
+
+        Random random = new Random(7);
+        List<long[]> ranges = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            long min = 30_000 + random.nextInt(100_000);
+            ranges.add(new long[]{min, min + 20_000 + random.nextInt(60_000)});
+        }
+
+        PageRequest page = PageRequest.of(0, 10, Sort.by("salaryMin").ascending());
+        for (long[] range : ranges) {
+            BigDecimal min = BigDecimal.valueOf(range[0]);
+            BigDecimal max = BigDecimal.valueOf(range[1]);
+            assertThat(salaryIndex.query(min, max, SalaryMatchMode.WITHIN, 0, 10).getTotal())
+                    .isEqualTo(jobRepository.findBySalaryRange(min, max, page).getTotalElements());
+            assertThat(salaryIndex.query(min, max, SalaryMatchMode.OVERLAPS, 0, 10).getTotal())
+                    .isEqualTo(jobRepository.findBySalaryOverlap(min, max, page).getTotalElements());
+        }
+
+        report("JPQL within", ranges, r -> jobRepository.findBySalaryRange(r[0], r[1], page));
+        report("JPQL overlap", ranges, r -> jobRepository.findBySalaryOverlap(r[0], r[1], page));
+        report("Index within", ranges, r -> salaryIndex.query(r[0], r[1], SalaryMatchMode.WITHIN, 0, 10));
+        report("Index overlap", ranges, r -> salaryIndex.query(r[0], r[1], SalaryMatchMode.OVERLAPS, 0, 10));
+    }
+
+    private void report(String name, List<long[]> ranges, Function<BigDecimal[], Object> query) {
+        List<Long> timings = new ArrayList<>();
+        for (int pass = 0; pass < 2; pass++) {  // First pass warms up
+            timings.clear();
+            for (long[] range : ranges) {
+                BigDecimal[] bounds = {BigDecimal.valueOf(range[0]), BigDecimal.valueOf(range[1])};
+                long start = System.nanoTime();
+                Object result = query.apply(bounds);
+                timings.add(System.nanoTime() - start);
+                assertThat(result instanceof Page<?> || result instanceof IdPage).isTrue();
+            }
+        }
+        timings.sort(Long::compare);
+
+        System.out.printf("%-14s p50=%.3f ms p95=%.3f ms%n", name,
+                timings.get(timings.size() / 2) / 1_000_000.0,
+                timings.get((int) Math.ceil(timings.size() * 0.95) - 1) / 1_000_000.0);
+    }
+
+    private void seed(int jobs) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO jobs (id, title, description, company_name, location, job_type, category, " +
+                "experience_level, salary_min, salary_max, posted_by_user_id, posted_by_username, is_active, " +
+                "application_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long id = 1; id <= jobs; id++) {
+            long min = 20_000 + random.nextInt(180_000);
+            long max = min + random.nextInt(80_000);
+            batch.add(new Object[]{id, "Job " + id, "Salary benchmark job", "Acme", "Remote", "FULL_TIME",
+                    "SOFTWARE_DEVELOPMENT", "SENIOR", min, max, 1L, "employer", true, 0L, now, now});
+
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
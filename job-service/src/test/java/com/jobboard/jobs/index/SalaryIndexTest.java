@@ -0,0 +1,158 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.repository.JobSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:salary-index-test",
+        "jobs.search.index-dir=target/search-index/salary-index-test"
+})
+class SalaryIndexTest {
+
+    private static final int JOB_COUNT = 3000;
+
+    @Autowired
+    private SalaryIndex salaryIndex;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void seedOnce() {
+        if (jobRepository.count() > 0) {
+            return;
+        }
+
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            BigDecimal min = BigDecimal.valueOf(40_000_00L + random.nextInt(20_000_00), 2);
+            BigDecimal max = min.add(BigDecimal.valueOf(random.nextInt(30_000_00), 2));
+            jobs.add(job(min, max));
+        }
+        // Salaries a rounding index would move across a boundary
+        jobs.add(job(new BigDecimal("50000.40"), new BigDecimal("60000.49")));
+        jobs.add(job(new BigDecimal("50000.50"), new BigDecimal("60000.50")));
+        jobRepository.saveAll(jobs);
+        salaryIndex.rebuild();
+    }
+
+    @Test
+    void matchesTheRepositoryQueryAtFractionalBounds() {
+        for (String[] bounds : new String[][]{
+                {"50000.45", "60000.49"},
+                {"50000.4", "60000.495"},
+                {"50000.50", "60000.5"},
+                {"49999.999", "60000.001"}}) {
+            BigDecimal min = new BigDecimal(bounds[0]);
+            BigDecimal max = new BigDecimal(bounds[1]);
+
+            assertSameAsRepository(min, max, SalaryMatchMode.WITHIN, 0, 10);
+            assertSameAsRepository(min, max, SalaryMatchMode.OVERLAPS, 0, 10);
+        }
+    }
+
+    @Test
+    void matchesTheRepositoryQueryForRandomRangesAndPages() {
+        Random random = new Random(7);
+        for (int round = 0; round < 30; round++) {
+            BigDecimal min = BigDecimal.valueOf(35_000_00L + random.nextInt(30_000_00), 2);
+            BigDecimal max = min.add(BigDecimal.valueOf(random.nextInt(40_000_00), 2));
+            int offset = random.nextInt(1500);
+
+            assertSameAsRepository(min, max, SalaryMatchMode.WITHIN, offset, 25);
+            assertSameAsRepository(min, max, SalaryMatchMode.OVERLAPS, offset, 25);
+        }
+    }
+
+    @Test
+    void bitmapMatchHasTheSameJobsAsTheRepositoryQuery() {
+        BigDecimal min = new BigDecimal("45000.25");
+        BigDecimal max = new BigDecimal("70000.75");
+        PageRequest all = PageRequest.of(0, JOB_COUNT + 10);
+
+        assertThat(ids(salaryIndex.match(min, max, SalaryMatchMode.WITHIN)))
+                .containsExactlyInAnyOrderElementsOf(ids(jobRepository.findBySalaryRange(min, max, all)));
+        assertThat(ids(salaryIndex.match(min, max, SalaryMatchMode.OVERLAPS)))
+                .containsExactlyInAnyOrderElementsOf(ids(jobRepository.findBySalaryOverlap(min, max, all)));
+    }
+
+    @Test
+    void idsBeyondTheBitmapAreStillQueriedButNotMatched() {
+        SalaryIndex index = new SalaryIndex(null);
+        Job beyond = job(new BigDecimal("50000"), new BigDecimal("60000"));
+        beyond.setId(Integer.MAX_VALUE + 1L);
+        index.onJobChanged(JobChangedEvent.created(beyond));
+        index.refresh();
+
+        assertThat(index.canMatch()).isFalse();
+        assertThat(index.query(new BigDecimal("40000"), new BigDecimal("70000"), SalaryMatchMode.WITHIN, 0, 10)
+                .getJobIds()).containsExactly(beyond.getId());
+        assertThat(index.matches(beyond.getId(), new BigDecimal("40000"), new BigDecimal("70000"),
+                SalaryMatchMode.WITHIN)).isTrue();
+        assertThatThrownBy(() -> index.match(new BigDecimal("40000"), new BigDecimal("70000"), SalaryMatchMode.WITHIN))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void assertSameAsRepository(BigDecimal min, BigDecimal max, SalaryMatchMode mode, int offset, int limit) {
+        PageRequest page = PageRequest.of(offset / limit, limit, Sort.by("salaryMin").ascending().and(Sort.by("id")));
+        Page<JobSummary> expected = mode == SalaryMatchMode.WITHIN
+                ? jobRepository.findBySalaryRange(min, max, page)
+                : jobRepository.findBySalaryOverlap(min, max, page);
+
+        IdPage actual = salaryIndex.query(min, max, mode, (int) page.getOffset(), limit);
+
+        assertThat(actual.getTotal()).as("%s total for %s..%s", mode, min, max).isEqualTo(expected.getTotalElements());
+        assertThat(actual.getJobIds()).as("%s page for %s..%s", mode, min, max).isEqualTo(ids(expected));
+    }
+
+    private static List<Long> ids(Page<JobSummary> page) {
+        return page.getContent().stream().map(JobSummary::getId).toList();
+    }
+
+    private static List<Long> ids(RoaringBitmap bitmap) {
+        List<Long> ids = new ArrayList<>();
+        bitmap.forEach((int id) -> ids.add((long) id));
+        return ids;
+    }
+
+    private static Job job(BigDecimal salaryMin, BigDecimal salaryMax) {
+        return Job.builder()
+                .title("Backend Engineer")
+                .description("Build and operate the services behind the job board platform.")
+                .companyName("Acme")
+                .location("Remote")
+                .jobType(JobType.FULL_TIME)
+                .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .salaryMin(salaryMin)
+                .salaryMax(salaryMax)
+                .postedByUserId(1L)
+                .postedByUsername("employer")
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.jobboard.jobs.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times SkillMatchIndex queries and checks the ranking against a brute-force
+ * Jaccard scan over the seeded skill sets. Skipped by default; run with:
+ * mvn test -Dtest=SkillMatchIndexBenchmark -Dbenchmark=true [-Dbenchmark.jobs=1000000]
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:skill-benchmark",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.jobboard.jobs=INFO",
+        "jobs.search.index-dir=target/search-index/skill-benchmark",
+        "jobs.search.rebuild-on-startup=false",
+        "jobs.read-model.enabled=false"
+})
+class SkillMatchIndexBenchmark {
+
+    private static final int INSERT_BATCH = 5_000;
+    private static final int ROUNDS = 20;
+    private static final int SKILLS = 300;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Test
+    void compareBruteForceWithSkillMatchIndex() {
+        int jobs = Integer.getInteger("benchmark.jobs", 1_000_000);
+        List<int[]> jobSkills = seed(jobs);
+
+        long start = System.nanoTime();
+        skillMatchIndex.rebuild();
+        System.out.printf("Indexed %d jobs in %d ms%n", jobs, (System.nanoTime() - start) / 1_000_000);
+
+        Random random = new Random(7);
+        List<int[]> candidates = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            candidates.add(randomSkills(random, 3 + random.nextInt(8)));
+        }
+
+        for (int[] candidate : candidates) {
+            SkillMatchIndex.MatchPage page = skillMatchIndex.match(lookup(candidate), 0, 10);
+            List<Long> expected = bruteForce(jobSkills, candidate);
+            assertThat(page.getTotalMatches()).isEqualTo(expected.get(0));
+            assertThat(page.getMatches().stream().map(SkillMatchIndex.Match::getJobId).toList())
+                    .isEqualTo(expected.subList(1, expected.size()));
+        }
+
+        List<Long> timings = new ArrayList<>();
+        for (int pass = 0; pass < 2; pass++) {  // First pass warms up
+            timings.clear();
+            for (int[] candidate : candidates) {
+                long queryStart = System.nanoTime();
+                skillMatchIndex.match(lookup(candidate), 0, 10);
+                timings.add(System.nanoTime() - queryStart);
+            }
+        }
+        timings.sort(Long::compare);
+
+        System.out.printf("%-14s p50=%.3f ms p95=%.3f ms%n", "Skill match",
+                timings.get(timings.size() / 2) / 1_000_000.0,
+                timings.get((int) Math.ceil(timings.size() * 0.95) - 1) / 1_000_000.0);
+    }
+
+    private BitSet lookup(int[] skills) {
+        return skillDictionary.lookup(names(skills), new ArrayList<>(), new ArrayList<>());
+    }
+
+    // Total matches followed by the top 10 job IDs, same ordering as the index
+    private static List<Long> bruteForce(List<int[]> jobSkills, int[] candidate) {
+        record Scored(long jobId, double score, int shared) {
+        }
+
+        boolean[] wanted = new boolean[SKILLS];
+        for (int skill : candidate) {
+            wanted[skill] = true;
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (int i = 0; i < jobSkills.size(); i++) {
+            int[] skills = jobSkills.get(i);
+            int shared = 0;
+            for (int skill : skills) {
+                shared += wanted[skill] ? 1 : 0;
+            }
+            if (shared > 0) {
+                scored.add(new Scored(i + 1, (double) shared / (skills.length + candidate.length - shared), shared));
+            }
+        }
+        scored.sort(Comparator.comparingDouble(Scored::score)
+                .thenComparingInt(Scored::shared)
+                .thenComparingLong(Scored::jobId)
+                .reversed());
+
+        List<Long> result = new ArrayList<>();
+        result.add((long) scored.size());
+        scored.stream().limit(10).forEach(s -> result.add(s.jobId()));
+        return result;
+    }
+
+    // Skewed towards low skill numbers, so a few skills are very common and most are rare
+    private static int[] randomSkills(Random random, int count) {
+        Set<Integer> skills = new LinkedHashSet<>();
+        while (skills.size() < count) {
+            double u = random.nextDouble();
+            skills.add((int) (SKILLS * u * u));
+        }
+        return skills.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static List<String> names(int[] skills) {
+        return Arrays.stream(skills).mapToObj(skill -> "skill" + skill).toList();
+    }
+
+    private List<int[]> seed(int jobs) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO jobs (id, title, description, company_name, location, job_type, category, " +
+                "experience_level, skills_required, posted_by_user_id, posted_by_username, is_active, " +
+                "application_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<int[]> jobSkills = new ArrayList<>(jobs);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long id = 1; id <= jobs; id++) {
+            int[] skills = randomSkills(random, 2 + random.nextInt(9));
+            jobSkills.add(skills);
+            batch.add(new Object[]{id, "Job " + id, "Skill benchmark job", "Acme", "Remote", "FULL_TIME",
+                    "SOFTWARE_DEVELOPMENT", "SENIOR", String.join(", ", names(skills)), 1L, "employer", true, 0L, now, now});
+
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        return jobSkills;
+    }
+}
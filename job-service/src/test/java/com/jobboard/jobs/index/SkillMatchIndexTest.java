@@ -0,0 +1,148 @@
+package com.jobboard.jobs.index;
+
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatchIndexTest {
+
+    private static final int SKILLS = 40;
+
+    private final Random random = new Random(42);
+    // What the index should hold: active jobs and their skills
+    private final Map<Long, Set<String>> expected = new HashMap<>();
+
+    private SkillDictionary skillDictionary;
+    private SkillMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        skillDictionary = new SkillDictionary(new ByteArrayResource(new byte[0]));
+        index = new SkillMatchIndex(null, skillDictionary);
+    }
+
+    @Test
+    void tailUpdatesRankLikeAFullScan() {
+        List<Job> jobs = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            jobs.add(job(id, randomSkills()));
+        }
+        index.onJobsChanged(JobBatchChangedEvent.created(jobs));
+        index.refresh();
+        assertMatchesBruteForce();
+
+        // Few enough changes to stay in the tail segment
+        for (int i = 0; i < 60; i++) {
+            long id = 1 + random.nextInt(3200);
+            Job job = i % 4 == 0 ? inactive(id) : job(id, randomSkills());
+            index.onJobChanged(JobChangedEvent.updated(job));
+            index.refresh();
+        }
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void compactionReclaimsSkillsNoJobUses() {
+        index.onJobChanged(JobChangedEvent.created(job(1L, Set.of("cobol", "skill0"))));
+        index.refresh();
+        assertThat(skillDictionary.lookup(List.of("cobol"), new ArrayList<>(), new ArrayList<>()).cardinality()).isEqualTo(1);
+
+        index.onJobChanged(JobChangedEvent.deactivated(inactive(1L)));
+        List<Job> jobs = new ArrayList<>();
+        for (long id = 2; id <= 1500; id++) {
+            jobs.add(job(id, randomSkills()));
+        }
+        index.onJobsChanged(JobBatchChangedEvent.created(jobs));
+        index.refresh();
+
+        List<String> unknown = new ArrayList<>();
+        skillDictionary.lookup(List.of("cobol", "skill0"), new ArrayList<>(), unknown);
+        assertThat(unknown).containsExactly("cobol");
+        assertThat(skillDictionary.size()).isEqualTo(SKILLS);
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void releasedIdsAreHandedOutAgainOnlyOnceReclaimed() {
+        BitSet rust = skillDictionary.encode("rust");
+        BitSet both = skillDictionary.encode("go, rust");
+        int rustId = rust.nextSetBit(0);
+
+        skillDictionary.release(rust);
+        assertThat(skillDictionary.unused()).isEmpty();
+
+        skillDictionary.release(both);
+        assertThat(skillDictionary.unused()).hasSize(2);
+        assertThat(skillDictionary.encode("zig").get(rustId)).isFalse();
+
+        skillDictionary.reclaim(skillDictionary.unused());
+        assertThat(skillDictionary.encode("elixir").get(rustId)).isTrue();
+        assertThat(skillDictionary.names(skillDictionary.encode("elixir"))).containsExactly("elixir");
+    }
+
+    private void assertMatchesBruteForce() {
+        for (int round = 0; round < 20; round++) {
+            Set<String> candidate = randomSkills();
+            BitSet bits = skillDictionary.lookup(candidate, new ArrayList<>(), new ArrayList<>());
+
+            List<double[]> ranked = new ArrayList<>();
+            expected.forEach((id, skills) -> {
+                long shared = skills.stream().filter(candidate::contains).count();
+                if (shared > 0) {
+                    double score = (double) shared / (skills.size() + candidate.size() - shared);
+                    ranked.add(new double[]{score, shared, id});
+                }
+            });
+            ranked.sort(Comparator.<double[]>comparingDouble(r -> r[0])
+                    .thenComparingDouble(r -> r[1])
+                    .thenComparingDouble(r -> r[2])
+                    .reversed());
+
+            SkillMatchIndex.MatchPage page = index.match(bits, 5, 10);
+            assertThat(page.getTotalMatches()).isEqualTo(ranked.size());
+            assertThat(page.getMatches()).extracting(SkillMatchIndex.Match::getJobId)
+                    .containsExactlyElementsOf(ranked.subList(5, Math.min(15, ranked.size())).stream()
+                            .map(r -> (long) r[2])
+                            .toList());
+        }
+    }
+
+    private Set<String> randomSkills() {
+        Set<String> skills = new LinkedHashSet<>();
+        int count = 1 + random.nextInt(6);
+        while (skills.size() < count) {
+            skills.add("skill" + random.nextInt(SKILLS));
+        }
+        return skills;
+    }
+
+    private Job job(long id, Set<String> skills) {
+        expected.put(id, skills);
+        return Job.builder()
+                .id(id)
+                .title("Job " + id)
+                .skillsRequired(String.join(", ", skills))
+                .isActive(true)
+                .build();
+    }
+
+    private Job inactive(long id) {
+        expected.remove(id);
+        return Job.builder().id(id).title("Job " + id).isActive(false).build();
+    }
+}
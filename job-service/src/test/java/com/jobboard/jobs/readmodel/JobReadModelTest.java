@@ -0,0 +1,239 @@
+package com.jobboard.jobs.readmodel;
+
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.JobRequest;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.service.JobService;
+import com.jobboard.jobs.service.MessagePublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:job-read-model-test",
+        "jobs.search.index-dir=target/search-index/job-read-model-test",
+        "jobs.read-model.enabled=true"
+})
+class JobReadModelTest {
+
+    private static final int JOB_COUNT = 60;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 8, 0);
+    private static final PageRequest ALL = PageRequest.of(0, JOB_COUNT * 2);
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    @MockBean
+    private MessagePublisher messagePublisher;
+
+    @Autowired
+    private JobReadModel jobReadModel;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private List<Long> jobIds;
+
+    @BeforeEach
+    void setUp() {
+        when(authServiceClient.getCurrentUser(anyString())).thenReturn(UserDTO.builder()
+                .id(1L)
+                .username("employer")
+                .email("employer@example.com")
+                .role("EMPLOYER")
+                .active(true)
+                .build());
+
+        Random random = new Random(3);
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            jobs.add(Job.builder()
+                    .title("Engineer " + i)
+                    .description("Build and operate the services behind the job board platform.")
+                    .companyName("Acme")
+                    .location("Remote")
+                    .jobType(JobType.values()[random.nextInt(JobType.values().length)])
+                    .category(JobCategory.values()[random.nextInt(JobCategory.values().length)])
+                    .experienceLevel(ExperienceLevel.SENIOR)
+                    .postedByUserId(1L)
+                    .postedByUsername("employer")
+                    .isActive(i % 9 != 0)
+                    .build());
+        }
+        jobIds = jobRepository.saveAll(jobs).stream().map(Job::getId).toList();
+
+        List<Integer> minutes = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            minutes.add(i);
+        }
+        Collections.shuffle(minutes, random);
+        for (int i = 0; i < JOB_COUNT; i++) {
+            jdbcTemplate.update("UPDATE jobs SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(START.plusMinutes(minutes.get(i))), jobIds.get(i));
+        }
+        jobReadModel.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+        jobReadModel.rebuild();
+    }
+
+    @Test
+    void keepsOnlyActiveJobs() {
+        assertThat(jobReadModel.size()).isEqualTo(activeJobs().size());
+        assertThat(jobReadModel.findAll(jobIds).keySet())
+                .containsExactlyInAnyOrderElementsOf(activeJobs().stream().map(Job::getId).toList());
+    }
+
+    @Test
+    void listingsFollowUpdatesDeactivationsAndCountFlushes() {
+        Random random = new Random(5);
+        for (int i = 0; i < 15; i++) {
+            Long jobId = jobIds.get(random.nextInt(JOB_COUNT));
+            Job job = jobRepository.findById(jobId).orElseThrow();
+            if (!job.isActive()) {
+                continue;
+            }
+            if (i % 4 == 0) {
+                jobService.deleteJob(jobId, "Bearer employer");
+            } else {
+                jobService.updateJob(jobId, request(job, JobCategory.values()[random.nextInt(JobCategory.values().length)],
+                        JobType.values()[random.nextInt(JobType.values().length)]), "Bearer employer");
+            }
+        }
+        List<Long> counted = jobIds.subList(0, 20);
+        for (Long jobId : counted) {
+            jdbcTemplate.update("UPDATE jobs SET application_count = ? WHERE id = ?", random.nextInt(50), jobId);
+        }
+        eventPublisher.publishEvent(ApplicationCountsChangedEvent.forJobs(counted));
+
+        Comparator<Job> newestFirst = Comparator.comparing(Job::getCreatedAt).thenComparing(Job::getId).reversed();
+        awaitListing(() -> ids(jobReadModel.findActive(null, null, ALL).getContent()),
+                () -> activeJobs().stream().sorted(newestFirst).map(Job::getId).toList());
+        for (JobCategory category : JobCategory.values()) {
+            awaitListing(() -> ids(jobReadModel.findActive(category, null, ALL).getContent()),
+                    () -> activeJobs().stream().filter(job -> job.getCategory() == category)
+                            .sorted(newestFirst).map(Job::getId).toList());
+        }
+        for (JobType jobType : JobType.values()) {
+            awaitListing(() -> ids(jobReadModel.findActive(null, jobType, ALL).getContent()),
+                    () -> activeJobs().stream().filter(job -> job.getJobType() == jobType)
+                            .sorted(newestFirst).map(Job::getId).toList());
+        }
+        awaitListing(() -> ids(jobReadModel.findActive(null, null,
+                        PageRequest.of(0, JOB_COUNT, Sort.by("applicationCount").descending())).getContent()),
+                () -> activeJobs().stream()
+                        .sorted(Comparator.comparingLong(Job::getApplicationCount).thenComparing(Job::getId).reversed())
+                        .map(Job::getId).toList());
+    }
+
+    @Test
+    void detailReflectsAnUpdateAsSoonAsItReturns() {
+        Long jobId = activeJobs().get(0).getId();
+        assertThat(jobService.getJobById(jobId, "viewer").getTitle()).startsWith("Engineer");
+
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        JobRequest renamed = request(job, job.getCategory(), job.getJobType());
+        renamed.setTitle("Staff Engineer");
+        jobService.updateJob(jobId, renamed, "Bearer employer");
+
+        assertThat(jobService.getJobById(jobId, "viewer").getTitle()).isEqualTo("Staff Engineer");
+    }
+
+    @Test
+    void aLateEventCannotReviveADeactivatedJob() {
+        Job job = activeJobs().get(0);
+        LocalDateTime before = job.getUpdatedAt();
+        jobService.deleteJob(job.getId(), "Bearer employer");
+        awaitListing(() -> jobReadModel.findAll(List.of(job.getId())).keySet().stream().toList(), List::of);
+
+        // A write that committed before the deactivation, delivered after it
+        job.setActive(true);
+        job.setUpdatedAt(before);
+        eventPublisher.publishEvent(JobChangedEvent.updated(job));
+
+        // Once a later write is visible, the stale event has been applied too
+        Job other = activeJobs().get(0);
+        JobRequest renamed = request(other, other.getCategory(), other.getJobType());
+        renamed.setTitle("Principal Engineer");
+        jobService.updateJob(other.getId(), renamed, "Bearer employer");
+        awaitListing(() -> jobReadModel.findAll(List.of(other.getId())).values().stream().map(JobView::getTitle).toList(),
+                () -> List.of("Principal Engineer"));
+
+        assertThat(jobReadModel.findAll(List.of(job.getId()))).isEmpty();
+    }
+
+    private List<Job> activeJobs() {
+        return jobRepository.findAll().stream().filter(Job::isActive).toList();
+    }
+
+    private static JobRequest request(Job job, JobCategory category, JobType jobType) {
+        return JobRequest.builder()
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .companyName(job.getCompanyName())
+                .location(job.getLocation())
+                .jobType(jobType)
+                .category(category)
+                .experienceLevel(job.getExperienceLevel())
+                .build();
+    }
+
+    private static List<Long> ids(List<JobView> views) {
+        return views.stream().map(JobView::getId).toList();
+    }
+
+    // The read model applies writes asynchronously
+    private static <T> void awaitListing(Supplier<List<T>> actual, Supplier<List<T>> expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Objects.equals(actual.get(), expected.get()) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(actual.get()).isEqualTo(expected.get());
+    }
+}
@@ -0,0 +1,130 @@
+package com.jobboard.jobs.search;
+
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Compares the LIKE scan in JobRepository.searchJobs with the Lucene index.
+ * Skipped by default; run with:
+ * mvn test -Dtest=JobSearchBenchmark -Dbenchmark=true [-Dbenchmark.jobs=1000000]
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:search-benchmark",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.jobboard.jobs=INFO",
+        "jobs.search.index-dir=target/search-index/benchmark",
+        "jobs.search.rebuild-on-startup=false"
+})
+class JobSearchBenchmark {
+
+    private static final String[] TITLES = {"Backend", "Frontend", "Data", "Platform", "Mobile", "Security",
+            "Cloud", "Machine Learning", "QA", "DevOps"};
+    private static final String[] ROLES = {"Engineer", "Developer", "Analyst", "Architect", "Manager", "Lead"};
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark",
+            "Wayne", "Cyberdyne", "Soylent", "Tyrell"};
+    private static final String[] LOCATIONS = {"Remote", "Berlin", "London", "Bangalore", "New York", "Toronto",
+            "Singapore", "Sydney", "Austin", "Paris"};
+    private static final String[] SKILLS = {"java", "spring", "kotlin", "python", "react", "sql", "kafka",
+            "rabbitmq", "kubernetes", "aws", "terraform", "go"};
+    private static final String[] KEYWORDS = {"backend", "kubernetes", "berlin", "hooli", "machine learning",
+            "platform engineer", "remote", "data analyst", "react", "securi"};
+
+    private static final int INSERT_BATCH = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void compareLikeScanWithSearchIndex() {
+        int jobs = Integer.getInteger("benchmark.jobs", 1_000_000);
+        seed(jobs);
+
+        long start = System.nanoTime();
+        jobSearchIndex.rebuild();
+        System.out.printf("Indexed %d jobs in %d ms%n", jobs, (System.nanoTime() - start) / 1_000_000);
+
+        report("LIKE scan", 3, keyword -> jobRepository.searchJobs(keyword, PageRequest.of(0, 10)));
+        report("Lucene BM25", 50, keyword -> jobService.searchJobs(keyword, PageRequest.of(0, 10)));
+    }
+
+    private void report(String name, int rounds, Consumer<String> query) {
+        // Warm up
+        Arrays.stream(KEYWORDS).forEach(query);
+
+        List<Long> timings = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            for (String keyword : KEYWORDS) {
+                long start = System.nanoTime();
+                query.accept(keyword);
+                timings.add(System.nanoTime() - start);
+            }
+        }
+        timings.sort(Long::compare);
+
+        System.out.printf("%-12s p50=%.2f ms p95=%.2f ms max=%.2f ms%n", name,
+                percentile(timings, 0.50), percentile(timings, 0.95), percentile(timings, 1.0));
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private void seed(int jobs) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO jobs (id, title, description, company_name, location, job_type, category, " +
+                "experience_level, skills_required, posted_by_user_id, posted_by_username, is_active, " +
+                "application_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long id = 1; id <= jobs; id++) {
+            String title = pick(random, TITLES) + " " + pick(random, ROLES);
+            String skills = pick(random, SKILLS) + "," + pick(random, SKILLS) + "," + pick(random, SKILLS);
+            String company = pick(random, COMPANIES);
+            batch.add(new Object[]{id, title,
+                    "Join " + company + " as a " + title + " working with " + skills.replace(',', ' ') +
+                            " on systems used by millions of people every day.",
+                    company, pick(random, LOCATIONS), "FULL_TIME", "SOFTWARE_DEVELOPMENT", "SENIOR", skills,
+                    1L, "employer", true, 0L, now, now});
+
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
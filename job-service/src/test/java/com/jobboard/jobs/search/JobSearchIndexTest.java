@@ -0,0 +1,121 @@
+package com.jobboard.jobs.search;
+
+import com.jobboard.jobs.dto.JobSummaryResponse;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.service.JobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:job-search-index-test",
+        "jobs.search.index-dir=target/search-index/job-search-index-test"
+})
+class JobSearchIndexTest {
+
+    private static final int JOB_COUNT = 1200;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+        jobSearchIndex.rebuild();
+    }
+
+    @Test
+    void totalIsALowerBoundPastTheCountingThreshold() {
+        seedJobs();
+
+        JobSearchHits hits = jobSearchIndex.search("kotlin", PageRequest.of(0, 10));
+
+        assertThat(hits.getJobIds()).hasSize(10);
+        assertThat(hits.getTotalHits()).isBetween(1000L, (long) JOB_COUNT);
+    }
+
+    @Test
+    void lastPageInsideTheWindowSeesAnExactTotal() {
+        seedJobs();
+
+        Page<JobSummaryResponse> page = jobService.searchJobs("kotlin", PageRequest.of(119, 10));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(JOB_COUNT);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void pagesBeyondTheResultWindowAreRejected() {
+        assertThatThrownBy(() -> jobService.searchJobs("kotlin", PageRequest.of(1000, 20)))
+                .isInstanceOf(InvalidJobDataException.class);
+        // offset + size would overflow an int
+        assertThatThrownBy(() -> jobService.searchJobs("kotlin", PageRequest.of(Integer.MAX_VALUE / 10, 100)))
+                .isInstanceOf(InvalidJobDataException.class);
+    }
+
+    @Test
+    void rankKeepsOnlyCandidatesWhenThereAreTooManyForTermLookups() {
+        seedJobs();
+        RoaringBitmap candidates = new RoaringBitmap();
+        jobRepository.findAll().stream().limit(1100).forEach(job -> candidates.add(job.getId().intValue()));
+
+        JobSearchHits hits = jobSearchIndex.rank("kotlin", candidates, 0, 1100);
+
+        assertThat(hits.getTotalHits()).isEqualTo(1100);
+        assertThat(hits.getJobIds()).hasSize(1100)
+                .allMatch(id -> candidates.contains(id.intValue()));
+        assertThat(jobSearchIndex.rank("kotlin", candidates, 1095, 10).getJobIds()).hasSize(5);
+    }
+
+    @Test
+    void estimatesBoundTheMatchesFromIndexStatistics() {
+        seedJobs();
+
+        assertThat(jobSearchIndex.estimate("kotlin")).isGreaterThanOrEqualTo(JOB_COUNT);
+        assertThat(jobSearchIndex.estimate("kotl")).isGreaterThanOrEqualTo(JOB_COUNT);
+        assertThat(jobSearchIndex.estimate("kotlin cobol")).isZero();
+    }
+
+    private void seedJobs() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            jobs.add(Job.builder()
+                    .title("Kotlin Engineer " + i)
+                    .description("Build and operate the Kotlin services behind the job board platform.")
+                    .companyName("Acme")
+                    .location("Remote")
+                    .jobType(JobType.FULL_TIME)
+                    .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                    .experienceLevel(ExperienceLevel.SENIOR)
+                    .postedByUserId(1L)
+                    .postedByUsername("employer")
+                    .isActive(true)
+                    .build());
+        }
+        jobRepository.saveAll(jobs);
+        jobSearchIndex.rebuild();
+    }
+}
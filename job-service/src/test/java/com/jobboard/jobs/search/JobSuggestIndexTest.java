@@ -0,0 +1,126 @@
+package com.jobboard.jobs.search;
+
+import com.jobboard.jobs.dto.JobSuggestion;
+import com.jobboard.jobs.event.ApplicationCountsChangedEvent;
+import com.jobboard.jobs.event.JobBatchChangedEvent;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobApplicationCount;
+import com.jobboard.jobs.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JobSuggestIndexTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+
+    @Test
+    void flushedDeltasReweightWithoutReadingCounts() {
+        JobSuggestIndex index = index(8_388_608, 1000, 30_000);
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(
+                job(1L, "Java Developer"),
+                job(2L, "Java Developer"),
+                job(3L, "Java Architect"))));
+        index.compile();
+        assertThat(texts(index.suggest("java", 2))).containsExactly("Java Developer", "Java Architect");
+
+        index.onApplicationCountsChanged(ApplicationCountsChangedEvent.flushed(Map.of(3L, 4L, 99L, 1L)));
+        index.compile();
+
+        List<JobSuggestion> suggestions = index.suggest("java", 2);
+        assertThat(texts(suggestions)).containsExactly("Java Architect", "Java Developer");
+        assertThat(suggestions.get(0).getWeight()).isEqualTo(5);
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void countsChangedElsewhereAreReadOncePerBuild() {
+        JobSuggestIndex index = index(8_388_608, 1000, 30_000);
+        index.onJobsChanged(JobBatchChangedEvent.created(List.of(job(1L, "Data Engineer"), job(2L, "Data Analyst"))));
+        index.compile();
+
+        index.onApplicationCountsChanged(ApplicationCountsChangedEvent.forJobs(List.of(1L)));
+        index.onApplicationCountsChanged(ApplicationCountsChangedEvent.forJobs(List.of(1L, 2L, 42L)));
+        verifyNoInteractions(jobRepository);
+
+        when(jobRepository.findApplicationCounts(anyCollection())).thenReturn(List.of(count(1L, 0), count(2L, 9)));
+        index.compile();
+
+        verify(jobRepository, times(1)).findApplicationCounts(List.of(1L, 2L));
+        assertThat(texts(index.suggest("data", 2))).containsExactly("Data Analyst", "Data Engineer");
+    }
+
+    @Test
+    void weightsStayWithinTheMemoryBudget() {
+        long maxBytes = 64 * 1024;
+        JobSuggestIndex index = index(maxBytes, 1000, 30_000);
+        List<Job> jobs = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            jobs.add(id % 100 == 0 ? job(id, "Platform Engineer") : job(id, "Niche Role " + id));
+        }
+        index.onJobsChanged(JobBatchChangedEvent.created(jobs));
+        index.compile();
+
+        assertThat(index.trackedBytes()).isLessThanOrEqualTo(maxBytes);
+        List<JobSuggestion> suggestions = index.suggest("platform", 1);
+        assertThat(texts(suggestions)).containsExactly("Platform Engineer");
+        assertThat(suggestions.get(0).getWeight()).isEqualTo(50);
+    }
+
+    @Test
+    void scheduledBuildsWaitForWritesToSettle() {
+        JobSuggestIndex settling = index(8_388_608, 60_000, 60_000);
+        settling.rebuild();
+        settling.onJobsChanged(JobBatchChangedEvent.created(List.of(job(1L, "Site Reliability Engineer"))));
+        settling.refresh();
+        assertThat(settling.suggest("site", 5)).isEmpty();
+
+        // Still being written to, but the oldest change is overdue
+        JobSuggestIndex overdue = index(8_388_608, 60_000, 0);
+        overdue.rebuild();
+        overdue.onJobsChanged(JobBatchChangedEvent.created(List.of(job(1L, "Site Reliability Engineer"))));
+        overdue.refresh();
+        assertThat(texts(overdue.suggest("site", 5))).containsExactly("Site Reliability Engineer");
+    }
+
+    private JobSuggestIndex index(long maxBytes, long refreshIntervalMs, long maxStalenessMs) {
+        return new JobSuggestIndex(jobRepository, new SimpleMeterRegistry(), maxBytes, refreshIntervalMs, maxStalenessMs);
+    }
+
+    private static List<String> texts(List<JobSuggestion> suggestions) {
+        return suggestions.stream().map(JobSuggestion::getText).toList();
+    }
+
+    private static Job job(Long id, String title) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .isActive(true)
+                .build();
+    }
+
+    private static JobApplicationCount count(Long id, long applicationCount) {
+        return new JobApplicationCount() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public long getApplicationCount() {
+                return applicationCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.cache.JobCache;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.model.JobApplication;
+import com.jobboard.jobs.repository.JobApplicationRepository;
+import com.jobboard.jobs.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:application-count-test",
+        "jobs.search.index-dir=target/search-index/application-count-test"
+})
+class ApplicationCountAccumulatorTest {
+
+    @Autowired
+    private ApplicationCountAccumulator applicationCountAccumulator;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jobApplicationRepository.deleteAll();
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void reconcileDoesNotDoubleCountAnotherReplicasPendingDelta() {
+        Job job = saveJob();
+        saveApplication(job, 100L);
+
+        // Another replica recorded the application but has not flushed its delta yet
+        ApplicationCountAccumulator otherReplica = new ApplicationCountAccumulator(
+                jobRepository, jdbcTemplate, jobCache, eventPublisher, transactionManager, 300);
+        otherReplica.increment(job.getId());
+
+        applicationCountAccumulator.reconcile();
+        otherReplica.flush();
+
+        assertThat(applicationCount(job)).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileFixesDriftOnceApplicationsHaveSettled() {
+        Job job = saveJob();
+        saveApplication(job, 100L);
+        saveApplication(job, 101L);
+        jdbcTemplate.update("UPDATE job_applications SET updated_at = ? WHERE job_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)), job.getId());
+        jdbcTemplate.update("UPDATE jobs SET application_count = 7 WHERE id = ?", job.getId());
+
+        applicationCountAccumulator.reconcile();
+
+        assertThat(applicationCount(job)).isEqualTo(2);
+    }
+
+    @Test
+    void savingAJobReadBeforeAFlushKeepsTheFlushedCount() {
+        Job stale = jobRepository.findById(saveJob().getId()).orElseThrow();
+        applicationCountAccumulator.increment(stale.getId());
+        applicationCountAccumulator.flush();
+
+        stale.setTitle("Senior Backend Engineer");
+        jobRepository.save(stale);
+
+        assertThat(applicationCount(stale)).isEqualTo(1);
+    }
+
+    private long applicationCount(Job job) {
+        return jdbcTemplate.queryForObject("SELECT application_count FROM jobs WHERE id = ?", Long.class, job.getId());
+    }
+
+    private Job saveJob() {
+        return jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build and operate the services behind the job board platform.")
+                .companyName("Acme")
+                .location("Remote")
+                .jobType(JobType.FULL_TIME)
+                .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .postedByUserId(1L)
+                .postedByUsername("employer")
+                .isActive(true)
+                .build());
+    }
+
+    private void saveApplication(Job job, Long userId) {
+        jobApplicationRepository.save(JobApplication.builder()
+                .jobId(job.getId())
+                .userId(userId)
+                .username("seeker" + userId)
+                .userEmail("seeker" + userId + "@example.com")
+                .status(ApplicationStatus.PENDING)
+                .build());
+    }
+}
@@ -0,0 +1,262 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.ApplicationStatusChangedEvent;
+import com.jobboard.jobs.dto.BulkApplicationStatusRequest;
+import com.jobboard.jobs.dto.BulkApplicationStatusResponse;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.exception.ApplicationStatusConflictException;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.model.JobApplication;
+import com.jobboard.jobs.repository.JobApplicationRepository;
+import com.jobboard.jobs.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Recruiters changing the same applications at once: each change must apply on top of the one before it
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:application-status-test",
+        "jobs.search.index-dir=target/search-index/application-status-test"
+})
+class ApplicationStatusConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int APPLICATIONS = 50;
+    private static final List<ApplicationStatus> PIPELINE = List.of(
+            ApplicationStatus.PENDING, ApplicationStatus.REVIEWED, ApplicationStatus.SHORTLISTED,
+            ApplicationStatus.INTERVIEWED, ApplicationStatus.ACCEPTED);
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    @MockBean
+    private MessagePublisher messagePublisher;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    private Long jobId;
+    private List<Long> applicationIds;
+
+    @BeforeEach
+    void setUp() {
+        when(authServiceClient.getCurrentUser(anyString())).thenReturn(UserDTO.builder()
+                .id(1L)
+                .username("employer")
+                .email("employer@example.com")
+                .role("EMPLOYER")
+                .active(true)
+                .build());
+
+        Job job = jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build and operate the services behind the job board platform.")
+                .companyName("Acme")
+                .location("Remote")
+                .jobType(JobType.FULL_TIME)
+                .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .postedByUserId(1L)
+                .postedByUsername("employer")
+                .isActive(true)
+                .build());
+
+        List<JobApplication> applications = new ArrayList<>();
+        for (long user = 0; user < APPLICATIONS; user++) {
+            applications.add(JobApplication.builder()
+                    .jobId(job.getId())
+                    .userId(100 + user)
+                    .username("seeker" + user)
+                    .userEmail("seeker" + user + "@example.com")
+                    .status(ApplicationStatus.PENDING)
+                    .build());
+        }
+        jobId = job.getId();
+        applicationIds = jobApplicationRepository.saveAll(applications).stream().map(JobApplication::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobApplicationRepository.deleteAll();
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void exactlyOneDecisionPerApplicationSticks() throws Exception {
+        // Half the recruiters accept every application, the other half reject it
+        Map<Long, List<ApplicationStatus>> applied = new ConcurrentHashMap<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        runConcurrently(thread -> {
+            ApplicationStatus decision = thread % 2 == 0 ? ApplicationStatus.ACCEPTED : ApplicationStatus.REJECTED;
+            for (Long id : applicationIds) {
+                try {
+                    jobApplicationService.updateApplicationStatus(id, decision, "Bearer employer");
+                    applied.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>()).add(decision);
+                } catch (ApplicationStatusConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(conflicts.get()).isEqualTo(APPLICATIONS * (THREADS - 1));
+        for (Long id : applicationIds) {
+            assertThat(applied.get(id)).hasSize(1);
+            assertThat(jobApplicationRepository.findById(id).orElseThrow().getStatus()).isEqualTo(applied.get(id).get(0));
+        }
+
+        List<ApplicationStatusChangedEvent> events = publishedEvents(APPLICATIONS);
+        assertThat(events).allSatisfy(event -> assertThat(event.getOldStatus()).isEqualTo("PENDING"));
+        assertThat(events).extracting(ApplicationStatusChangedEvent::getApplicationId)
+                .containsExactlyInAnyOrderElementsOf(applicationIds);
+    }
+
+    @Test
+    void racingRecruitersNeverLoseAnUpdate() throws Exception {
+        // Every recruiter keeps moving every application one stage on from the status it last read
+        runConcurrently(thread -> {
+            for (Long id : applicationIds) {
+                ApplicationStatus current;
+                while ((current = jobApplicationRepository.findById(id).orElseThrow().getStatus()) != ApplicationStatus.ACCEPTED) {
+                    try {
+                        jobApplicationService.updateApplicationStatus(
+                                id, PIPELINE.get(PIPELINE.indexOf(current) + 1), "Bearer employer");
+                    } catch (ApplicationStatusConflictException e) {
+                        // Someone else moved it first; read it again
+                    }
+                }
+            }
+        });
+
+        // A lost update would show up as two events leaving the same status
+        int steps = PIPELINE.size() - 1;
+        Map<Long, List<ApplicationStatusChangedEvent>> byApplication = publishedEvents(APPLICATIONS * steps).stream()
+                .collect(Collectors.groupingBy(ApplicationStatusChangedEvent::getApplicationId));
+        for (Long id : applicationIds) {
+            assertThat(byApplication.get(id))
+                    .extracting(event -> event.getOldStatus() + "->" + event.getNewStatus())
+                    .containsExactlyInAnyOrder("PENDING->REVIEWED", "REVIEWED->SHORTLISTED",
+                            "SHORTLISTED->INTERVIEWED", "INTERVIEWED->ACCEPTED");
+        }
+    }
+
+    @Test
+    void bulkUpdatesLockABoundedNumberOfApplications() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 1001).boxed().toList();
+        assertThatThrownBy(() -> jobApplicationService.updateApplicationStatuses(jobId,
+                BulkApplicationStatusRequest.builder().status(ApplicationStatus.REVIEWED).applicationIds(tooMany).build(),
+                "Bearer employer"))
+                .isInstanceOf(InvalidJobDataException.class);
+
+        // Repeated IDs count once towards the limit
+        List<Long> repeated = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            repeated.addAll(applicationIds);
+        }
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(jobId,
+                BulkApplicationStatusRequest.builder().status(ApplicationStatus.REVIEWED).applicationIds(repeated).build(),
+                "Bearer employer");
+        assertThat(response.getUpdated()).isEqualTo(APPLICATIONS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statusUpdatesPageThroughEveryMatchingApplication() {
+        List<JobApplication> more = new ArrayList<>();
+        for (long user = APPLICATIONS; user < 2500; user++) {
+            more.add(JobApplication.builder()
+                    .jobId(jobId)
+                    .userId(100 + user)
+                    .username("seeker" + user)
+                    .userEmail("seeker" + user + "@example.com")
+                    .status(ApplicationStatus.PENDING)
+                    .build());
+        }
+        jobApplicationRepository.saveAll(more);
+
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(jobId,
+                BulkApplicationStatusRequest.builder()
+                        .status(ApplicationStatus.REVIEWED)
+                        .currentStatus(Set.of(ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED))
+                        .build(),
+                "Bearer employer");
+
+        assertThat(response.getUpdated()).isEqualTo(2500);
+        assertThat(response.getApplicationIds()).doesNotHaveDuplicates().hasSize(2500);
+        assertThat(jobApplicationRepository.findByJobIdAndStatus(jobId, ApplicationStatus.REVIEWED)).hasSize(2500);
+
+        ArgumentCaptor<List<ApplicationStatusChangedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messagePublisher, atLeastOnce()).publishApplicationStatusChangedEvents(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(500));
+        assertThat(captor.getAllValues().stream().flatMap(List::stream))
+                .extracting(ApplicationStatusChangedEvent::getApplicationId)
+                .containsExactlyInAnyOrderElementsOf(response.getApplicationIds());
+    }
+
+    private void runConcurrently(IntConsumer work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int index = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    work.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<ApplicationStatusChangedEvent> publishedEvents(int expected) {
+        ArgumentCaptor<ApplicationStatusChangedEvent> captor = ArgumentCaptor.forClass(ApplicationStatusChangedEvent.class);
+        verify(messagePublisher, times(expected)).publishApplicationStatusChangedEvent(captor.capture());
+        return captor.getAllValues();
+    }
+}
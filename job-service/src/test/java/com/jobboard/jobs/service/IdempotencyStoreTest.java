@@ -0,0 +1,190 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.JobResponse;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.exception.IdempotencyKeyConflictException;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.repository.IdempotentRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:idempotency-store-test",
+        "jobs.search.index-dir=target/search-index/idempotency-store-test",
+        "jobs.idempotency.max-keys-per-user=3"
+})
+class IdempotencyStoreTest {
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    @MockBean
+    private MessagePublisher messagePublisher;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotentRequestRepository idempotentRequestRepository;
+
+    private final AtomicInteger runs = new AtomicInteger();
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        when(authServiceClient.getCurrentUser("Bearer alice")).thenReturn(user(1L));
+        when(authServiceClient.getCurrentUser("Bearer alice-refreshed")).thenReturn(user(1L));
+        when(authServiceClient.getCurrentUser("Bearer bob")).thenReturn(user(2L));
+        key = UUID.randomUUID().toString();
+        idempotentRequestRepository.deleteAll();
+    }
+
+    @Test
+    void retriesGetTheStoredResponseFromAnyTokenOfTheSameUser() {
+        JobResponse first = createJob("Bearer alice", key, "Kotlin Engineer");
+        JobResponse retried = createJob("Bearer alice-refreshed", key, "Kotlin Engineer");
+
+        assertThat(runs).hasValue(1);
+        assertThat(retried).isEqualTo(first);
+        assertThat(idempotentRequestRepository.findByUserIdAndOperationAndIdempotencyKey(1L, "create-job", key))
+                .hasValueSatisfying(stored -> assertThat(stored.getResponse()).contains("Kotlin Engineer"));
+
+        // Keys belong to their user
+        createJob("Bearer bob", key, "Kotlin Engineer");
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void retriesWithTheSameTokenAreAnsweredWithoutRemoteCalls() {
+        JobResponse first = createJob("Bearer alice", key, "Kotlin Engineer");
+        assertThat(first.getTitle()).isEqualTo("Kotlin Engineer by user1");
+        clearInvocations(authServiceClient);
+        // Gone from the table, still answered from this replica's cache
+        idempotentRequestRepository.deleteAll();
+
+        assertThat(createJob("Bearer alice", key, "Kotlin Engineer")).isEqualTo(first);
+        assertThatThrownBy(() -> createJob("Bearer alice", key, "Payroll Accountant"))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(runs).hasValue(1);
+        verifyNoInteractions(authServiceClient);
+    }
+
+    @Test
+    void eachUserKeepsOnlyTheirNewestKeys() {
+        List<String> keys = List.of("k1-" + key, "k2-" + key, "k3-" + key, "k4-" + key);
+        for (String userKey : keys) {
+            createJob("Bearer bob", userKey, "Kotlin Engineer");
+        }
+        createJob("Bearer alice", "k1-" + key, "Kotlin Engineer");
+
+        assertThat(idempotentRequestRepository.countByUserId(2L)).isEqualTo(3);
+        assertThat(idempotentRequestRepository.findByUserIdAndOperationAndIdempotencyKey(2L, "create-job", keys.get(0)))
+                .isEmpty();
+        assertThat(idempotentRequestRepository.findByUserIdAndOperationAndIdempotencyKey(1L, "create-job", keys.get(0)))
+                .isPresent();
+    }
+
+    @Test
+    void aKeyReusedForADifferentRequestIsRejected() {
+        createJob("Bearer alice", key, "Kotlin Engineer");
+
+        assertThatThrownBy(() -> createJob("Bearer alice", key, "Payroll Accountant"))
+                .isInstanceOf(IdempotencyKeyConflictException.class)
+                .hasMessageContaining("different request");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void aRetryWhileTheFirstRequestRunsIsRejected() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<JobResponse> first = CompletableFuture.supplyAsync(() ->
+                idempotencyStore.execute("create-job", "Bearer alice", key, "Kotlin Engineer", JobResponse.class, user -> {
+                    running.countDown();
+                    await(release);
+                    return response("Kotlin Engineer");
+                }));
+        assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> createJob("Bearer alice", key, "Kotlin Engineer"))
+                .isInstanceOf(IdempotencyKeyConflictException.class)
+                .hasMessageContaining("still in progress");
+
+        release.countDown();
+        JobResponse response = first.get(10, TimeUnit.SECONDS);
+        assertThat(createJob("Bearer alice", key, "Kotlin Engineer")).isEqualTo(response);
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void failedRequestsAreNotStoredAndMayBeRetried() {
+        assertThatThrownBy(() -> idempotencyStore.execute("create-job", "Bearer alice", key, "Kotlin Engineer",
+                JobResponse.class, user -> {
+                    throw new InvalidJobDataException("Salary range is invalid");
+                }))
+                .isInstanceOf(InvalidJobDataException.class);
+        assertThat(idempotentRequestRepository.findByUserIdAndOperationAndIdempotencyKey(1L, "create-job", key)).isEmpty();
+
+        createJob("Bearer alice", key, "Kotlin Engineer");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void requestsWithoutAUsableKeyAreNotTracked() {
+        createJob("Bearer alice", null, "Kotlin Engineer");
+        createJob("Bearer alice", null, "Kotlin Engineer");
+        assertThat(runs).hasValue(2);
+
+        for (String invalid : List.of(" ", "k".repeat(256))) {
+            assertThatThrownBy(() -> createJob("Bearer alice", invalid, "Kotlin Engineer"))
+                    .isInstanceOf(InvalidJobDataException.class);
+        }
+    }
+
+    private JobResponse createJob(String authToken, String idempotencyKey, String title) {
+        return idempotencyStore.execute("create-job", authToken, idempotencyKey, title, JobResponse.class, user -> {
+            runs.incrementAndGet();
+            return response(title + " by " + user.getUsername());
+        });
+    }
+
+    private static JobResponse response(String title) {
+        return JobResponse.builder()
+                .id(System.nanoTime())
+                .title(title)
+                .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static UserDTO user(Long id) {
+        return UserDTO.builder().id(id).username("user" + id).role("EMPLOYER").active(true).build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.BulkImportResponse;
+import com.jobboard.jobs.dto.BulkImportRowResult;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.enums.DuplicatePolicy;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.ImportRowStatus;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.index.DuplicateJobIndex;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:job-import-test",
+        "jobs.search.index-dir=target/search-index/job-import-test",
+        "jobs.bulk-import.batch-size=2"
+})
+class JobImportServiceTest {
+
+    private static final String KOTLIN = "Kotlin Engineer";
+    private static final String KOTLIN_DESCRIPTION =
+            "Design, build and operate the Kotlin services behind our payments platform, end to end.";
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    @MockBean
+    private MessagePublisher messagePublisher;
+
+    @SpyBean
+    private DuplicateJobDetector duplicateJobDetector;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DuplicateJobIndex duplicateJobIndex;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    private Long existingId;
+
+    @BeforeEach
+    void setUp() {
+        when(authServiceClient.getCurrentUser(anyString())).thenReturn(UserDTO.builder()
+                .id(1L)
+                .username("employer")
+                .email("employer@example.com")
+                .role("EMPLOYER")
+                .active(true)
+                .build());
+
+        existingId = jobRepository.save(Job.builder()
+                .title("Golang Platform Developer")
+                .description("Own the Go microservices that route millions of shipment tracking events every day.")
+                .companyName("Parcelly")
+                .location("Remote")
+                .jobType(JobType.FULL_TIME)
+                .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .postedByUserId(1L)
+                .postedByUsername("employer")
+                .isActive(true)
+                .build()).getId();
+        duplicateJobIndex.rebuild();
+        jobSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+        duplicateJobIndex.rebuild();
+        jobSearchIndex.rebuild();
+    }
+
+    @Test
+    void flaggedDuplicatesAreCreatedAndReportedPerRow() {
+        BulkImportResponse response = importRows(
+                row(KOTLIN, KOTLIN_DESCRIPTION, "Acme"),
+                // Same posting again in the same batch
+                row(KOTLIN, KOTLIN_DESCRIPTION, "Acme"),
+                row("Golang Platform Developer",
+                        "Own the Go microservices that route millions of shipment tracking events every day.", "Parcelly"),
+                row("UX Researcher", "Too short", "Acme"),
+                row("Data Analyst",
+                        "Turn warehouse and marketing data into weekly dashboards that the leadership team relies on.",
+                        "Northwind"));
+
+        List<BulkImportRowResult> rows = response.getRows();
+        assertThat(rows).extracting(BulkImportRowResult::getStatus).containsExactly(
+                ImportRowStatus.CREATED, ImportRowStatus.CREATED, ImportRowStatus.CREATED,
+                ImportRowStatus.REJECTED, ImportRowStatus.CREATED);
+        assertThat(rows.get(0).getDuplicateOfJobId()).isNull();
+        assertThat(rows.get(1).getDuplicateOfJobId()).isEqualTo(rows.get(0).getJobId());
+        assertThat(rows.get(2).getDuplicateOfJobId()).isEqualTo(existingId);
+        assertThat(rows.get(4).getDuplicateOfJobId()).isNull();
+        assertThat(jobRepository.findById(rows.get(1).getJobId()).orElseThrow().getDuplicateOfJobId())
+                .isEqualTo(rows.get(0).getJobId());
+        assertThat(response.getCreated()).isEqualTo(4);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isZero();
+    }
+
+    @Test
+    void mergedDuplicatesPointAtTheExistingJobWithoutInserting() {
+        doReturn(DuplicatePolicy.MERGE).when(duplicateJobDetector).getPolicy();
+        long before = jobRepository.count();
+
+        BulkImportResponse response = importRows(
+                row("Golang Platform Developer",
+                        "Own the Go microservices that route millions of shipment tracking events every day.", "Parcelly"),
+                row(KOTLIN, KOTLIN_DESCRIPTION, "Acme"));
+
+        assertThat(response.getRows().get(0).getStatus()).isEqualTo(ImportRowStatus.DUPLICATE);
+        assertThat(response.getRows().get(0).getJobId()).isEqualTo(existingId);
+        assertThat(response.getRows().get(1).getStatus()).isEqualTo(ImportRowStatus.CREATED);
+        assertThat(response.getDuplicates()).isEqualTo(1);
+        assertThat(response.getRejected()).isZero();
+        assertThat(jobRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void rejectedDuplicatesNameTheOriginal() {
+        doReturn(DuplicatePolicy.REJECT).when(duplicateJobDetector).getPolicy();
+
+        BulkImportResponse response = importRows(
+                row("Golang Platform Developer",
+                        "Own the Go microservices that route millions of shipment tracking events every day.", "Parcelly"));
+
+        assertThat(response.getRows().get(0).getStatus()).isEqualTo(ImportRowStatus.REJECTED);
+        assertThat(response.getRows().get(0).getErrors()).containsExactly("Job is a near-duplicate of job " + existingId);
+    }
+
+    @Test
+    void anotherEmployersDuplicateIsOnlyFlagged() {
+        doReturn(DuplicatePolicy.REJECT).when(duplicateJobDetector).getPolicy();
+        Long otherEmployersId = jobRepository.save(Job.builder()
+                .title(KOTLIN)
+                .description(KOTLIN_DESCRIPTION)
+                .companyName("Acme")
+                .location("Remote")
+                .jobType(JobType.FULL_TIME)
+                .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                .experienceLevel(ExperienceLevel.SENIOR)
+                .postedByUserId(2L)
+                .postedByUsername("competitor")
+                .isActive(true)
+                .build()).getId();
+        duplicateJobIndex.rebuild();
+
+        BulkImportResponse response = importRows(row(KOTLIN, KOTLIN_DESCRIPTION, "Acme"));
+
+        assertThat(response.getRows().get(0).getStatus()).isEqualTo(ImportRowStatus.CREATED);
+        assertThat(response.getRows().get(0).getDuplicateOfJobId()).isEqualTo(otherEmployersId);
+    }
+
+    @Test
+    void importedJobsAreSearchableOnceTheImportReturns() {
+        importRows(
+                row(KOTLIN, KOTLIN_DESCRIPTION, "Acme"),
+                row("Data Analyst",
+                        "Turn warehouse and marketing data into weekly dashboards that the leadership team relies on.",
+                        "Northwind"),
+                row("Site Reliability Engineer",
+                        "Keep our Kubernetes clusters healthy, observable and cheap while the product keeps growing.",
+                        "Globex"));
+
+        assertThat(jobSearchIndex.search("kotlin", PageRequest.of(0, 10)).getTotalHits()).isEqualTo(1);
+        assertThat(jobSearchIndex.search("kubernetes", PageRequest.of(0, 10)).getTotalHits()).isEqualTo(1);
+    }
+
+    private BulkImportResponse importRows(String... rows) {
+        byte[] body = String.join("\n", rows).getBytes(StandardCharsets.UTF_8);
+        return jobImportService.importJobs(new ByteArrayInputStream(body), MediaType.APPLICATION_NDJSON, "Bearer token");
+    }
+
+    private static String row(String title, String description, String company) {
+        return """
+                {"title":"%s","description":"%s","companyName":"%s","location":"Remote",\
+                "jobType":"FULL_TIME","category":"SOFTWARE_DEVELOPMENT","experienceLevel":"SENIOR"}\
+                """.formatted(title, description, company).strip();
+    }
+}
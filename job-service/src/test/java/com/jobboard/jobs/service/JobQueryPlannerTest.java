@@ -0,0 +1,272 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.dto.JobQueryRequest;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.enums.QueryAccessPath;
+import com.jobboard.jobs.enums.SalaryMatchMode;
+import com.jobboard.jobs.index.FacetResult;
+import com.jobboard.jobs.index.JobFacetIndex;
+import com.jobboard.jobs.index.SalaryIndex;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:job-query-planner-test",
+        "jobs.search.index-dir=target/search-index/job-query-planner-test"
+})
+class JobQueryPlannerTest {
+
+    private static final int JOB_COUNT = 400;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 8, 0);
+    private static final String[] LOCATIONS = {
+            "Berlin, Germany", "Remote", "New York, NY", "Remote", "Berlin, Germany",
+            "Remote", "New York, NY", "Remote", "Berlin, Germany", "Reykjavik"};
+
+    @Autowired
+    private JobQueryPlanner jobQueryPlanner;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobFacetIndex jobFacetIndex;
+
+    @Autowired
+    private SalaryIndex salaryIndex;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    private List<Job> jobs;
+
+    @BeforeEach
+    void seedOnce() {
+        if (jobRepository.count() == 0) {
+            seed();
+        }
+        jobs = jobRepository.findAll();
+    }
+
+    @Test
+    void indexOnlyQueriesReturnTheNewestMatchesOfTheRequestedPage() {
+        LocalDateTime since = START.plusMinutes(JOB_COUNT / 2);
+        List<JobQueryRequest> requests = List.of(
+                JobQueryRequest.builder().build(),
+                JobQueryRequest.builder().location("remote").build(),
+                JobQueryRequest.builder().location("reykjavik").category(Set.of(JobCategory.DESIGN)).build(),
+                JobQueryRequest.builder().category(Set.of(JobCategory.DATA_SCIENCE, JobCategory.DESIGN))
+                        .jobType(Set.of(JobType.CONTRACT)).build(),
+                JobQueryRequest.builder().minSalary(new BigDecimal("60000.50")).maxSalary(new BigDecimal("120000"))
+                        .location("berlin").build(),
+                JobQueryRequest.builder().minSalary(new BigDecimal("70000")).maxSalary(new BigDecimal("90000"))
+                        .salaryMode(SalaryMatchMode.OVERLAPS).postedSince(since).build(),
+                JobQueryRequest.builder().postedSince(since).experienceLevel(Set.of(ExperienceLevel.SENIOR)).build());
+
+        for (JobQueryRequest request : requests) {
+            List<Long> expected = jobs.stream()
+                    .filter(matches(request))
+                    .sorted(Comparator.comparing(Job::getCreatedAt).thenComparing(Job::getId).reversed())
+                    .map(Job::getId)
+                    .toList();
+
+            for (int offset : new int[]{0, 7, 40}) {
+                JobQueryPlanner.PlannedPage page = jobQueryPlanner.execute(request, offset, 10);
+
+                assertThat(page.getTotalMatches()).as("total for %s", request).isEqualTo(expected.size());
+                assertThat(page.getJobIds()).as("page %d for %s", offset, request)
+                        .isEqualTo(expected.subList(Math.min(offset, expected.size()),
+                                Math.min(offset + 10, expected.size())));
+            }
+        }
+    }
+
+    @Test
+    void keywordQueriesRankOnlyTheMatchingJobs() {
+        List<JobQueryRequest> requests = List.of(
+                JobQueryRequest.builder().keyword("kotlin").build(),
+                JobQueryRequest.builder().keyword("kotlin").location("remote").build(),
+                JobQueryRequest.builder().keyword("kotlin").category(Set.of(JobCategory.DESIGN))
+                        .minSalary(new BigDecimal("50000")).build(),
+                JobQueryRequest.builder().keyword("kotlin").postedSince(START.plusMinutes(300)).build());
+
+        for (JobQueryRequest request : requests) {
+            List<Long> expected = jobs.stream().filter(matches(request)).map(Job::getId).toList();
+
+            JobQueryPlanner.PlannedPage page = jobQueryPlanner.execute(request, 0, JOB_COUNT);
+
+            assertThat(page.getTotalMatches()).as("total for %s", request).isEqualTo(expected.size());
+            assertThat(page.getJobIds()).as("matches for %s", request).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void estimatesAreUpperBoundsAndTheSmallestOneDrives() {
+        JobQueryRequest request = JobQueryRequest.builder()
+                .keyword("kotlin")
+                .location("reykjavik")
+                .postedSince(START.plusMinutes(100))
+                .category(Set.of(JobCategory.SOFTWARE_DEVELOPMENT, JobCategory.DESIGN))
+                .build();
+
+        JobQueryPlanner.PlannedPage page = jobQueryPlanner.execute(request, 0, 10);
+
+        assertThat(page.getPlan().getEstimatedRows().get(QueryAccessPath.FULL_TEXT))
+                .isGreaterThanOrEqualTo(countActive(title -> title.contains("Kotlin")));
+        assertThat(page.getPlan().getEstimatedRows().get(QueryAccessPath.POSTED_SINCE))
+                .isGreaterThanOrEqualTo(jobs.stream().filter(job -> !job.getCreatedAt().isBefore(START.plusMinutes(100))).count());
+        assertThat(page.getPlan().getAccessPath()).isEqualTo(QueryAccessPath.LOCATION);
+        assertThat(page.getTotalMatches()).isEqualTo(jobs.stream().filter(matches(request)).count());
+    }
+
+    @Test
+    void idsBeyondTheBitmapsSendEveryQueryToTheDatabase() {
+        FacetResult before = jobFacetIndex.query(Set.of(JobCategory.DESIGN), Set.of(), Set.of(), 0, 10);
+        long beyond = Integer.MAX_VALUE + 1L;
+        jdbcTemplate.update("INSERT INTO jobs (id, title, description, company_name, location, job_type, category, " +
+                        "experience_level, salary_min, salary_max, posted_by_user_id, posted_by_username, is_active, " +
+                        "created_at) VALUES (?, 'Kotlin Engineer', 'Imported', 'Acme', 'Remote', 'FULL_TIME', " +
+                        "'DESIGN', 'SENIOR', 70000, 80000, 1, 'employer', TRUE, ?)",
+                beyond, Timestamp.valueOf(START.plusMinutes(JOB_COUNT)));
+        try {
+            jobFacetIndex.rebuild();
+            assertThat(jobFacetIndex.isComplete()).isFalse();
+
+            List<Job> withBeyond = jobRepository.findAll();
+            List<JobQueryRequest> requests = List.of(
+                    JobQueryRequest.builder().build(),
+                    JobQueryRequest.builder().keyword("kotlin").location("remote").build(),
+                    JobQueryRequest.builder().category(Set.of(JobCategory.DESIGN)).jobType(Set.of(JobType.FULL_TIME))
+                            .postedSince(START.plusMinutes(JOB_COUNT / 2)).build(),
+                    JobQueryRequest.builder().minSalary(new BigDecimal("60000")).maxSalary(new BigDecimal("90000"))
+                            .salaryMode(SalaryMatchMode.OVERLAPS).build(),
+                    JobQueryRequest.builder().minSalary(new BigDecimal("60000")).maxSalary(new BigDecimal("90000"))
+                            .experienceLevel(Set.of(ExperienceLevel.SENIOR)).build());
+
+            for (JobQueryRequest request : requests) {
+                List<Long> expected = withBeyond.stream()
+                        .filter(matches(request))
+                        .sorted(Comparator.comparing(Job::getCreatedAt).thenComparing(Job::getId).reversed())
+                        .map(Job::getId)
+                        .toList();
+
+                JobQueryPlanner.PlannedPage page = jobQueryPlanner.execute(request, 0, 10);
+
+                assertThat(page.getPlan().getAccessPath()).isEqualTo(QueryAccessPath.FULL_SCAN);
+                assertThat(page.getTotalMatches()).as("total for %s", request).isEqualTo(expected.size());
+                assertThat(page.getJobIds()).as("page for %s", request)
+                        .isEqualTo(expected.subList(0, Math.min(10, expected.size())));
+            }
+
+            // Facet queries answer from the database with the same counts, the new job included
+            FacetResult after = jobFacetIndex.query(Set.of(JobCategory.DESIGN), Set.of(), Set.of(), 0, 10);
+            assertThat(after.getTotalMatches()).isEqualTo(before.getTotalMatches() + 1);
+            assertThat(after.getJobIds()).first().isEqualTo(beyond);
+            assertThat(after.getFacets().get("category").get("DESIGN"))
+                    .isEqualTo(before.getFacets().get("category").get("DESIGN") + 1);
+            assertThat(after.getFacets().get("jobType").get("FULL_TIME"))
+                    .isEqualTo(before.getFacets().get("jobType").get("FULL_TIME") + 1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM jobs WHERE id = ?", beyond);
+            jobFacetIndex.rebuild();
+        }
+    }
+
+    private long countActive(Predicate<String> title) {
+        return jobs.stream().filter(Job::isActive).map(Job::getTitle).filter(title).count();
+    }
+
+    // Reference semantics for the seeded data: the keyword only ever occurs in titles
+    private static Predicate<Job> matches(JobQueryRequest request) {
+        return job -> job.isActive()
+                && (request.getKeyword() == null
+                    || job.getTitle().toLowerCase(Locale.ROOT).contains(request.getKeyword()))
+                && (request.getLocation() == null
+                    || job.getLocation().toLowerCase(Locale.ROOT).contains(request.getLocation()))
+                && (request.getCategory() == null || request.getCategory().contains(job.getCategory()))
+                && (request.getJobType() == null || request.getJobType().contains(job.getJobType()))
+                && (request.getExperienceLevel() == null
+                    || request.getExperienceLevel().contains(job.getExperienceLevel()))
+                && (request.getPostedSince() == null || !job.getCreatedAt().isBefore(request.getPostedSince()))
+                && salaryMatches(request, job);
+    }
+
+    private static boolean salaryMatches(JobQueryRequest request, Job job) {
+        if (request.getMinSalary() == null && request.getMaxSalary() == null) {
+            return true;
+        }
+        if (job.getSalaryMin() == null || job.getSalaryMax() == null) {
+            return false;
+        }
+        BigDecimal min = request.getMinSalary() != null ? request.getMinSalary() : BigDecimal.ZERO;
+        BigDecimal max = request.getMaxSalary() != null ? request.getMaxSalary() : BigDecimal.valueOf(Long.MAX_VALUE);
+        return request.getSalaryMode() == SalaryMatchMode.OVERLAPS
+                ? job.getSalaryMin().compareTo(max) <= 0 && job.getSalaryMax().compareTo(min) >= 0
+                : job.getSalaryMin().compareTo(min) >= 0 && job.getSalaryMin().compareTo(max) <= 0
+                    && job.getSalaryMax().compareTo(max) <= 0;
+    }
+
+    private void seed() {
+        Random random = new Random(11);
+        JobCategory[] categories = {JobCategory.SOFTWARE_DEVELOPMENT, JobCategory.DATA_SCIENCE, JobCategory.DESIGN};
+        List<Job> seeded = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            BigDecimal salaryMin = i % 7 == 0 ? null : BigDecimal.valueOf(40_000_00L + random.nextInt(60_000_00), 2);
+            seeded.add(Job.builder()
+                    .title(i % 5 == 0 ? "Kotlin Engineer" : "Java Developer")
+                    .description("Build and operate the services behind the job board platform.")
+                    .companyName("Acme")
+                    .location(LOCATIONS[random.nextInt(LOCATIONS.length)])
+                    .jobType(JobType.values()[random.nextInt(JobType.values().length)])
+                    .category(categories[random.nextInt(categories.length)])
+                    .experienceLevel(ExperienceLevel.values()[random.nextInt(ExperienceLevel.values().length)])
+                    .salaryMin(salaryMin)
+                    .salaryMax(salaryMin == null ? null : salaryMin.add(BigDecimal.valueOf(random.nextInt(40_000_00), 2)))
+                    .postedByUserId(1L)
+                    .postedByUsername("employer")
+                    .isActive(i % 11 != 0)
+                    .build());
+        }
+        jobRepository.saveAll(seeded);
+
+        // Creation order independent of ID order, as with pooled sequences across instances
+        List<Integer> minutes = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            minutes.add(i);
+        }
+        Collections.shuffle(minutes, random);
+        for (int i = 0; i < JOB_COUNT; i++) {
+            jdbcTemplate.update("UPDATE jobs SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(START.plusMinutes(minutes.get(i))), seeded.get(i).getId());
+        }
+
+        jobFacetIndex.rebuild();
+        salaryIndex.rebuild();
+        jobSearchIndex.rebuild();
+    }
+}
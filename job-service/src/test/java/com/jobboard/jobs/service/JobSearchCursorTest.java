@@ -0,0 +1,132 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.dto.CursorPage;
+import com.jobboard.jobs.dto.JobCursor;
+import com.jobboard.jobs.dto.JobSummaryResponse;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.exception.InvalidJobDataException;
+import com.jobboard.jobs.exception.SearchIndexUnavailableException;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.repository.JobRepository;
+import com.jobboard.jobs.search.JobSearchIndex;
+import com.jobboard.jobs.search.SearchCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:job-search-cursor-test",
+        "jobs.search.index-dir=target/search-index/job-search-cursor-test"
+})
+class JobSearchCursorTest {
+
+    private static final int JOB_COUNT = 25;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @SpyBean
+    private JobSearchIndex jobSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            jobs.add(Job.builder()
+                    .title("Kotlin Engineer " + i)
+                    .description("Build and operate the Kotlin services behind the job board platform.")
+                    .companyName("Acme")
+                    .location("Remote")
+                    .jobType(JobType.FULL_TIME)
+                    .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                    .experienceLevel(ExperienceLevel.SENIOR)
+                    .postedByUserId(1L)
+                    .postedByUsername("employer")
+                    .isActive(true)
+                    .build());
+        }
+        jobRepository.saveAll(jobs);
+        jobSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reset(jobSearchIndex);
+        jobRepository.deleteAll();
+        jobSearchIndex.rebuild();
+    }
+
+    @Test
+    void indexScrollVisitsEveryMatchOnce() {
+        List<Long> seen = scroll("");
+
+        assertThat(seen).hasSize(JOB_COUNT).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void databaseCursorKeepsScrollingTheDatabaseOnceTheIndexIsReady() {
+        String databaseCursor = new JobCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE).encode();
+
+        CursorPage<JobSummaryResponse> page = jobService.searchJobs("kotlin", databaseCursor, 10);
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(SearchCursor.isIndexCursor(page.getNextCursor())).isFalse();
+        assertThat(scroll(databaseCursor)).hasSize(JOB_COUNT).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void indexCursorDuringRebuildAsksTheClientToRetry() {
+        String indexCursor = jobService.searchJobs("kotlin", "", 10).getNextCursor();
+        doReturn(false).when(jobSearchIndex).isReady();
+
+        assertThatThrownBy(() -> jobService.searchJobs("kotlin", indexCursor, 10))
+                .isInstanceOf(SearchIndexUnavailableException.class);
+    }
+
+    @Test
+    void firstPageFallsBackToTheDatabaseWhileTheIndexRebuilds() {
+        doReturn(false).when(jobSearchIndex).isReady();
+
+        CursorPage<JobSummaryResponse> page = jobService.searchJobs("kotlin", "", 10);
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(SearchCursor.isIndexCursor(page.getNextCursor())).isFalse();
+    }
+
+    @Test
+    void cursorPageSizeIsCapped() {
+        assertThatThrownBy(() -> jobService.searchJobs("kotlin", "", 101))
+                .isInstanceOf(InvalidJobDataException.class);
+        assertThatThrownBy(() -> jobService.getAllActiveJobs("", 0))
+                .isInstanceOf(InvalidJobDataException.class);
+    }
+
+    private List<Long> scroll(String cursor) {
+        List<Long> seen = new ArrayList<>();
+        CursorPage<JobSummaryResponse> page;
+        do {
+            page = jobService.searchJobs("kotlin", cursor, 10);
+            page.getContent().forEach(job -> seen.add(job.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+        return seen;
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.dto.JobSummaryResponse;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.model.JobApplication;
+import com.jobboard.jobs.repository.JobApplicationRepository;
+import com.jobboard.jobs.repository.JobRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Covers the database read path, which the read model falls back to while it is building
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jobs.read-model.enabled=false",
+        // Seeded rows are reconciled right away; no other replica holds deltas here
+        "jobs.application-count.reconcile-settle-seconds=0",
+        "eureka.client.enabled=false",
+        "jobs.search.index-dir=target/search-index/query-count-test"
+})
+class JobServiceQueryCountTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private ApplicationCountAccumulator applicationCountAccumulator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            jobs.add(Job.builder()
+                    .title("Backend Engineer " + i)
+                    .description("Build and operate the services behind the job board platform.")
+                    .companyName("Acme")
+                    .location("Remote")
+                    .jobType(JobType.FULL_TIME)
+                    .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                    .experienceLevel(ExperienceLevel.SENIOR)
+                    .postedByUserId(1L)
+                    .postedByUsername("employer")
+                    .isActive(true)
+                    .build());
+        }
+        jobs = jobRepository.saveAll(jobs);
+
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            for (long user = 0; user < i % 3; user++) {
+                applications.add(JobApplication.builder()
+                        .jobId(jobs.get(i).getId())
+                        .userId(100 + user)
+                        .username("seeker" + user)
+                        .userEmail("seeker" + user + "@example.com")
+                        .status(ApplicationStatus.PENDING)
+                        .build());
+            }
+        }
+        jobApplicationRepository.saveAll(applications);
+
+        // Seeded rows bypass applyForJob, so let reconciliation bring the counters in line
+        applicationCountAccumulator.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobApplicationRepository.deleteAll();
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void listingRunsConstantNumberOfStatementsRegardlessOfPageSize() {
+        long smallPage = countStatements(5);
+        long largePage = countStatements(20);
+
+        // page select + total count, application counts come from the jobs row
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void listingReportsApplicationCountPerJob() {
+        Page<JobSummaryResponse> page = jobService.getAllActiveJobs(PageRequest.of(0, 30, Sort.by("id")));
+
+        for (JobSummaryResponse job : page.getContent()) {
+            assertThat(job.getApplicationCount())
+                    .isEqualTo(jobApplicationRepository.countByJobId(job.getId()));
+        }
+    }
+
+    private long countStatements(int pageSize) {
+        statistics.clear();
+        Page<JobSummaryResponse> page = jobService.getAllActiveJobs(PageRequest.of(0, pageSize, Sort.by("id")));
+        assertThat(page.getContent()).hasSize(pageSize);
+        return statistics.getPrepareStatementCount();
+    }
+}
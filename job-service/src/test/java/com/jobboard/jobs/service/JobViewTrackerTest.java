@@ -0,0 +1,41 @@
+package com.jobboard.jobs.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobViewTrackerTest {
+
+    private static final String BROWSER = "Mozilla/5.0";
+
+    @Test
+    void signedInViewersAreKeyedByTheirSubjectNotTheToken() {
+        String firstLogin = "Bearer " + jwt("{\"sub\":\"alice\",\"iat\":1700000000}");
+        String secondLogin = "Bearer " + jwt("{\"sub\":\"alice\",\"iat\":1700009999}");
+
+        assertThat(JobViewTracker.viewerKey(firstLogin, "10.0.0.1", BROWSER)).isEqualTo("u:alice");
+        assertThat(JobViewTracker.viewerKey(secondLogin, "10.0.0.2", "curl/8.0")).isEqualTo("u:alice");
+        assertThat(JobViewTracker.viewerKey(firstLogin, "10.0.0.1", BROWSER)).doesNotContain("Bearer", "iat");
+    }
+
+    @Test
+    void unreadableTokensCountAsAnonymousViewers() {
+        assertThat(JobViewTracker.viewerKey(null, "203.0.113.7", BROWSER)).isEqualTo("a:203.0.113.7|" + BROWSER);
+        assertThat(JobViewTracker.viewerKey("Bearer not-a-jwt", "203.0.113.7", BROWSER))
+                .isEqualTo("a:203.0.113.7|" + BROWSER);
+        assertThat(JobViewTracker.viewerKey("Bearer " + jwt("{\"name\":\"alice\"}"), "203.0.113.7", BROWSER))
+                .isEqualTo("a:203.0.113.7|" + BROWSER);
+        assertThat(JobViewTracker.viewerKey("Bearer a.%%%.c", "203.0.113.7", BROWSER))
+                .isEqualTo("a:203.0.113.7|" + BROWSER);
+    }
+
+    private static String jwt(String claims) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + '.' + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
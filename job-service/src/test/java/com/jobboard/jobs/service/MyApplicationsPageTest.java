@@ -0,0 +1,135 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.client.AuthServiceClient;
+import com.jobboard.jobs.dto.JobApplicationResponse;
+import com.jobboard.jobs.dto.UserDTO;
+import com.jobboard.jobs.enums.ApplicationStatus;
+import com.jobboard.jobs.enums.ExperienceLevel;
+import com.jobboard.jobs.enums.JobCategory;
+import com.jobboard.jobs.enums.JobType;
+import com.jobboard.jobs.model.Job;
+import com.jobboard.jobs.model.JobApplication;
+import com.jobboard.jobs.repository.JobApplicationRepository;
+import com.jobboard.jobs.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:my-applications-page-test",
+        "jobs.search.index-dir=target/search-index/my-applications-page-test"
+})
+class MyApplicationsPageTest {
+
+    private static final long SEEKER_ID = 100L;
+    private static final int JOB_COUNT = 120;
+
+    @MockBean
+    private AuthServiceClient authServiceClient;
+
+    @MockBean
+    private MessagePublisher messagePublisher;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    private List<Long> jobIds;
+
+    @BeforeEach
+    void setUp() {
+        when(authServiceClient.getCurrentUser(anyString())).thenReturn(UserDTO.builder()
+                .id(SEEKER_ID)
+                .username("seeker")
+                .email("seeker@example.com")
+                .role("JOB_SEEKER")
+                .active(true)
+                .build());
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            jobs.add(Job.builder()
+                    .title("Backend Engineer " + i)
+                    .description("Build and operate the services behind the job board platform.")
+                    .companyName("Acme")
+                    .location("Remote")
+                    .jobType(JobType.FULL_TIME)
+                    .category(JobCategory.SOFTWARE_DEVELOPMENT)
+                    .experienceLevel(ExperienceLevel.SENIOR)
+                    .postedByUserId(1L)
+                    .postedByUsername("employer")
+                    .isActive(true)
+                    .build());
+        }
+        jobIds = jobRepository.saveAll(jobs).stream().map(Job::getId).toList();
+
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            applications.add(JobApplication.builder()
+                    .jobId(jobIds.get(i))
+                    .userId(SEEKER_ID)
+                    .username("seeker")
+                    .userEmail("seeker@example.com")
+                    .status(i % 4 == 0 ? ApplicationStatus.REVIEWED : ApplicationStatus.PENDING)
+                    .build());
+        }
+        jobApplicationRepository.saveAll(applications);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobApplicationRepository.deleteAll();
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void pageSizeIsClampedAndStatusFilters() {
+        Page<JobApplicationResponse> page = jobApplicationService.getMyApplications(null, 0, 10_000, "Bearer seeker");
+        assertThat(page.getSize()).isEqualTo(100);
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(page.getTotalElements()).isEqualTo(JOB_COUNT);
+
+        assertThat(jobApplicationService.getMyApplications(null, 0, 0, "Bearer seeker").getSize()).isEqualTo(1);
+
+        Page<JobApplicationResponse> reviewed = jobApplicationService.getMyApplications(
+                Set.of(ApplicationStatus.REVIEWED), 0, 50, "Bearer seeker");
+        assertThat(reviewed.getTotalElements()).isEqualTo(JOB_COUNT / 4);
+        assertThat(reviewed.getContent()).allMatch(app -> app.getStatus() == ApplicationStatus.REVIEWED);
+    }
+
+    @Test
+    void pagesAreCachedUntilTheApplicantChangesSomething() {
+        Page<JobApplicationResponse> first = jobApplicationService.getMyApplications(null, 0, 20, "Bearer seeker");
+
+        // Written behind the service's back, so only a cache miss would see it
+        jobApplicationRepository.deleteAll(jobApplicationRepository.findAll().subList(0, 10));
+        assertThat(jobApplicationService.getMyApplications(null, 0, 20, "Bearer seeker").getTotalElements())
+                .isEqualTo(first.getTotalElements());
+
+        Long withdrawn = jobApplicationRepository.findAll().get(0).getJobId();
+        jobApplicationService.withdrawApplication(withdrawn, "Bearer seeker");
+
+        Page<JobApplicationResponse> reloaded = jobApplicationService.getMyApplications(null, 0, 20, "Bearer seeker");
+        assertThat(reloaded.getTotalElements()).isEqualTo(JOB_COUNT - 10);
+        assertThat(jobApplicationService.getMyApplications(Set.of(ApplicationStatus.WITHDRAWN), 0, 20, "Bearer seeker")
+                .getContent()).extracting(JobApplicationResponse::getJobId).containsExactly(withdrawn);
+    }
+}
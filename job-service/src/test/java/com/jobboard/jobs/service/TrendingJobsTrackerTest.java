@@ -0,0 +1,137 @@
+package com.jobboard.jobs.service;
+
+import com.jobboard.jobs.event.JobChangedEvent;
+import com.jobboard.jobs.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingJobsTrackerTest {
+
+    private final MovableClock clock = new MovableClock();
+    private TrendingJobsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        // One-hour half-life, views weigh 1 and applications 5, top 3 kept
+        tracker = new TrendingJobsTracker(null, 60, 1, 5, 3);
+        ReflectionTestUtils.setField(tracker, "clock", clock);
+    }
+
+    @Test
+    void scoresHalveEveryHalfLife() {
+        views(1L, 8);
+        tracker.fold();
+        assertThat(tracker.top(1).get(0).getScore()).isCloseTo(8, within(1e-9));
+
+        clock.advance(Duration.ofHours(1));
+        tracker.fold();
+        assertThat(tracker.top(1).get(0).getScore()).isCloseTo(4, within(1e-9));
+
+        // Fewer but fresher views overtake the older job
+        views(2L, 5);
+        tracker.fold();
+        assertThat(tracker.top(2)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(2L, 1L);
+
+        clock.advance(Duration.ofHours(2));
+        tracker.fold();
+        assertThat(tracker.top(2)).extracting(TrendingJobsTracker.Trending::getScore).satisfiesExactly(
+                score -> assertThat(score).isCloseTo(1.25, within(1e-9)),
+                score -> assertThat(score).isCloseTo(1.0, within(1e-9)));
+    }
+
+    @Test
+    void applicationsWeighMoreThanViews() {
+        views(1L, 4);
+        tracker.recordApplication(2L);
+        tracker.fold();
+
+        assertThat(tracker.top(3)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(2L, 1L);
+        assertThat(tracker.top(1).get(0).getScore()).isEqualTo(5.0);
+    }
+
+    @Test
+    void onlyTheHighestScoresAreKept() {
+        for (long jobId = 1; jobId <= 6; jobId++) {
+            views(jobId, 2 * (int) jobId);
+        }
+        tracker.fold();
+
+        assertThat(tracker.top(10)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(6L, 5L, 4L);
+        assertThat(tracker.top(2)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(6L, 5L);
+
+        // A job outside the top-k climbs in once it outscores the lowest member
+        views(1L, 9);
+        tracker.fold();
+        assertThat(tracker.top(10)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(6L, 1L, 5L);
+    }
+
+    @Test
+    void deactivatedJobsLeaveAndTheNextBestFillsTheSlot() {
+        for (long jobId = 1; jobId <= 4; jobId++) {
+            views(jobId, (int) jobId);
+        }
+        tracker.fold();
+
+        tracker.onJobChanged(JobChangedEvent.deactivated(Job.builder().id(4L).isActive(false).build()));
+        tracker.fold();
+
+        assertThat(tracker.top(10)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void scoresStayExactAcrossLandmarkRebases() {
+        views(1L, 10);
+        tracker.fold();
+
+        // Well past the point where e^(lambda (t - L)) is rebased
+        clock.advance(Duration.ofHours(100));
+        views(2L, 3);
+        tracker.fold();
+        clock.advance(Duration.ofHours(1));
+        tracker.fold();
+
+        assertThat(tracker.top(2)).extracting(TrendingJobsTracker.Trending::getJobId).containsExactly(2L, 1L);
+        assertThat(tracker.top(1).get(0).getScore()).isCloseTo(1.5, within(1e-9));
+        assertThat(tracker.top(2).get(1).getScore()).isCloseTo(10 * Math.pow(2, -101), within(1e-30));
+    }
+
+    private void views(long jobId, int count) {
+        for (int i = 0; i < count; i++) {
+            tracker.recordView(jobId);
+        }
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
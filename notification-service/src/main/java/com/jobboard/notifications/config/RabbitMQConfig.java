@@ -15,6 +15,7 @@ public class RabbitMQConfig {
     public static final String JOB_POSTED_QUEUE = "job.posted.queue";
     public static final String APPLICATION_SUBMITTED_QUEUE = "application.submitted.queue";
     public static final String APPLICATION_STATUS_CHANGED_QUEUE = "application.status.changed.queue";
+    public static final String JOB_BATCH_POSTED_QUEUE = "job.batch.posted.queue";
 
     // Exchange name
     public static final String JOB_BOARD_EXCHANGE = "job.board.exchange";
@@ -23,6 +24,7 @@ public class RabbitMQConfig {
     public static final String JOB_POSTED_ROUTING_KEY = "job.posted";
     public static final String APPLICATION_SUBMITTED_ROUTING_KEY = "application.submitted";
     public static final String APPLICATION_STATUS_CHANGED_ROUTING_KEY = "application.status.changed";
+    public static final String JOB_BATCH_POSTED_ROUTING_KEY = "job.batch.posted";
 
     // Declare queues
     @Bean
@@ -40,6 +42,11 @@ public class RabbitMQConfig {
         return new Queue(APPLICATION_STATUS_CHANGED_QUEUE, true);
     }
 
+    @Bean
+    public Queue jobBatchPostedQueue() {
+        return new Queue(JOB_BATCH_POSTED_QUEUE, true);
+    }
+
     // Declare exchange
     @Bean
     public TopicExchange jobBoardExchange() {
@@ -71,6 +78,14 @@ public class RabbitMQConfig {
                 .with(APPLICATION_STATUS_CHANGED_ROUTING_KEY);
     }
 
+    @Bean
+    public Binding jobBatchPostedBinding() {
+        return BindingBuilder
+                .bind(jobBatchPostedQueue())
+                .to(jobBoardExchange())
+                .with(JOB_BATCH_POSTED_ROUTING_KEY);
+    }
+
     // Message converter (JSON)
     @Bean
     public MessageConverter jsonMessageConverter() {
@@ -0,0 +1,21 @@
+package com.jobboard.notifications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobBatchPostedEvent implements Serializable {
+    private String postedByUsername;
+    private String postedByEmail;
+    private List<JobPostedEvent> jobs;
+    private Map<String, List<String>> subscribersByCategory;
+}
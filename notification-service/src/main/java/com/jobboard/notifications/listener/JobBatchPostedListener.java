@@ -0,0 +1,68 @@
+package com.jobboard.notifications.listener;
+
+import com.jobboard.notifications.config.RabbitMQConfig;
+import com.jobboard.notifications.dto.JobBatchPostedEvent;
+import com.jobboard.notifications.dto.JobPostedEvent;
+import com.jobboard.notifications.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobBatchPostedListener {
+
+    private final EmailService emailService;
+
+    // A bulk import arrives as one message per batch; each subscriber gets one digest
+    // listing every job in their categories instead of one email per job
+    @RabbitListener(queues = RabbitMQConfig.JOB_BATCH_POSTED_QUEUE)
+    public void handleJobBatchPostedEvent(JobBatchPostedEvent event) {
+        List<JobPostedEvent> jobs = event.getJobs() != null ? event.getJobs() : List.of();
+        log.info("Received Job Batch Posted event: {} jobs posted by {}", jobs.size(), event.getPostedByUsername());
+
+        try {
+            Map<String, List<String>> subscribersByCategory = event.getSubscribersByCategory() != null
+                    ? event.getSubscribersByCategory() : Map.of();
+
+            Map<String, List<JobPostedEvent>> jobsBySubscriber = new LinkedHashMap<>();
+            for (JobPostedEvent job : jobs) {
+                for (String email : subscribersByCategory.getOrDefault(job.getCategory(), List.of())) {
+                    jobsBySubscriber.computeIfAbsent(email, e -> new ArrayList<>()).add(job);
+                }
+            }
+
+            if (jobsBySubscriber.isEmpty()) {
+                log.info("No subscribed users to notify for this batch");
+                return;
+            }
+
+            int successCount = 0;
+            int failureCount = 0;
+
+            for (Map.Entry<String, List<JobPostedEvent>> entry : jobsBySubscriber.entrySet()) {
+                try {
+                    emailService.sendJobDigestNotification(entry.getKey(), entry.getValue());
+                    successCount++;
+                } catch (Exception e) {
+                    failureCount++;
+                    log.error("✗ Failed to send digest to {}: {}", entry.getKey(), e.getMessage());
+                }
+            }
+
+            log.info("Job digest summary - Total: {} | Success: {} | Failed: {}",
+                    jobsBySubscriber.size(), successCount, failureCount);
+
+        } catch (Exception e) {
+            log.error("Error processing Job Batch Posted event: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.jobboard.notifications.service;
 
+import com.jobboard.notifications.dto.JobPostedEvent;
+
+import java.util.List;
+
 public interface EmailService {
 
     void sendJobPostedNotification(String to, String jobTitle, String companyName, String location);
 
+    void sendJobDigestNotification(String to, List<JobPostedEvent> jobs);
+
     void sendApplicationSubmittedConfirmation(String to, String jobTitle, String companyName);
 
     void sendApplicationReceivedNotification(String to, String jobTitle, String applicantName);
@@ -1,11 +1,14 @@
 package com.jobboard.notifications.service;
 
+import com.jobboard.notifications.dto.JobPostedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -39,6 +42,28 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
+    @Override
+    public void sendJobDigestNotification(String to, List<JobPostedEvent> jobs) {
+        log.info("Sending job digest with {} jobs to: {}", jobs.size(), to);
+
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(FROM_EMAIL);
+            message.setTo(to);
+            message.setSubject(jobs.size() + " New Jobs Posted");
+            message.setText(buildJobDigestEmailBody(jobs));
+
+            log.info("Email would be sent to: {} with subject: {}", to, message.getSubject());
+            log.debug("Email body:\n{}", message.getText());
+
+            // mailSender.send(message);
+
+            log.info("Job digest sent successfully");
+        } catch (Exception e) {
+            log.error("Failed to send job digest: {}", e.getMessage());
+        }
+    }
+
     @Override
     public void sendApplicationSubmittedConfirmation(String to, String jobTitle, String companyName) {
         log.info("Sending application confirmation to: {}", to);
@@ -123,6 +148,24 @@ public class EmailServiceImpl implements EmailService {
                 """, jobTitle, companyName, location);
     }
 
+    private String buildJobDigestEmailBody(List<JobPostedEvent> jobs) {
+        StringBuilder listing = new StringBuilder();
+        for (JobPostedEvent job : jobs) {
+            listing.append(String.format("- %s at %s (%s)%n", job.getTitle(), job.getCompanyName(), job.getLocation()));
+        }
+        return String.format("""
+                Dear Job Seeker,
+                
+                %d new jobs matching your interests have been posted!
+                
+                %s
+                Visit our job board to view details and apply.
+                
+                Best regards,
+                Job Board Team
+                """, jobs.size(), listing);
+    }
+
     private String buildApplicationSubmittedEmailBody(String jobTitle, String companyName) {
         return String.format("""
                 Dear Applicant,